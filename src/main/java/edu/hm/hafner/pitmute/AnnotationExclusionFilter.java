@@ -1,8 +1,15 @@
 package edu.hm.hafner.pitmute;
 
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.AnnotationNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InnerClassNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
 import org.pitest.bytecode.analysis.ClassTree;
 import org.pitest.bytecode.analysis.MethodTree;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassByteArraySource;
 import org.pitest.mutationtest.build.InterceptorType;
 import org.pitest.mutationtest.build.MutationInterceptor;
 import org.pitest.mutationtest.engine.Mutater;
@@ -17,15 +24,84 @@ import java.util.stream.Collectors;
  * Filters generated PIT mutations by inspecting bytecode for {@code SuppressMutation} annotations on classes and methods.
  *
  * <p>
- * Mutations are excluded based on the presence of an annotation and its optional parameters.
- * For more information, please see the README.
+ * Mutations are excluded based on the presence of an annotation and its optional parameters. Custom annotations that
+ * are meta-annotated with {@code SuppressMutation} are resolved using the {@link MetaAnnotationCache}. Additionally,
+ * a set of other annotations (e.g., {@code lombok.Generated}) can be configured that suppress all mutations in their
+ * scope, just like a {@code SuppressMutation} annotation without parameters.
+ * Mutations in lambdas and other synthetic methods are attributed to the method that declares them, so that a
+ * method-level annotation also covers the lambdas in its body. Nested, inner, local, and anonymous classes inherit
+ * the class-level annotations of their enclosing classes. For more information, please see the README.
+ * </p>
+ *
+ * <p>
+ * The rules of a class are compiled in {@link #begin(ClassTree)} into an immutable {@link ClassSuppressions} instance
+ * that is stored in a per-thread cursor. The class-level rules of enclosing classes are shared using a run-wide
+ * cache. So a single instance of this filter can be used by several threads concurrently.
  * </p>
  */
 public class AnnotationExclusionFilter implements MutationInterceptor {
-    private final Map<String, List<SuppressionRule>> suppressionByClass = new HashMap<>();
-    private static final String SUPPRESS_MUTATION_DESC = "SuppressMutation;";
-    private static final String SUPPRESS_MUTATIONS_DESC = "SuppressMutations;";
+    private final ThreadLocal<ClassSuppressions> currentClass = new ThreadLocal<>();
+    private final ClassByteArraySource source;
+    private final ClassSuppressionCache classSuppressionCache;
+    private final Optional<ExplanationWriter> explanations;
+    private final MetaAnnotationCache metaAnnotationCache;
+    private final Set<String> foreignAnnotations;
+    private static final String FILTER_NAME = "FANNOT";
     private static final Logger LOGGER = Logger.getLogger(AnnotationExclusionFilter.class.getName());
+    private static final int UNDEFINED_LINE = -1;
+
+    /**
+     * Creates a new {@link AnnotationExclusionFilter} that only inherits class-level annotations of enclosing classes
+     * that have been analyzed before.
+     */
+    public AnnotationExclusionFilter() {
+        this(className -> Optional.empty());
+    }
+
+    /**
+     * Creates a new {@link AnnotationExclusionFilter}.
+     *
+     * @param source the source to read the class files of enclosing classes that have not been analyzed yet
+     */
+    public AnnotationExclusionFilter(final ClassByteArraySource source) {
+        this(source, ClassSuppressionCache.shared());
+    }
+
+    AnnotationExclusionFilter(final ClassByteArraySource source, final ClassSuppressionCache classSuppressionCache) {
+        this(source, classSuppressionCache, Optional.empty());
+    }
+
+    /**
+     * Creates a new {@link AnnotationExclusionFilter} that writes an explanation for each suppressed mutation.
+     *
+     * @param source the source to read the class files of enclosing classes that have not been analyzed yet
+     * @param classSuppressionCache the cache of the class-level rules
+     * @param explanations the writer for the explanations, or an empty optional to disable the explanations
+     */
+    AnnotationExclusionFilter(final ClassByteArraySource source, final ClassSuppressionCache classSuppressionCache,
+            final Optional<ExplanationWriter> explanations) {
+        this(source, classSuppressionCache, MetaAnnotationCache.shared(), Set.of(), explanations);
+    }
+
+    /**
+     * Creates a new {@link AnnotationExclusionFilter}.
+     *
+     * @param source the source to read the class files of enclosing classes and annotation types
+     * @param classSuppressionCache the cache of the class-level rules
+     * @param metaAnnotationCache the cache of the resolved meta-annotations
+     * @param foreignAnnotations the descriptors of other annotations that suppress all mutations in their scope,
+     *         e.g., {@code Llombok/Generated;}
+     * @param explanations the writer for the explanations, or an empty optional to disable the explanations
+     */
+    AnnotationExclusionFilter(final ClassByteArraySource source, final ClassSuppressionCache classSuppressionCache,
+            final MetaAnnotationCache metaAnnotationCache, final Set<String> foreignAnnotations,
+            final Optional<ExplanationWriter> explanations) {
+        this.source = source;
+        this.classSuppressionCache = classSuppressionCache;
+        this.metaAnnotationCache = metaAnnotationCache;
+        this.foreignAnnotations = Set.copyOf(foreignAnnotations);
+        this.explanations = explanations;
+    }
 
     @Override
     public InterceptorType type() {
@@ -35,14 +111,134 @@ public class AnnotationExclusionFilter implements MutationInterceptor {
     @Override
     public void begin(final ClassTree classTree) {
         String className = classTree.name().asJavaName();
-        List<SuppressionRule> suppressionRules = suppressionByClass.computeIfAbsent(className, k -> new ArrayList<>());
+        ScopedSuppressions classScope = ScopedSuppressions.compile(getClassLevelRules(classTree));
+
+        Map<String, ScopedSuppressions> methodScopes = new HashMap<>();
+        for (MethodTree method : classTree.methods()) {
+            String methodNameWithDesc = getMethodNameWithDesc(method);
+            List<SuppressionRule> methodRules = new ArrayList<>();
+            extractSuppressionRules(method.annotations(), methodRules, className, Optional.of(methodNameWithDesc));
+            if (!methodRules.isEmpty()) {
+                methodScopes.put(methodNameWithDesc, ScopedSuppressions.compile(methodRules));
+            }
+        }
+
+        Map<String, String> enclosingMethods = methodScopes.isEmpty() ? Map.of() : resolveEnclosingMethods(classTree);
+        currentClass.set(new ClassSuppressions(className, classScope, Map.copyOf(methodScopes), enclosingMethods));
+    }
+
+    /**
+     * Returns the class-level rules of the specified class, including the rules inherited from its enclosing classes.
+     * The result is stored in the shared cache, so that nested classes of this class can inherit these rules with a
+     * single lookup.
+     *
+     * @param classTree the class to get the rules for
+     * @return the class-level rules
+     */
+    private List<SuppressionRule> getClassLevelRules(final ClassTree classTree) {
+        String className = classTree.name().asJavaName();
+        List<SuppressionRule> classLevelRules = new ArrayList<>();
+        extractSuppressionRules(classTree.annotations(), classLevelRules, className, Optional.empty());
+        findEnclosingClass(classTree)
+                .filter(enclosingClass -> !enclosingClass.equals(className))
+                .map(this::getInheritedRules)
+                .ifPresent(classLevelRules::addAll);
+        classSuppressionCache.put(className, classLevelRules);
+        return classLevelRules;
+    }
+
+    private List<SuppressionRule> getInheritedRules(final String enclosingClass) {
+        return classSuppressionCache.get(enclosingClass).orElseGet(() -> readClassLevelRules(enclosingClass));
+    }
+
+    private List<SuppressionRule> readClassLevelRules(final String className) {
+        Optional<byte[]> bytes = source.getBytes(className);
+        if (bytes.isPresent()) {
+            return getClassLevelRules(ClassTree.fromBytes(bytes.get()));
+        }
+        classSuppressionCache.put(className, List.of());
+        return List.of();
+    }
+
+    /**
+     * Finds the directly enclosing class of a nested class. The enclosing class is resolved using the
+     * {@code InnerClasses} attribute, the {@code EnclosingMethod} attribute (local and anonymous classes), or the
+     * {@code NestHost} attribute, in that order.
+     *
+     * @param classTree the class to get the enclosing class for
+     * @return the fully qualified name of the enclosing class, or an empty optional for top-level classes
+     */
+    private static Optional<String> findEnclosingClass(final ClassTree classTree) {
+        ClassNode classNode = classTree.rawNode();
+        if (classNode == null) {
+            return Optional.empty();
+        }
+        if (classNode.innerClasses != null) {
+            for (InnerClassNode innerClass : classNode.innerClasses) {
+                if (innerClass.name.equals(classNode.name) && innerClass.outerName != null) {
+                    return Optional.of(asJavaName(innerClass.outerName));
+                }
+            }
+        }
+        if (classNode.outerClass != null) {
+            return Optional.of(asJavaName(classNode.outerClass));
+        }
+        return Optional.ofNullable(classNode.nestHostClass).map(AnnotationExclusionFilter::asJavaName);
+    }
 
-        extractSuppressionRules(classTree.annotations(), suppressionRules, className, Optional.empty());
+    private static String asJavaName(final String internalName) {
+        return ClassName.fromString(internalName).asJavaName();
+    }
+
+    private static String getMethodNameWithDesc(final MethodTree method) {
+        return method.asLocation().getMethodName() + method.asLocation().getMethodDesc();
+    }
+
+    /**
+     * Maps each synthetic method of the class (e.g., the body of a lambda) to the declared method that contains it.
+     * The synthetic methods are found by the method handles of the {@code invokedynamic} bootstrap arguments.
+     * Nested lambdas are resolved to the outermost declared method.
+     *
+     * @param classTree the class to analyze
+     * @return a mapping of synthetic method names (with descriptor) to the names (with descriptor) of the enclosing methods
+     */
+    private static Map<String, String> resolveEnclosingMethods(final ClassTree classTree) {
+        Set<String> syntheticMethods = classTree.methods().stream()
+                .filter(MethodTree::isSynthetic)
+                .map(AnnotationExclusionFilter::getMethodNameWithDesc)
+                .collect(Collectors.toSet());
+        if (syntheticMethods.isEmpty()) {
+            return Map.of();
+        }
 
+        String owner = classTree.name().asInternalName();
+        Map<String, String> callerBySyntheticMethod = new HashMap<>();
         for (MethodTree method : classTree.methods()) {
-            String methodNameWithDesc = method.asLocation().getMethodName() + method.asLocation().getMethodDesc();
-            extractSuppressionRules(method.annotations(), suppressionRules, className, Optional.of(methodNameWithDesc));
+            String caller = getMethodNameWithDesc(method);
+            for (AbstractInsnNode instruction : method.instructions()) {
+                if (instruction instanceof InvokeDynamicInsnNode invokeDynamic) {
+                    for (Object argument : invokeDynamic.bsmArgs) {
+                        if (argument instanceof Handle handle && owner.equals(handle.getOwner())) {
+                            String target = handle.getName() + handle.getDesc();
+                            if (syntheticMethods.contains(target) && !target.equals(caller)) {
+                                callerBySyntheticMethod.putIfAbsent(target, caller);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        Map<String, String> enclosingMethods = new HashMap<>();
+        for (String syntheticMethod : callerBySyntheticMethod.keySet()) {
+            String enclosing = callerBySyntheticMethod.get(syntheticMethod);
+            Set<String> visited = new HashSet<>();
+            while (callerBySyntheticMethod.containsKey(enclosing) && visited.add(enclosing)) {
+                enclosing = callerBySyntheticMethod.get(enclosing);
+            }
+            enclosingMethods.put(syntheticMethod, enclosing);
         }
+        return Map.copyOf(enclosingMethods);
     }
 
     private void extractSuppressionRules(final List<AnnotationNode> annotations, final List<SuppressionRule> suppressionRules, final String className, final Optional<String> methodName) {
@@ -51,37 +247,31 @@ public class AnnotationExclusionFilter implements MutationInterceptor {
         }
 
         for (AnnotationNode annotation : annotations) {
-            if (annotation.desc.endsWith(SUPPRESS_MUTATION_DESC)) {
+            if (MetaAnnotationCache.isSuppressMutation(annotation.desc)) {
                 addSuppressionRuleForAnnotation(annotation, suppressionRules, className, methodName);
             }
-            else if (annotation.desc.endsWith(SUPPRESS_MUTATIONS_DESC)) {
-                List<AnnotationNode> repeatedAnnotations = getAnnotationsFromContainer(annotation);
+            else if (MetaAnnotationCache.isSuppressMutations(annotation.desc)) {
+                List<AnnotationNode> repeatedAnnotations = MetaAnnotationCache.getContainedAnnotations(annotation);
                 for (AnnotationNode singleAnnotation : repeatedAnnotations) {
                     addSuppressionRuleForAnnotation(singleAnnotation, suppressionRules, className, methodName);
                 }
             }
-        }
-    }
-
-    private List<AnnotationNode> getAnnotationsFromContainer(final AnnotationNode containerAnnotation) {
-        for (int i = 0; i < containerAnnotation.values.size() - 1; i += 2) {
-            String annotationName = containerAnnotation.values.get(i).toString();
-            Object value = containerAnnotation.values.get(i + 1);
-
-            if ("value".equals(annotationName) && value instanceof List<?> list) {
-                return list.stream()
-                        .filter(AnnotationNode.class::isInstance)
-                        .map(AnnotationNode.class::cast)
-                        .collect(Collectors.toList());
+            else if (foreignAnnotations.contains(annotation.desc)) {
+                suppressionRules.add(new SuppressionRule(className, methodName, PitMutator.NONE, Optional.empty(),
+                        Optional.empty(), Optional.empty()));
+            }
+            else {
+                for (AnnotationNode metaAnnotation : metaAnnotationCache.getSuppressions(annotation.desc, source)) {
+                    addSuppressionRuleForAnnotation(metaAnnotation, suppressionRules, className, methodName);
+                }
             }
         }
-        return List.of();
     }
 
     private static void addSuppressionRuleForAnnotation(final AnnotationNode annotation, final List<SuppressionRule> suppressionRules, final String className, final Optional<String> methodName) {
         List<Object> values = annotation.values;
         if (values == null || values.isEmpty()) {
-            suppressionRules.add(new SuppressionRule(className, methodName, PitMutator.NONE, Optional.empty(), Optional.empty()));
+            suppressionRules.add(new SuppressionRule(className, methodName, PitMutator.NONE, Optional.empty(), Optional.empty(), Optional.empty()));
             return;
         }
 
@@ -93,19 +283,53 @@ public class AnnotationExclusionFilter implements MutationInterceptor {
             mutator = PitMutator.valueOf(mutatorData[1]);
         }
 
-        Optional<Integer> line = Optional.empty();
-        Object rawLine = elements.get("line");
+        List<LineRange> lineRanges;
+        try {
+            lineRanges = getLineRanges(elements);
+        }
+        catch (IllegalArgumentException e) {
+            LOGGER.log(Level.WARNING, "Unexpected value for 'line', 'lines', 'startLine', or 'endLine' in bytecode. Annotation is skipped.", e);
+            return;
+        }
+
+        if (lineRanges.isEmpty()) {
+            suppressionRules.add(new SuppressionRule(className, methodName, mutator, mutatorName, Optional.empty(), Optional.empty()));
+        }
+        for (LineRange range : lineRanges) {
+            suppressionRules.add(new SuppressionRule(className, methodName, mutator, mutatorName,
+                    Optional.of(range.start()), Optional.of(range.end())));
+        }
+    }
 
-        if (rawLine != null) {
-            try {
-                line = Optional.of(Integer.parseInt(rawLine.toString()));
+    private static List<LineRange> getLineRanges(final Map<String, Object> elements) {
+        List<LineRange> lineRanges = new ArrayList<>();
+        parseLine(elements.get("line")).ifPresent(line -> lineRanges.add(new LineRange(line, line)));
+        if (elements.get("lines") instanceof List<?> lines) {
+            for (Object rawLine : lines) {
+                parseLine(rawLine).ifPresent(line -> lineRanges.add(new LineRange(line, line)));
             }
-            catch (NumberFormatException e) {
-                LOGGER.log(Level.WARNING, "Unexpected non-integer value for 'line' in bytecode. Annotation is skipped.", e);
-                return;
+        }
+
+        Optional<Integer> startLine = parseLine(elements.get("startLine"));
+        Optional<Integer> endLine = parseLine(elements.get("endLine"));
+        if (startLine.isPresent() != endLine.isPresent()) {
+            throw new IllegalArgumentException("A line range requires both 'startLine' and 'endLine'");
+        }
+        if (startLine.isPresent() && endLine.isPresent()) {
+            if (startLine.get() > endLine.get()) {
+                throw new IllegalArgumentException("The 'startLine' must not be greater than the 'endLine'");
             }
+            lineRanges.add(new LineRange(startLine.get(), endLine.get()));
+        }
+        return lineRanges;
+    }
+
+    private static Optional<Integer> parseLine(final Object rawLine) {
+        if (rawLine == null) {
+            return Optional.empty();
         }
-        suppressionRules.add(new SuppressionRule(className, methodName, mutator, mutatorName, line));
+        int line = Integer.parseInt(rawLine.toString());
+        return line == UNDEFINED_LINE ? Optional.empty() : Optional.of(line);
     }
 
     private static Map<String, Object> getAnnotationElements(final List<Object> values) {
@@ -120,36 +344,71 @@ public class AnnotationExclusionFilter implements MutationInterceptor {
     }
 
     @Override
-    public Collection<MutationDetails> intercept(final Collection<MutationDetails> mutations, Mutater mutater) {
-        return mutations.stream().filter(mutation -> !shouldSuppress(mutation)).collect(Collectors.toList());
-    }
-
-    private boolean shouldSuppress(final MutationDetails mutation) {
-        String className = mutation.getClassName().asJavaName();
-        List<SuppressionRule> rulesDefinedInClass = suppressionByClass.getOrDefault(className, List.of());
-
-        for (SuppressionRule rule : rulesDefinedInClass) {
-            String methodNameWithDesc = mutation.getMethod() + mutation.getId().getLocation().getMethodDesc();
-            boolean methodNameMatches = rule.methodName().map(name -> name.equals(methodNameWithDesc)).orElse(true);
-            boolean mutatorMatches = mutation.getMutator().equals(rule.mutator().getFqcn());
-            boolean mutatorNameMatches = rule.mutatorName().map(mutatorName -> mutatorNameMatches(mutation.getMutator(), mutatorName)).orElse(true);
-            boolean lineMatches = rule.line().map(line -> line == mutation.getLineNumber()).orElse(true);
-            boolean mutatorOrMutatorNameMatches = mutatorMatches || (mutatorNameMatches && rule.mutator() == PitMutator.NONE);
-            if (methodNameMatches && mutatorOrMutatorNameMatches && lineMatches) {
-                return true;
-            }
+    public Collection<MutationDetails> intercept(final Collection<MutationDetails> mutations, final Mutater mutater) {
+        ClassSuppressions classSuppressions = currentClass.get();
+        if (classSuppressions == null) {
+            return new ArrayList<>(mutations);
+        }
+        if (explanations.isEmpty()) {
+            return mutations.stream().filter(mutation -> !classSuppressions.suppresses(mutation)).collect(Collectors.toList());
+        }
+
+        ExplanationWriter writer = explanations.get();
+        return mutations.stream()
+                .filter(mutation -> !explainSuppression(classSuppressions, mutation, writer))
+                .collect(Collectors.toList());
+    }
+
+    private static boolean explainSuppression(final ClassSuppressions classSuppressions, final MutationDetails mutation,
+            final ExplanationWriter writer) {
+        Optional<String> rule = findRule(classSuppressions, mutation);
+        rule.ifPresent(description -> writer.write(FILTER_NAME, mutation, description));
+        return rule.isPresent();
+    }
+
+    /**
+     * Finds the annotation that suppresses the specified mutation of the class that is currently analyzed by this
+     * thread, see {@link #begin(ClassTree)}.
+     *
+     * @param mutation the mutation to check
+     * @return a description of the annotation, or an empty optional if the mutation is not suppressed
+     */
+    Optional<String> findRule(final MutationDetails mutation) {
+        ClassSuppressions classSuppressions = currentClass.get();
+        if (classSuppressions == null) {
+            return Optional.empty();
+        }
+        return findRule(classSuppressions, mutation);
+    }
+
+    private static Optional<String> findRule(final ClassSuppressions classSuppressions,
+            final MutationDetails mutation) {
+        if (!classSuppressions.suppresses(mutation)) {
+            return Optional.empty();
+        }
+        return Optional.of(classSuppressions.findRule(mutation)
+                .map(AnnotationExclusionFilter::describe)
+                .orElse("@SuppressMutation on " + classSuppressions.className()));
+    }
+
+    private static String describe(final SuppressionRule rule) {
+        StringBuilder description = new StringBuilder("@SuppressMutation on ").append(rule.className());
+        rule.methodName().ifPresent(method -> description.append('#').append(method));
+        if (rule.mutator() != PitMutator.NONE) {
+            description.append(" mutator=").append(rule.mutator().name());
+        }
+        rule.mutatorName().ifPresent(name -> description.append(" mutatorName=").append(name));
+        if (rule.startLine().isPresent() && rule.endLine().isPresent()) {
+            description.append(" lines=").append(rule.startLine().get()).append('-').append(rule.endLine().get());
         }
-        return false;
+        return description.toString();
     }
 
-    private static boolean mutatorNameMatches(final String fqcn, final String mutatorNameEntry) {
-        String mutatorName = fqcn.substring(fqcn.lastIndexOf('.') + 1);
-        String shortMutatorName = mutatorName.endsWith("Mutator") ? mutatorName.substring(0, mutatorName.length() - 7) : mutatorName;
-        return fqcn.equals(mutatorNameEntry) || mutatorName.equals(mutatorNameEntry) || shortMutatorName.equals(mutatorNameEntry);
+    private record LineRange(int start, int end) {
     }
 
     @Override
     public void end() {
-        // nothing to do
+        currentClass.remove();
     }
 }
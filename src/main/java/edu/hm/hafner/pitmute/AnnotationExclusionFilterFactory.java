@@ -4,6 +4,12 @@ import org.pitest.mutationtest.build.InterceptorParameters;
 import org.pitest.mutationtest.build.MutationInterceptor;
 import org.pitest.mutationtest.build.MutationInterceptorFactory;
 import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Factory for creating an {@link AnnotationExclusionFilter} instance to exclude mutations in areas
@@ -15,8 +21,34 @@ import org.pitest.plugin.Feature;
  */
 public class AnnotationExclusionFilterFactory implements MutationInterceptorFactory {
     @Override
-    public MutationInterceptor createInterceptor(InterceptorParameters interceptorParameters) {
-        return new AnnotationExclusionFilter();
+    public MutationInterceptor createInterceptor(final InterceptorParameters interceptorParameters) {
+        Optional<FeatureSetting> settings = interceptorParameters.settings();
+        return new AnnotationExclusionFilter(interceptorParameters.source(), ClassSuppressionCache.shared(),
+                MetaAnnotationCache.shared(), getForeignAnnotations(settings), ExplanationWriter.fromSettings(settings));
+    }
+
+    private static Set<String> getForeignAnnotations(final Optional<FeatureSetting> settings) {
+        return settings.map(setting -> setting.getList("annotation"))
+                .orElse(List.of())
+                .stream()
+                .filter(annotation -> annotation != null && !annotation.isBlank())
+                .map(AnnotationExclusionFilterFactory::toDescriptor)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Converts the name of an annotation type to its descriptor. Names that are already descriptors are returned as
+     * they are.
+     *
+     * @param annotation the fully qualified name or the descriptor of the annotation type
+     * @return the descriptor, e.g. {@code Llombok/Generated;}
+     */
+    static String toDescriptor(final String annotation) {
+        String name = annotation.trim();
+        if (name.startsWith("L") && name.endsWith(";")) {
+            return name;
+        }
+        return "L" + name.replace('.', '/') + ";";
     }
 
     @Override
@@ -31,4 +63,3 @@ public class AnnotationExclusionFilterFactory implements MutationInterceptorFact
         return "Exclude mutations based on annotations";
     }
 }
-
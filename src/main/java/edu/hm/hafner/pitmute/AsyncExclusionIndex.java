@@ -0,0 +1,119 @@
+package edu.hm.hafner.pitmute;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * An {@link ExclusionIndex} that is loaded in the background. The loading starts on a virtual thread as soon as the
+ * index is created, so the CSV files are parsed while PIT is still scanning the classes. All subsequent queries are
+ * delegated to the loaded index without waiting.
+ *
+ * <p>
+ * Optionally, a second virtual thread collects just the class names of the entries. This is much faster than building
+ * the index, so queries for classes without entries (and the question whether there are entries at all) can be
+ * answered from these names while the index is still loading. Only queries for classes that have entries wait until
+ * the loading has been finished.
+ * </p>
+ *
+ * <p>
+ * If the loading fails, the exception of the loader is thrown by each query, so the failure is reported with the
+ * same message as a synchronous loading.
+ * </p>
+ */
+final class AsyncExclusionIndex implements ExclusionIndex {
+    private static final String THREAD_NAME = "pitmute-csv-loader";
+    private static final String SCANNER_THREAD_NAME = "pitmute-csv-scanner";
+
+    private final CompletableFuture<ExclusionIndex> index = new CompletableFuture<>();
+    private final CompletableFuture<Set<String>> classNames = new CompletableFuture<>();
+
+    /**
+     * Starts loading the index in the background.
+     *
+     * @param loader loads the index, called on a virtual thread
+     */
+    AsyncExclusionIndex(final Supplier<ExclusionIndex> loader) {
+        Thread.ofVirtual().name(THREAD_NAME).start(() -> load(loader, index));
+    }
+
+    /**
+     * Starts loading the index and collecting the class names of the entries in the background.
+     *
+     * @param loader loads the index, called on a virtual thread
+     * @param scanner collects the class names of all entries, called on another virtual thread
+     */
+    AsyncExclusionIndex(final Supplier<ExclusionIndex> loader, final Supplier<Set<String>> scanner) {
+        this(loader);
+        Thread.ofVirtual().name(SCANNER_THREAD_NAME).start(() -> load(scanner, classNames));
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private static <T> void load(final Supplier<T> loader, final CompletableFuture<T> result) {
+        try {
+            result.complete(loader.get());
+        }
+        catch (Throwable e) { // NOPMD: every failure must be reported to the waiting threads
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Returns the loaded index, waits if the loading has not been finished yet.
+     *
+     * @return the loaded index
+     * @throws IllegalStateException if the index could not be loaded
+     */
+    ExclusionIndex await() {
+        try {
+            return index.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Failed to load the CSV exclusion index", e.getCause());
+        }
+    }
+
+    /**
+     * Returns the class names of all entries if they are available before the index has been loaded. Waits until
+     * either the class names or the index are available.
+     *
+     * @return the class names, or an empty optional if the index has been loaded first or the class names are not
+     *         available
+     */
+    private Optional<Set<String>> awaitClassNames() {
+        if (!index.isDone()) {
+            CompletableFuture.anyOf(index, classNames).exceptionally(e -> null).join();
+        }
+        if (index.isDone() || !classNames.isDone() || classNames.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return Optional.of(classNames.join());
+    }
+
+    @Override
+    public ExclusionRules findRules(final String fqcn, final String sourceFile) {
+        Optional<Set<String>> names = awaitClassNames();
+        if (names.isPresent() && !containsAny(names.get(), fqcn, sourceFile)) {
+            return ExclusionRules.EMPTY;
+        }
+        return await().findRules(fqcn, sourceFile);
+    }
+
+    private static boolean containsAny(final Set<String> names, final String fqcn, final String sourceFile) {
+        return names.contains(fqcn) || names.contains(fqcn.substring(fqcn.lastIndexOf('.') + 1))
+                || names.contains(sourceFile);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return awaitClassNames().map(Set::isEmpty).orElseGet(() -> await().isEmpty());
+    }
+}
@@ -0,0 +1,126 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Limits the number of mutations per method and per class. If a method or class has more mutations than allowed,
+ * the mutations are selected by the priority of their mutators: all mutations of the first mutator in the priority
+ * list are selected before the mutations of the second mutator, and so on. Mutators that are not part of the priority
+ * list are selected last. A member of a mutator family (e.g., {@code RemoveSwitchMutator_3}) also gets the priority of
+ * its family ({@link PitMutator#EXPERIMENTAL_REMOVE_SWITCH}), if that is higher. Mutations with the same priority are
+ * selected in the order PIT created them. For more information, please see the README.
+ *
+ * <p>
+ * The mutations are distributed into one bucket per priority (counting sort), so the selection requires linear time
+ * in the number of mutations of a class. This filter has no state, so a single instance can be used by several
+ * threads concurrently.
+ * </p>
+ */
+public class BudgetFilter implements MutationInterceptor {
+    private final int maxPerMethod;
+    private final int maxPerClass;
+    private final int[] rankByMutator;
+    private final int lowestRank;
+
+    /**
+     * Creates a new {@link BudgetFilter}.
+     *
+     * @param maxPerMethod the maximum number of mutations per method
+     * @param maxPerClass the maximum number of mutations per class
+     * @param priorities the mutators ordered by priority (highest first)
+     */
+    public BudgetFilter(final int maxPerMethod, final int maxPerClass, final List<PitMutator> priorities) {
+        if (maxPerMethod < 1 || maxPerClass < 1) {
+            throw new IllegalArgumentException("The maximum number of mutations must be positive");
+        }
+        this.maxPerMethod = maxPerMethod;
+        this.maxPerClass = maxPerClass;
+
+        lowestRank = priorities.size();
+        rankByMutator = new int[PitMutator.values().length];
+        Arrays.fill(rankByMutator, lowestRank);
+        for (int rank = priorities.size() - 1; rank >= 0; rank--) {
+            rankByMutator[priorities.get(rank).ordinal()] = rank;
+        }
+    }
+
+    @Override
+    public InterceptorType type() {
+        return InterceptorType.FILTER;
+    }
+
+    @Override
+    public void begin(final ClassTree classTree) {
+        // nothing to prepare
+    }
+
+    @Override
+    public Collection<MutationDetails> intercept(final Collection<MutationDetails> mutations, final Mutater mutater) {
+        if (mutations.size() <= maxPerMethod && mutations.size() <= maxPerClass) {
+            return mutations;
+        }
+
+        List<MutationDetails> candidates = new ArrayList<>(mutations);
+        int[] ranks = new int[candidates.size()];
+        int[] bucketStart = new int[lowestRank + 2];
+        for (int i = 0; i < candidates.size(); i++) {
+            ranks[i] = getRank(candidates.get(i));
+            bucketStart[ranks[i] + 1]++;
+        }
+        for (int rank = 0; rank <= lowestRank; rank++) {
+            bucketStart[rank + 1] += bucketStart[rank];
+        }
+        int[] byRank = new int[candidates.size()];
+        for (int i = 0; i < candidates.size(); i++) {
+            byRank[bucketStart[ranks[i]]++] = i;
+        }
+
+        boolean[] selected = new boolean[candidates.size()];
+        Map<String, Integer> countByMethod = new HashMap<>();
+        int count = 0;
+        for (int i = 0; i < byRank.length && count < maxPerClass; i++) {
+            MutationDetails mutation = candidates.get(byRank[i]);
+            String method = mutation.getMethod() + mutation.getId().getLocation().getMethodDesc();
+            int countOfMethod = countByMethod.getOrDefault(method, 0);
+            if (countOfMethod < maxPerMethod) {
+                countByMethod.put(method, countOfMethod + 1);
+                selected[byRank[i]] = true;
+                count++;
+            }
+        }
+
+        List<MutationDetails> result = new ArrayList<>(count);
+        for (int i = 0; i < candidates.size(); i++) {
+            if (selected[i]) {
+                result.add(candidates.get(i));
+            }
+        }
+        return result;
+    }
+
+    private int getRank(final MutationDetails mutation) {
+        String fqcn = mutation.getMutator();
+        int rank = PitMutator.fromFqcn(fqcn)
+                .map(mutator -> rankByMutator[mutator.ordinal()])
+                .orElse(lowestRank);
+        return PitMutator.familyOf(fqcn)
+                .map(family -> Math.min(rank, rankByMutator[family.ordinal()]))
+                .orElse(rank);
+    }
+
+    @Override
+    public void end() {
+        // nothing to clean up
+    }
+}
@@ -0,0 +1,88 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Factory for creating a {@link BudgetFilter} instance that limits the number of mutations per method and per class.
+ *
+ * <p>
+ * For details on usage and configuration, please refer to the project's README.
+ * </p>
+ */
+public class BudgetFilterFactory implements MutationInterceptorFactory {
+    @Override
+    public MutationInterceptor createInterceptor(final InterceptorParameters params) {
+        Optional<FeatureSetting> settings = params.settings();
+        Optional<Integer> maxPerMethod = getLimit(settings, "maxPerMethod");
+        Optional<Integer> maxPerClass = getLimit(settings, "maxPerClass");
+        if (maxPerMethod.isEmpty() && maxPerClass.isEmpty()) {
+            throw new IllegalStateException("Missing feature parameter \"maxPerMethod\" or \"maxPerClass\". Please "
+                    + "provide at least one limit, e.g. +FBUDGET(maxPerMethod[50] maxPerClass[500]).");
+        }
+
+        return new BudgetFilter(maxPerMethod.orElse(Integer.MAX_VALUE), maxPerClass.orElse(Integer.MAX_VALUE),
+                getPriorities(settings));
+    }
+
+    private Optional<Integer> getLimit(final Optional<FeatureSetting> settings, final String name) {
+        Optional<String> value = settings.flatMap(setting -> setting.getString(name)).filter(limit -> !limit.isBlank());
+        if (value.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            int limit = Integer.parseInt(value.get().trim());
+            if (limit > 0) {
+                return Optional.of(limit);
+            }
+        }
+        catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalStateException("Invalid feature parameter \"" + name + "\": " + value.get()
+                + ". Please provide a positive number.");
+    }
+
+    private List<PitMutator> getPriorities(final Optional<FeatureSetting> settings) {
+        List<PitMutator> priorities = new ArrayList<>();
+        for (String name : settings.map(setting -> setting.getList("priority")).orElse(List.of())) {
+            if (name == null || name.isBlank()) {
+                continue;
+            }
+            try {
+                PitMutator mutator = PitMutator.valueOf(name.trim().toUpperCase(Locale.ENGLISH));
+                if (mutator == PitMutator.NONE) {
+                    throw new IllegalArgumentException("NONE is not a mutator");
+                }
+                if (!priorities.contains(mutator)) {
+                    priorities.add(mutator);
+                }
+            }
+            catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Invalid feature parameter \"priority\": " + name
+                        + ". Please provide the name of a mutator, e.g. NEGATE_CONDITIONALS.", e);
+            }
+        }
+        return priorities;
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("FBUDGET")
+                .withDescription("Limit the number of mutations per method and class")
+                .withOnByDefault(false);
+    }
+
+    @Override
+    public String description() {
+        return "Limit the number of mutations per method and class";
+    }
+}
@@ -0,0 +1,186 @@
+package edu.hm.hafner.pitmute;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The changed lines of a set of source files. The changed lines of each file are stored as {@link LineIntervals}.
+ *
+ * <p>
+ * The paths in a diff are relative to the repository root (e.g., {@code module/src/main/java/com/example/Main.java}),
+ * while the path of a class file is only known relative to the source folder (e.g., {@code com/example/Main.java}).
+ * So the intervals are stored for each suffix of a path that starts at a directory boundary. Finding the changed lines
+ * of a class then requires a single lookup. If several files share the same suffix, their intervals are merged.
+ * </p>
+ */
+final class ChangedLines {
+    private final Map<String, LineIntervals> intervalsBySuffix;
+
+    private ChangedLines(final Map<String, LineIntervals> intervalsBySuffix) {
+        this.intervalsBySuffix = Map.copyOf(intervalsBySuffix);
+    }
+
+    /**
+     * Finds the changed lines of the specified source file.
+     *
+     * @param sourcePath the path of the source file relative to the source folder, e.g. {@code com/example/Main.java}
+     * @return the changed lines, or an empty optional if the file has not been changed
+     */
+    Optional<LineIntervals> find(final String sourcePath) {
+        return Optional.ofNullable(intervalsBySuffix.get(sourcePath));
+    }
+
+    /**
+     * Collects the changed lines of several diffs or change lists.
+     */
+    static final class Builder {
+        private static final Pattern HUNK_HEADER = Pattern.compile("^@@ -(\\d+)(?:,(\\d+))? \\+(\\d+)(?:,(\\d+))? @@.*");
+        private static final String NEW_FILE_PREFIX = "+++ ";
+        private static final String DELETED_FILE = "/dev/null";
+
+        private final Map<String, List<int[]>> rangesByPath = new HashMap<>();
+
+        /**
+         * Adds the changed lines of the specified range.
+         *
+         * @param path the path of the changed file
+         * @param startLine the first changed line
+         * @param endLine the last changed line
+         * @return this builder
+         */
+        Builder add(final String path, final int startLine, final int endLine) {
+            if (startLine < 1 || endLine < startLine) {
+                throw new IllegalArgumentException("Invalid line range " + startLine + "-" + endLine + " for " + path);
+            }
+            rangesByPath.computeIfAbsent(normalize(path), key -> new ArrayList<>()).add(new int[] {startLine, endLine});
+            return this;
+        }
+
+        /**
+         * Adds the lines that have been added or modified in a unified diff (e.g., created by {@code git diff}).
+         * Removed lines are ignored, since they do not exist in the mutated code.
+         *
+         * @param reader the reader of the diff
+         * @return this builder
+         * @throws IOException if the diff cannot be read
+         */
+        Builder addUnifiedDiff(final BufferedReader reader) throws IOException {
+            String path = null;
+            int newLine = 0;
+            int remainingOld = 0;
+            int remainingNew = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (remainingOld > 0 || remainingNew > 0) {
+                    if (line.startsWith("+")) {
+                        if (path != null) {
+                            add(path, newLine, newLine);
+                        }
+                        newLine++;
+                        remainingNew--;
+                    }
+                    else if (line.startsWith("-")) {
+                        remainingOld--;
+                    }
+                    else if (!line.startsWith("\\")) {
+                        newLine++;
+                        remainingOld--;
+                        remainingNew--;
+                    }
+                    continue;
+                }
+
+                if (line.startsWith(NEW_FILE_PREFIX)) {
+                    path = getPath(line.substring(NEW_FILE_PREFIX.length()));
+                    continue;
+                }
+                Matcher hunk = HUNK_HEADER.matcher(line);
+                if (hunk.matches()) {
+                    remainingOld = getCount(hunk.group(2));
+                    newLine = Integer.parseInt(hunk.group(3));
+                    remainingNew = getCount(hunk.group(4));
+                }
+            }
+            return this;
+        }
+
+        private static String getPath(final String value) {
+            int tab = value.indexOf('\t');
+            String path = (tab >= 0 ? value.substring(0, tab) : value).trim();
+            return DELETED_FILE.equals(path) ? null : path;
+        }
+
+        private static int getCount(final String count) {
+            return count == null ? 1 : Integer.parseInt(count);
+        }
+
+        /**
+         * Adds the changed lines of a change list. Each line of the list contains the path of a changed file,
+         * optionally followed by a colon and a comma-separated list of lines or line ranges, e.g.
+         * {@code src/main/java/com/example/Main.java:5,10-20}. If no lines are given, all lines of the file are
+         * considered as changed. Empty lines and lines starting with {@code #} are ignored.
+         *
+         * @param reader the reader of the change list
+         * @return this builder
+         * @throws IOException if the list cannot be read
+         */
+        Builder addChangeList(final BufferedReader reader) throws IOException {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                String entry = line.trim();
+                if (entry.isEmpty() || entry.startsWith("#")) {
+                    continue;
+                }
+                int separator = entry.lastIndexOf(':');
+                if (separator < 0 || !isLineList(entry.substring(separator + 1))) {
+                    add(entry, 1, Integer.MAX_VALUE);
+                    continue;
+                }
+                String path = entry.substring(0, separator).trim();
+                for (String range : entry.substring(separator + 1).split(",")) {
+                    String[] lines = range.trim().split("-", -1);
+                    int start = Integer.parseInt(lines[0].trim());
+                    add(path, start, lines.length > 1 ? Integer.parseInt(lines[1].trim()) : start);
+                }
+            }
+            return this;
+        }
+
+        private static boolean isLineList(final String lines) {
+            return lines.trim().matches("\\d+(\\s*-\\s*\\d+)?(\\s*,\\s*\\d+(\\s*-\\s*\\d+)?)*");
+        }
+
+        private static String normalize(final String path) {
+            return path.trim().replace('\\', '/');
+        }
+
+        /**
+         * Creates the changed lines of all added diffs and change lists.
+         *
+         * @return the changed lines
+         */
+        ChangedLines build() {
+            Map<String, List<int[]>> rangesBySuffix = new HashMap<>();
+            rangesByPath.forEach((path, ranges) -> {
+                int start = 0;
+                while (start < path.length()) {
+                    rangesBySuffix.computeIfAbsent(path.substring(start), key -> new ArrayList<>()).addAll(ranges);
+                    int separator = path.indexOf('/', start);
+                    if (separator < 0) {
+                        break;
+                    }
+                    start = separator + 1;
+                }
+            });
+
+            Map<String, LineIntervals> intervalsBySuffix = new HashMap<>();
+            rangesBySuffix.forEach((suffix, ranges) -> intervalsBySuffix.put(suffix, LineIntervals.of(ranges)));
+            return new ChangedLines(intervalsBySuffix);
+        }
+    }
+}
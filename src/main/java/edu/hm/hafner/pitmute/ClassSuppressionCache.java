@@ -0,0 +1,63 @@
+package edu.hm.hafner.pitmute;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A size-bounded cache of the class-level {@link SuppressionRule suppression rules} of already analyzed classes.
+ * The cache is shared for the whole PIT run so that nested classes can inherit the rules of their enclosing classes
+ * without parsing the class files of the enclosing classes again. If the cache is full, the least recently used
+ * entry is evicted.
+ */
+final class ClassSuppressionCache {
+    private static final int DEFAULT_CAPACITY = 4096;
+    private static final ClassSuppressionCache INSTANCE = new ClassSuppressionCache(DEFAULT_CAPACITY);
+
+    private final Map<String, List<SuppressionRule>> rulesByClass;
+
+    /**
+     * Returns the cache that is shared by all filters of the current run.
+     *
+     * @return the shared cache
+     */
+    static ClassSuppressionCache shared() {
+        return INSTANCE;
+    }
+
+    ClassSuppressionCache(final int capacity) {
+        rulesByClass = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, List<SuppressionRule>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the class-level rules of the specified class, including the rules inherited from its enclosing classes.
+     *
+     * @param className the fully qualified name of the class
+     * @return the cached rules, or an empty optional if the class has not been cached yet
+     */
+    synchronized Optional<List<SuppressionRule>> get(final String className) {
+        return Optional.ofNullable(rulesByClass.get(className));
+    }
+
+    /**
+     * Stores the class-level rules of the specified class, including the rules inherited from its enclosing classes.
+     *
+     * @param className the fully qualified name of the class
+     * @param rules the class-level rules of the class
+     */
+    synchronized void put(final String className, final List<SuppressionRule> rules) {
+        rulesByClass.put(className, List.copyOf(rules));
+    }
+
+    synchronized int size() {
+        return rulesByClass.size();
+    }
+}
@@ -0,0 +1,65 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.mutationtest.engine.MutationDetails;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The compiled suppression rules of a single class. Instances are immutable.
+ *
+ * @param className        the fully qualified name of the class
+ * @param classScope       the compiled rules of the class-level annotations (including inherited ones)
+ * @param methodScopes     the compiled rules of the method-level annotations, mapped by method name with descriptor
+ * @param enclosingMethods maps synthetic methods (e.g., lambdas) to their enclosing methods, see
+ *                         {@link AnnotationExclusionFilter}
+ */
+record ClassSuppressions(String className, ScopedSuppressions classScope, Map<String, ScopedSuppressions> methodScopes,
+                         Map<String, String> enclosingMethods) {
+    /**
+     * Returns whether the specified mutation is suppressed by the rules of this class.
+     *
+     * @param mutation the mutation to check
+     * @return {@code true} if the mutation is suppressed, {@code false} otherwise
+     */
+    boolean suppresses(final MutationDetails mutation) {
+        if (!className.equals(mutation.getClassName().asJavaName())) {
+            return false;
+        }
+
+        String fqcn = mutation.getMutator();
+        int mutatorId = MutatorRegistry.shared().getId(fqcn);
+        int line = mutation.getLineNumber();
+        if (classScope.suppresses(mutatorId, fqcn, line)) {
+            return true;
+        }
+        if (methodScopes.isEmpty()) {
+            return false;
+        }
+
+        return getMethodScope(mutation).suppresses(mutatorId, fqcn, line);
+    }
+
+    /**
+     * Finds the rule that suppresses the specified mutation. The rules are evaluated one after another, so this method
+     * should only be used to explain a suppression.
+     *
+     * @param mutation the mutation to check
+     * @return the rule that suppresses the mutation, or an empty optional if the mutation is not suppressed
+     */
+    Optional<SuppressionRule> findRule(final MutationDetails mutation) {
+        if (!className.equals(mutation.getClassName().asJavaName())) {
+            return Optional.empty();
+        }
+
+        String fqcn = mutation.getMutator();
+        int line = mutation.getLineNumber();
+        return classScope.findRule(fqcn, line).or(() -> getMethodScope(mutation).findRule(fqcn, line));
+    }
+
+    private ScopedSuppressions getMethodScope(final MutationDetails mutation) {
+        String mutatedMethod = mutation.getMethod() + mutation.getId().getLocation().getMethodDesc();
+        String methodNameWithDesc = enclosingMethods.getOrDefault(mutatedMethod, mutatedMethod);
+        return methodScopes.getOrDefault(methodNameWithDesc, ScopedSuppressions.EMPTY);
+    }
+}
@@ -15,7 +15,20 @@ import java.util.Optional;
  * @param mutationName Optional name of the mutator whose mutations should be ignored.
  * @param startLine    Optional start line (inclusive) of the range for ignored mutations.
  * @param endLine      Optional end line (inclusive) of the range for ignored mutations.
+ * @param source       The location of the entry (file and line), or an empty string if the location is unknown.
  */
 public record CsvExclusionEntry(String className, Optional<String> mutationName, Optional<Integer> startLine,
-                                Optional<Integer> endLine) {
-}
\ No newline at end of file
+                                Optional<Integer> endLine, String source) {
+    /**
+     * Creates a new entry with an unknown location.
+     *
+     * @param className    The fully qualified class name or just the file name for which mutations should be ignored.
+     * @param mutationName Optional name of the mutator whose mutations should be ignored.
+     * @param startLine    Optional start line (inclusive) of the range for ignored mutations.
+     * @param endLine      Optional end line (inclusive) of the range for ignored mutations.
+     */
+    public CsvExclusionEntry(final String className, final Optional<String> mutationName,
+            final Optional<Integer> startLine, final Optional<Integer> endLine) {
+        this(className, mutationName, startLine, endLine, "");
+    }
+}
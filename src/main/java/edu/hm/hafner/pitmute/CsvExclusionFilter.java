@@ -9,14 +9,31 @@ import org.pitest.mutationtest.engine.MutationDetails;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Filters generated PIT mutations based on a list of {@link CsvExclusionEntry} entries.
  * Only mutations matching the criteria specified in the provided entries are suppressed.
  * For more information, please see the README.
+ *
+ * <p>
+ * The entries are stored in an index that is shared by all threads. Each thread uses its own cursor that
+ * holds the entries of the class that is currently analyzed by this thread. So a single instance of this filter can
+ * be used by several threads concurrently.
+ * </p>
+ *
+ * <p>
+ * Entries that refer to a source file (e.g., {@code Main.java}) cover all classes that have been compiled from this
+ * file. The source file of each class is read from its {@code SourceFile} attribute in {@link #begin(ClassTree)} and
+ * stored in a {@link SourceFileCache} that is shared for the whole run.
+ * </p>
  */
 public class CsvExclusionFilter implements MutationInterceptor {
-    private final List<CsvExclusionEntry> entries;
+    private final ExclusionIndex index;
+    private final ThreadLocal<Cursor> cursor;
+    private final Optional<ExplanationWriter> explanations;
+    private final SourceFileCache sourceFiles;
+    private static final String FILTER_NAME = "FCSV";
 
     /**
      * Constructs a new {@code CsvExclusionFilter} with the given list of exclusion entries.
@@ -24,7 +41,42 @@ public class CsvExclusionFilter implements MutationInterceptor {
      * @param entries the list of entries used to exclude mutations.
      */
     public CsvExclusionFilter(final List<CsvExclusionEntry> entries) {
-        this.entries = List.copyOf(entries);
+        this(entries, Optional.empty());
+    }
+
+    /**
+     * Constructs a new {@code CsvExclusionFilter} that writes an explanation for each suppressed mutation.
+     *
+     * @param entries the list of entries used to exclude mutations.
+     * @param explanations the writer for the explanations, or an empty optional to disable the explanations
+     */
+    CsvExclusionFilter(final List<CsvExclusionEntry> entries, final Optional<ExplanationWriter> explanations) {
+        this(new CsvExclusionIndex(entries), explanations);
+    }
+
+    /**
+     * Constructs a new {@code CsvExclusionFilter} that uses the specified index of exclusion entries.
+     *
+     * @param index the index of the entries used to exclude mutations.
+     * @param explanations the writer for the explanations, or an empty optional to disable the explanations
+     */
+    CsvExclusionFilter(final ExclusionIndex index, final Optional<ExplanationWriter> explanations) {
+        this(index, explanations, SourceFileCache.shared());
+    }
+
+    /**
+     * Constructs a new {@code CsvExclusionFilter} that uses the specified index and cache of source files.
+     *
+     * @param index the index of the entries used to exclude mutations.
+     * @param explanations the writer for the explanations, or an empty optional to disable the explanations
+     * @param sourceFiles the cache of the source files of the analyzed classes
+     */
+    CsvExclusionFilter(final ExclusionIndex index, final Optional<ExplanationWriter> explanations,
+            final SourceFileCache sourceFiles) {
+        this.index = index;
+        this.cursor = ThreadLocal.withInitial(() -> new Cursor(index, sourceFiles));
+        this.explanations = explanations;
+        this.sourceFiles = sourceFiles;
     }
 
     @Override
@@ -33,59 +85,82 @@ public class CsvExclusionFilter implements MutationInterceptor {
     }
 
     @Override
-    public void begin(ClassTree classTree) {
-        // nothing to do
+    public void begin(final ClassTree classTree) {
+        sourceFiles.put(classTree);
     }
 
     @Override
-    public Collection<MutationDetails> intercept(final Collection<MutationDetails> mutations, Mutater mutater) {
+    public Collection<MutationDetails> intercept(final Collection<MutationDetails> mutations, final Mutater mutater) {
         if (mutations.isEmpty()) {
             return Collections.emptyList();
         }
+        if (index.isEmpty()) {
+            return mutations;
+        }
 
-        Collection<MutationDetails> filtered = mutations;
-
-        for (CsvExclusionEntry entry : entries) {
-            filtered = filtered.stream()
-                    .filter(mutation -> !shouldSuppressMutation(mutation, entry))
+        Cursor current = cursor.get();
+        if (explanations.isEmpty()) {
+            return mutations.stream()
+                    .filter(mutation -> !current.moveTo(mutation.getClassName().asJavaName()).suppresses(mutation))
                     .toList();
         }
 
-        return filtered;
+        ExplanationWriter writer = explanations.get();
+        return mutations.stream()
+                .filter(mutation -> !explainSuppression(mutation, writer))
+                .toList();
     }
 
-    private boolean shouldSuppressMutation(final MutationDetails mutation, final CsvExclusionEntry entry) {
-        boolean classNameMatches = classNameMatches(mutation.getClassName().asJavaName(), entry.className());
-        boolean mutationNameMatches = mutationNameMatches(mutation.getMutator(), entry);
-        boolean startLineMatches = entry.startLine().isEmpty() || mutation.getLineNumber() >= entry.startLine().get();
-        boolean endLineMatches = entry.endLine().isEmpty() || mutation.getLineNumber() <= entry.endLine().get();
-
-        return classNameMatches && mutationNameMatches && startLineMatches && endLineMatches;
+    private boolean explainSuppression(final MutationDetails mutation, final ExplanationWriter writer) {
+        Optional<String> rule = findRule(mutation);
+        rule.ifPresent(description -> writer.write(FILTER_NAME, mutation, description));
+        return rule.isPresent();
     }
 
-    private boolean classNameMatches(final String fqcn, final String entry) {
-        if (entry == null) {
-            return false; // entry should never be null
-        }
-
-        String simpleName = fqcn.substring(fqcn.lastIndexOf('.') + 1);
-        String normalized = entry.endsWith(".java") ? entry.substring(0, entry.length() - 5) : entry;
-        return entry.equals(fqcn) || entry.equals(simpleName) || normalized.equals(simpleName);
+    /**
+     * Finds the entry that suppresses the specified mutation.
+     *
+     * @param mutation the mutation to check
+     * @return a description of the entry (location and content), or an empty optional if the mutation is not
+     *         suppressed
+     */
+    Optional<String> findRule(final MutationDetails mutation) {
+        return cursor.get().moveTo(mutation.getClassName().asJavaName())
+                .findEntry(mutation)
+                .map(CsvExclusionFilter::describe);
     }
 
-    private boolean mutationNameMatches(final String fqcn, final CsvExclusionEntry entry) {
-        if (entry.mutationName().isEmpty()) {
-            return true;
-        }
-
-        String mutationNameEntry = entry.mutationName().get();
-        String mutationName = fqcn.substring(fqcn.lastIndexOf('.') + 1);
-        String shortMutationName = mutationName.endsWith("Mutator") ? mutationName.substring(0, mutationName.length() - 7) : mutationName;
-        return fqcn.equals(mutationNameEntry) || mutationName.equals(mutationNameEntry) || shortMutationName.equals(mutationNameEntry);
+    private static String describe(final CsvExclusionEntry entry) {
+        String line = String.join(",", entry.className(), entry.mutationName().orElse(""),
+                entry.startLine().map(String::valueOf).orElse(""), entry.endLine().map(String::valueOf).orElse(""));
+        return entry.source().isEmpty() ? line : entry.source() + ": " + line;
     }
 
     @Override
     public void end() {
-        // nothing to do
+        cursor.remove();
+    }
+
+    /**
+     * Holds the rules of the class that is currently analyzed by a thread.
+     */
+    private static final class Cursor {
+        private final ExclusionIndex index;
+        private final SourceFileCache sourceFiles;
+        private String className = "";
+        private ExclusionRules rules = ExclusionRules.EMPTY;
+
+        Cursor(final ExclusionIndex index, final SourceFileCache sourceFiles) {
+            this.index = index;
+            this.sourceFiles = sourceFiles;
+        }
+
+        ExclusionRules moveTo(final String fqcn) {
+            if (!fqcn.equals(className)) {
+                className = fqcn;
+                rules = index.findRules(fqcn, sourceFiles.get(fqcn));
+            }
+            return rules;
+        }
     }
 }
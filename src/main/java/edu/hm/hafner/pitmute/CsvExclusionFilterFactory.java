@@ -8,31 +8,69 @@ import org.pitest.plugin.Feature;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
-import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 /**
- * Factory for creating a {@link CsvExclusionFilter} using exclusion rules defined in a CSV file.
+ * Factory for creating a {@link CsvExclusionFilter} using exclusion rules defined in one or more CSV files.
  *
  * <p>
- * The CSV is parsed and each valid row is mapped to a {@link CsvExclusionEntry}.
+ * The CSV is parsed and each valid row is added to an {@link ExclusionRuleStore.Builder compact store} of entries.
  * These entries are then used to suppress generated PIT mutations according to the configured rules.
  * </p>
  *
  * <p>
  * The path to the CSV file must be specified in the PIT feature configuration within the <code>pom.xml</code>.
+ * The parameter can be repeated, and each value can be a file, a directory (containing CSV files), or a glob
+ * pattern. Several files are parsed in parallel, and the entries of all files are merged without duplicates while
+ * they are parsed.
+ * Compressed files ({@code .gz}, {@code .zip}, and zlib compressed {@code .deflate} files) are decompressed while
+ * they are parsed, so the decompressed content is never held in memory. Only the {@code .csv} and {@code .csv.gz}
+ * entries of a ZIP archive are read.
+ * Optionally, the entries are stored in a {@link SharedExclusionIndex shared index}, so that the files are parsed
+ * only once for all modules of a Maven reactor.
+ * The paths are resolved immediately, so missing files are reported when the filter is created. The files are then
+ * parsed in the background by an {@link AsyncExclusionIndex}. If all files are uncompressed and no shared index is
+ * used, the class names of the entries are collected in a quick first pass, so the filter waits for the entries only
+ * when it needs the entries of a class. Compressed files are not read twice, so the filter waits for all entries.
  * For more information on the expected CSV format, please refer to the project's README file.
  * </p>
+ *
+ * <p>
+ * The factory is stateless, so it can be used by several threads concurrently.
+ * </p>
  */
 public class CsvExclusionFilterFactory implements MutationInterceptorFactory {
     private static final String CSV_SEPARATOR = ",";
+    private static final String CSV_SUFFIX = ".csv";
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final String ZIP_SUFFIX = ".zip";
+    private static final String DEFLATE_SUFFIX = ".deflate";
+    private static final List<String> SUPPORTED_SUFFIXES = List.of(CSV_SUFFIX, CSV_SUFFIX + GZIP_SUFFIX, ZIP_SUFFIX,
+            CSV_SUFFIX + DEFLATE_SUFFIX);
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String GLOB_CHARACTERS = "*?[{";
     private static final int MIN_FIELDS = 4;
+    private static final int MAX_PARSER_THREADS = 4;
+    private static final String REACTOR_ROOT_PROPERTY = "maven.multiModuleProjectDirectory";
+    private static final String SHARED_INDEX_DIRECTORY = "target/pitmute";
     private final Logger logger;
-    private boolean allowMissingFile = false;
 
     /**
      * Creates a {@code CsvExclusionFilterFactory} and initializes the logger.
@@ -54,102 +92,367 @@ public class CsvExclusionFilterFactory implements MutationInterceptorFactory {
 
     @Override
     public MutationInterceptor createInterceptor(final InterceptorParameters params) {
-        String csvPath = params.settings()
-                .flatMap(settings -> settings.getString("csvFile"))
-                .orElse("");
+        List<String> csvPaths = params.settings()
+                .map(settings -> settings.getList("csvFile"))
+                .orElse(List.of())
+                .stream()
+                .filter(path -> path != null && !path.isBlank())
+                .toList();
 
-        allowMissingFile = params.settings()
+        boolean allowMissingFile = params.settings()
                 .flatMap(settings -> settings.getString("allowMissingFile"))
                 .map(Boolean::parseBoolean)
                 .orElse(false);
 
-        if (csvPath.isBlank()) {
+        if (csvPaths.isEmpty()) {
             throw new IllegalStateException("Missing or empty feature parameter \"csvFile\". Please provide the path "
                     + "to a CSV file, e.g. +FCSV(csvFile[src/main/resources/exclusions.csv]).");
         }
-        return new CsvExclusionFilter(getCsvExclusionEntries(csvPath));
+        Optional<Path> sharedIndex = params.settings()
+                .flatMap(settings -> settings.getString("sharedIndex"))
+                .flatMap(CsvExclusionFilterFactory::getSharedIndexDirectory);
+        List<Path> files = resolveFiles(csvPaths, allowMissingFile);
+        Optional<ExplanationWriter> explanations = ExplanationWriter.fromParameters(params);
+        if (sharedIndex.isPresent()) {
+            return new CsvExclusionFilter(new AsyncExclusionIndex(
+                    () -> SharedExclusionIndex.open(sharedIndex.get(), files, () -> loadRules(files).build())),
+                    explanations);
+        }
+        Supplier<ExclusionIndex> loader = () -> new CsvExclusionIndex(loadRules(files));
+        if (files.stream().allMatch(CsvExclusionFilterFactory::isPlainCsvFile)) {
+            return new CsvExclusionFilter(new AsyncExclusionIndex(loader, () -> readClassNames(files)), explanations);
+        }
+        return new CsvExclusionFilter(new AsyncExclusionIndex(loader), explanations);
+    }
+
+    /**
+     * Returns the directory of the shared index. If the value is {@code true}, the directory {@code target/pitmute}
+     * in the root of the Maven reactor is used. If the value is empty or {@code false}, no shared index is used.
+     * Otherwise, the value is the path of the directory.
+     *
+     * @param value the value of the parameter {@code sharedIndex}
+     * @return the directory of the shared index, or an empty optional if no shared index should be used
+     */
+    private static Optional<Path> getSharedIndexDirectory(final String value) {
+        String directory = value.trim();
+        if (directory.isEmpty() || "false".equalsIgnoreCase(directory)) {
+            return Optional.empty();
+        }
+        if ("true".equalsIgnoreCase(directory)) {
+            return Optional.of(Paths.get(System.getProperty(REACTOR_ROOT_PROPERTY, ".")).resolve(SHARED_INDEX_DIRECTORY));
+        }
+        return Optional.of(Paths.get(directory));
     }
 
     List<CsvExclusionEntry> getCsvExclusionEntries(final String csvPath) {
-        List<CsvExclusionEntry> entries = new ArrayList<>();
-        List<String> lines = readLines(csvPath);
+        return getCsvExclusionEntries(List.of(csvPath), false);
+    }
+
+    /**
+     * Reads the entries of all CSV files that are referenced by the specified paths. Each path can be a file, a
+     * directory, or a glob pattern. The files are parsed in parallel, the resulting entries are merged in the order
+     * of the files, duplicate entries are removed (the first occurrence is kept).
+     *
+     * @param csvPaths the paths of the CSV files
+     * @param allowMissingFile determines whether missing files should be skipped or reported as an error
+     * @return the merged entries of all files
+     */
+    List<CsvExclusionEntry> getCsvExclusionEntries(final List<String> csvPaths, final boolean allowMissingFile) {
+        return loadRules(resolveFiles(csvPaths, allowMissingFile)).toEntries();
+    }
+
+    /**
+     * Reads the entries of all CSV files that are referenced by the specified paths into an index, see
+     * {@link #getCsvExclusionEntries(List, boolean)}.
+     *
+     * @param csvPaths the paths of the CSV files
+     * @param allowMissingFile determines whether missing files should be skipped or reported as an error
+     * @return the index with the merged entries of all files
+     */
+    CsvExclusionIndex getCsvExclusionIndex(final List<String> csvPaths, final boolean allowMissingFile) {
+        return new CsvExclusionIndex(loadRules(resolveFiles(csvPaths, allowMissingFile)));
+    }
+
+    private List<Path> resolveFiles(final List<String> csvPaths, final boolean allowMissingFile) {
+        List<Path> files = new ArrayList<>();
+        for (String csvPath : csvPaths) {
+            files.addAll(resolveFiles(csvPath.trim(), allowMissingFile));
+        }
+        return files;
+    }
+
+    private ExclusionRuleStore.Builder loadRules(final List<Path> files) {
+        List<ExclusionRuleStore.Builder> rulesOfFiles = parseFiles(files);
+        if (rulesOfFiles.size() == 1) {
+            return rulesOfFiles.get(0);
+        }
+        ExclusionRuleStore.Builder rules = new ExclusionRuleStore.Builder();
+        for (ExclusionRuleStore.Builder rulesOfFile : rulesOfFiles) {
+            rules.addAll(rulesOfFile);
+        }
+        return rules;
+    }
+
+    private List<Path> resolveFiles(final String csvPath, final boolean allowMissingFile) {
+        if (csvPath.chars().anyMatch(c -> GLOB_CHARACTERS.indexOf(c) >= 0)) {
+            List<Path> matches = findMatchingFiles(csvPath);
+            if (matches.isEmpty()) {
+                return reportMissingFile(csvPath, allowMissingFile);
+            }
+            return matches;
+        }
+
+        Path path = Paths.get(csvPath);
+        if (Files.isDirectory(path)) {
+            return listFiles(path, CsvExclusionFilterFactory::isSupportedFile, csvPath);
+        }
+        if (Files.notExists(path)) {
+            return reportMissingFile(csvPath, allowMissingFile);
+        }
+        return List.of(path);
+    }
+
+    private static boolean isSupportedFile(final Path file) {
+        String fileName = file.getFileName().toString();
+        return SUPPORTED_SUFFIXES.stream().anyMatch(fileName::endsWith);
+    }
+
+    private List<Path> findMatchingFiles(final String pattern) {
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        return listFiles(getBaseDirectory(pattern), matcher::matches, pattern);
+    }
+
+    private static Path getBaseDirectory(final String pattern) {
+        Path base = Paths.get("");
+        for (String segment : pattern.replace('\\', '/').split("/", -1)) {
+            if (segment.chars().anyMatch(c -> GLOB_CHARACTERS.indexOf(c) >= 0)) {
+                break;
+            }
+            base = segment.isEmpty() && base.toString().isEmpty() ? Paths.get("/") : base.resolve(segment);
+        }
+        return base.toString().isEmpty() ? Paths.get(".") : base;
+    }
+
+    private List<Path> listFiles(final Path directory, final PathMatcher filter, final String csvPath) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .map(file -> directory.toString().equals(".") ? directory.relativize(file) : file)
+                    .filter(filter::matches)
+                    .sorted()
+                    .toList();
+        }
+        catch (IOException | UncheckedIOException e) {
+            throw new IllegalStateException("Failed to read CSV file. Please verify that the path is correct "
+                    + "and the directory is readable: " + csvPath, e);
+        }
+    }
+
+    private List<Path> reportMissingFile(final String csvPath, final boolean allowMissingFile) {
+        if (allowMissingFile) {
+            logger.log(Level.INFO,
+                    "Mutation exclusion via CSV is enabled and the path is configured, "
+                            + "but no CSV file was found. "
+                            + "To use this feature, add a CSV file at the specified location: " + csvPath);
+            return List.of();
+        }
+        throw new IllegalStateException("Failed to read CSV file. Please verify that the path is correct "
+                + "and the file exists: " + csvPath);
+    }
+
+    private List<ExclusionRuleStore.Builder> parseFiles(final List<Path> files) {
+        if (files.size() <= 1) {
+            return files.stream().map(this::parseFile).toList();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(files.size(), MAX_PARSER_THREADS));
+        try {
+            List<Future<ExclusionRuleStore.Builder>> results = new ArrayList<>();
+            for (Path file : files) {
+                results.add(executor.submit(() -> parseFile(file)));
+            }
+            List<ExclusionRuleStore.Builder> rules = new ArrayList<>();
+            for (Future<ExclusionRuleStore.Builder> result : results) {
+                rules.add(result.get());
+            }
+            return rules;
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to read CSV files: " + files, e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading CSV files: " + files, e);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ExclusionRuleStore.Builder parseFile(final Path file) {
+        ExclusionRuleStore.Builder entries = new ExclusionRuleStore.Builder();
+        readFile(file, (source, input) -> parseLines(source, input, entries));
+        return entries;
+    }
+
+    private static boolean isPlainCsvFile(final Path file) {
+        return file.getFileName().toString().endsWith(CSV_SUFFIX);
+    }
+
+    /**
+     * Collects the class names of all entries of the specified uncompressed files. The lines are not validated, so
+     * this is much faster than parsing the entries. The result contains the class names of all valid entries, and
+     * possibly some more.
+     *
+     * @param files the uncompressed files to read
+     * @return the class names of the entries
+     */
+    private Set<String> readClassNames(final List<Path> files) {
+        Set<String> classNames = new HashSet<>();
+        for (Path file : files) {
+            readFile(file, (source, input) -> readClassNames(input, classNames));
+        }
+        return classNames;
+    }
+
+    private void readClassNames(final InputStream input, final Set<String> classNames) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            int separator = line.indexOf(CSV_SEPARATOR);
+            String className = (separator < 0 ? line : line.substring(0, separator)).trim();
+            if (!className.isEmpty() && !className.startsWith("#")) {
+                classNames.add(className);
+            }
+        }
+    }
+
+    /**
+     * Opens the specified file and passes the decompressed content to the reader. Archives are passed entry by entry.
+     *
+     * @param file the file to read
+     * @param reader reads the content of the file
+     */
+    private void readFile(final Path file, final ContentReader reader) {
+        String fileName = file.getFileName().toString();
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE)) {
+            if (fileName.endsWith(ZIP_SUFFIX)) {
+                readZipEntries(file, input, reader);
+            }
+            else if (fileName.endsWith(GZIP_SUFFIX)) {
+                reader.read(file.toString(), new GZIPInputStream(input, BUFFER_SIZE));
+            }
+            else if (fileName.endsWith(DEFLATE_SUFFIX)) {
+                reader.read(file.toString(), new InflaterInputStream(input));
+            }
+            else {
+                reader.read(file.toString(), input);
+            }
+        }
+        catch (IOException | UncheckedIOException e) {
+            throw new IllegalStateException("Failed to read CSV file. Please verify that the path is correct "
+                    + "and the file is readable: " + file, e);
+        }
+    }
+
+    private void readZipEntries(final Path file, final InputStream input, final ContentReader reader)
+            throws IOException {
+        ZipInputStream zip = new ZipInputStream(input, StandardCharsets.UTF_8);
+        for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+            String name = entry.getName();
+            if (entry.isDirectory()) {
+                continue;
+            }
+            if (name.endsWith(CSV_SUFFIX)) {
+                reader.read(file + "!" + name, zip);
+            }
+            else if (name.endsWith(CSV_SUFFIX + GZIP_SUFFIX)) {
+                reader.read(file + "!" + name, new GZIPInputStream(zip, BUFFER_SIZE));
+            }
+            else {
+                logger.log(Level.FINE, "Skipping entry {1} in {0}: only CSV files are read",
+                        new Object[] {file, name});
+            }
+        }
+    }
+
+    /**
+     * Parses the lines of the specified stream one by one. Each valid line is added to the builder immediately, so
+     * no objects are created for the parsed entries. The stream is not closed.
+     *
+     * @param source the name of the source that is used in warnings and as location of the entries
+     * @param input the stream to read the lines from
+     * @param entries the builder to add the parsed entries to
+     * @throws IOException if the stream cannot be read
+     */
+    private void parseLines(final String source, final InputStream input, final ExclusionRuleStore.Builder entries)
+            throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
         int lineNumber = 0;
 
-        for (String line : lines) {
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            lineNumber++;
             if (line.isBlank() || line.trim().startsWith("#")) {
                 continue;
             }
 
             String[] fields = line.split(CSV_SEPARATOR, -1);
             if (fields.length > MIN_FIELDS) {
-                logger.log(Level.WARNING, "Skipping invalid line {0}: it contains too many fields. "
+                logger.log(Level.WARNING, "Skipping invalid line {1} in {0}: it contains too many fields. "
                         + "A line may contain a maximum of four fields (className, mutator (optional), "
-                        + "startLine (optional), endLine (optional)).", lineNumber);
+                        + "startLine (optional), endLine (optional)).", new Object[] {source, lineNumber});
                 continue;
             }
             fields = Arrays.copyOf(fields, MIN_FIELDS);
 
-            lineNumber++;
-            Optional<String> classNameOptional = normalize(fields[0]);
-            if (classNameOptional.isEmpty()) {
-                logger.log(Level.WARNING, "Skipping line because class name is missing: {0}", lineNumber);
+            String className = normalize(fields[0]);
+            if (className.isEmpty()) {
+                logger.log(Level.WARNING, "Skipping line {1} in {0} because class name is missing",
+                        new Object[] {source, lineNumber});
                 continue;
             }
 
             try {
-                entries.add(new CsvExclusionEntry(
-                        classNameOptional.get(),
-                        normalize(fields[1]),
-                        tryParseInteger(fields[2]),
-                        tryParseInteger(fields[3])
-                ));
+                entries.add(className, normalize(fields[1]),
+                        parseInteger(fields[2], ExclusionRuleStore.UNSET_START),
+                        parseInteger(fields[3], ExclusionRuleStore.UNSET_END),
+                        source, lineNumber);
             }
             catch (IllegalArgumentException e) {
-                logger.log(Level.WARNING, "Skipping invalid line: {0}", lineNumber);
+                logger.log(Level.WARNING, "Skipping invalid line {1} in {0}: {2}",
+                        new Object[] {source, lineNumber, e.getMessage()});
             }
         }
-        return entries;
     }
 
-    private List<String> readLines(final String csvPath) {
-        try {
-            return Files.readAllLines(Paths.get(csvPath), StandardCharsets.UTF_8);
-        }
-        catch (NoSuchFileException e) {
-            if (allowMissingFile) {
-                logger.log(Level.INFO,
-                        "Mutation exclusion via CSV is enabled and the path is configured, "
-                                + "but no CSV file was found. "
-                                + "To use this feature, add a CSV file at the specified location: ");
-                return List.of();
-            }
-            else {
-                throw new IllegalStateException("Failed to read CSV file. Please verify that the path is correct "
-                        + "and the file exists: " + csvPath, e);
-            }
-        }
-        catch (IOException e) {
-            throw new IllegalStateException("Failed to read CSV file. Please verify that the path is correct "
-                    + "and the file is readable: " + csvPath, e);
-        }
+    private String normalize(final String string) {
+        return string == null ? "" : string.trim();
     }
 
-    private Optional<String> normalize(final String string) {
-        return (string == null || string.isBlank()) ? Optional.empty() : Optional.of(string.trim());
-    }
-
-    private Optional<Integer> tryParseInteger(final String string) {
+    private int parseInteger(final String string, final int defaultValue) {
         if (string == null || string.isBlank()) {
-            return Optional.empty();
+            return defaultValue;
         }
         try {
-            return Optional.of(Integer.parseInt(string.trim()));
+            return Integer.parseInt(string.trim());
         }
         catch (NumberFormatException e) {
             throw new IllegalArgumentException("Invalid integer: " + string, e);
         }
     }
 
+    /**
+     * Reads the decompressed content of a CSV file or of an archive entry. The stream must not be closed.
+     */
+    @FunctionalInterface
+    private interface ContentReader {
+        void read(String source, InputStream input) throws IOException;
+    }
+
     @Override
     public Feature provides() {
         return Feature.named("FCSV")
@@ -0,0 +1,82 @@
+package edu.hm.hafner.pitmute;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable index of {@link CsvExclusionEntry} entries, grouped by the class names the entries refer to.
+ * The entries are kept in an {@link ExclusionRuleStore}, grouped by their class names, so the entries of each class
+ * name are a consecutive range of rows. Duplicate entries are removed. The index can be shared by several threads.
+ */
+final class CsvExclusionIndex implements ExclusionIndex {
+    private final ExclusionRuleStore store;
+    private final Map<String, Integer> classNameIds;
+    private final int[] offsets;
+
+    /**
+     * Creates an index for the specified entries.
+     *
+     * @param entries the entries to index
+     */
+    CsvExclusionIndex(final List<CsvExclusionEntry> entries) {
+        this(new ExclusionRuleStore.Builder().addAll(entries));
+    }
+
+    /**
+     * Creates an index for the entries of the specified builder.
+     *
+     * @param entries the builder with the entries to index
+     */
+    CsvExclusionIndex(final ExclusionRuleStore.Builder entries) {
+        store = entries.build();
+
+        int classCount = store.getClassCount();
+        offsets = new int[classCount + 1];
+        for (int row = 0; row < store.size(); row++) {
+            offsets[store.getClassId(row) + 1]++;
+        }
+        Map<String, Integer> ids = new HashMap<>();
+        for (int id = 0; id < classCount; id++) {
+            offsets[id + 1] += offsets[id];
+            ids.put(store.getClassNameById(id), id);
+        }
+        classNameIds = Map.copyOf(ids);
+    }
+
+    ExclusionRuleStore getStore() {
+        return store;
+    }
+
+    @Override
+    public ExclusionRules findRules(final String fqcn, final String sourceFile) {
+        String simpleName = fqcn.substring(fqcn.lastIndexOf('.') + 1);
+
+        int[] ranges = new int[6];
+        int length = addRange(ranges, 0, fqcn);
+        if (!simpleName.equals(fqcn)) {
+            length = addRange(ranges, length, simpleName);
+        }
+        length = addRange(ranges, length, sourceFile);
+        if (length == 0) {
+            return ExclusionRules.EMPTY;
+        }
+        return new ExclusionRules(store, Arrays.copyOf(ranges, length));
+    }
+
+    private int addRange(final int[] ranges, final int length, final String className) {
+        Integer id = classNameIds.get(className);
+        if (id == null) {
+            return length;
+        }
+        ranges[length] = offsets[id];
+        ranges[length + 1] = offsets[id + 1];
+        return length + 2;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return classNameIds.isEmpty();
+    }
+}
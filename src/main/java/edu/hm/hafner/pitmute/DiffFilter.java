@@ -0,0 +1,89 @@
+package edu.hm.hafner.pitmute;
+
+import org.objectweb.asm.tree.ClassNode;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Filters all mutations that are not part of the {@link ChangedLines changed lines}. So only the code that has been
+ * changed (e.g., in a pull request) is mutated. For more information, please see the README.
+ *
+ * <p>
+ * The source file of a class is resolved using the {@code SourceFile} attribute of the class file and the package of
+ * the class. In {@link #begin(ClassTree)} the changed lines of this file are stored in a per-thread cursor. Classes
+ * without changes are detected with a single lookup, all of their mutations are removed. So a single instance of this
+ * filter can be used by several threads concurrently.
+ * </p>
+ */
+public class DiffFilter implements MutationInterceptor {
+    private final ChangedLines changedLines;
+    private final ThreadLocal<ChangedClass> currentClass = new ThreadLocal<>();
+
+    DiffFilter(final ChangedLines changedLines) {
+        this.changedLines = changedLines;
+    }
+
+    @Override
+    public InterceptorType type() {
+        return InterceptorType.FILTER;
+    }
+
+    @Override
+    public void begin(final ClassTree classTree) {
+        currentClass.set(new ChangedClass(classTree.name().asJavaName(), changedLines.find(getSourcePath(classTree))));
+    }
+
+    /**
+     * Returns the path of the source file of the specified class relative to the source folder. If the class file
+     * has no {@code SourceFile} attribute, a Java source file with the name of the top-level class is assumed.
+     *
+     * @param classTree the class
+     * @return the path of the source file
+     */
+    static String getSourcePath(final ClassTree classTree) {
+        String internalName = classTree.name().asInternalName();
+        int packageEnd = internalName.lastIndexOf('/');
+        String packagePath = internalName.substring(0, packageEnd + 1);
+
+        ClassNode classNode = classTree.rawNode();
+        if (classNode != null && classNode.sourceFile != null) {
+            return packagePath + classNode.sourceFile;
+        }
+        String simpleName = internalName.substring(packageEnd + 1);
+        int nested = simpleName.indexOf('$');
+        return packagePath + (nested > 0 ? simpleName.substring(0, nested) : simpleName) + ".java";
+    }
+
+    @Override
+    public Collection<MutationDetails> intercept(final Collection<MutationDetails> mutations, final Mutater mutater) {
+        ChangedClass changedClass = currentClass.get();
+        if (changedClass == null) {
+            return new ArrayList<>(mutations);
+        }
+        if (changedClass.lines().isEmpty()) {
+            return List.of();
+        }
+        return mutations.stream().filter(changedClass::contains).collect(Collectors.toList());
+    }
+
+    @Override
+    public void end() {
+        currentClass.remove();
+    }
+
+    private record ChangedClass(String className, Optional<LineIntervals> lines) {
+        boolean contains(final MutationDetails mutation) {
+            return !className.equals(mutation.getClassName().asJavaName())
+                    || lines.orElseThrow().contains(mutation.getLineNumber());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Factory for creating a {@link DiffFilter} instance that removes all mutations outside the changed lines.
+ *
+ * <p>
+ * For details on usage and configuration, please refer to the project's README.
+ * </p>
+ */
+public class DiffFilterFactory implements MutationInterceptorFactory {
+    @Override
+    public MutationInterceptor createInterceptor(final InterceptorParameters params) {
+        Optional<FeatureSetting> settings = params.settings();
+        List<String> diffs = getPaths(settings, "diff");
+        List<String> changeLists = getPaths(settings, "changes");
+        if (diffs.isEmpty() && changeLists.isEmpty()) {
+            throw new IllegalStateException("Missing or empty feature parameter \"diff\" or \"changes\". Please "
+                    + "provide the path to a unified diff or a list of changed lines, e.g. +FDIFF(diff[target/pr.diff]).");
+        }
+
+        ChangedLines.Builder builder = new ChangedLines.Builder();
+        for (String diff : diffs) {
+            try (BufferedReader reader = open(diff)) {
+                builder.addUnifiedDiff(reader);
+            }
+            catch (IOException | IllegalArgumentException e) {
+                throw new IllegalStateException("Failed to read diff file: " + diff, e);
+            }
+        }
+        for (String changeList : changeLists) {
+            try (BufferedReader reader = open(changeList)) {
+                builder.addChangeList(reader);
+            }
+            catch (IOException | IllegalArgumentException e) {
+                throw new IllegalStateException("Failed to read list of changed lines: " + changeList, e);
+            }
+        }
+        return new DiffFilter(builder.build());
+    }
+
+    private List<String> getPaths(final Optional<FeatureSetting> settings, final String name) {
+        return settings.map(setting -> setting.getList(name))
+                .orElse(List.of())
+                .stream()
+                .filter(path -> path != null && !path.isBlank())
+                .map(String::trim)
+                .toList();
+    }
+
+    private BufferedReader open(final String path) throws IOException {
+        Path file = Paths.get(path);
+        if (!Files.isRegularFile(file)) {
+            throw new IOException("File not found: " + path);
+        }
+        return Files.newBufferedReader(file, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("FDIFF")
+                .withDescription("Mutate only the lines of a diff")
+                .withOnByDefault(false);
+    }
+
+    @Override
+    public String description() {
+        return "Mutate only the lines of a diff";
+    }
+}
@@ -0,0 +1,49 @@
+package edu.hm.hafner.pitmute;
+
+import java.util.List;
+
+/**
+ * An index of {@link CsvExclusionEntry} entries that finds the entries of a class. Implementations must be safe for
+ * use by several threads.
+ */
+interface ExclusionIndex {
+    /**
+     * Returns all entries that refer to the specified class. An entry refers to a class if its class name is the
+     * fully qualified name of the class, the simple name of the class, or the name of the source file the class has
+     * been compiled from.
+     *
+     * @param fqcn the fully qualified name of the class
+     * @param sourceFile the name of the source file of the class, e.g., {@code Main.java}
+     * @return the entries for the class
+     */
+    ExclusionRules findRules(String fqcn, String sourceFile);
+
+    /**
+     * Returns all entries that refer to the specified class, see {@link #findRules(String, String)}. The source file
+     * is derived from the class name, see {@link SourceFileCache#getDefaultSourceFile(String)}.
+     *
+     * @param fqcn the fully qualified name of the class
+     * @return the entries for the class
+     */
+    default ExclusionRules findRules(final String fqcn) {
+        return findRules(fqcn, SourceFileCache.getDefaultSourceFile(fqcn));
+    }
+
+    /**
+     * Returns all entries that refer to the specified class as {@link CsvExclusionEntry} instances, see
+     * {@link #findRules(String)}.
+     *
+     * @param fqcn the fully qualified name of the class
+     * @return the entries for the class
+     */
+    default List<CsvExclusionEntry> findEntries(final String fqcn) {
+        return findRules(fqcn).toEntries();
+    }
+
+    /**
+     * Returns whether this index has no entries at all.
+     *
+     * @return {@code true} if this index is empty, {@code false} otherwise
+     */
+    boolean isEmpty();
+}
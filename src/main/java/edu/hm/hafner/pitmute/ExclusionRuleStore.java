@@ -0,0 +1,477 @@
+package edu.hm.hafner.pitmute;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A compact, immutable store of {@link CsvExclusionEntry} entries. Instead of one object per entry, the store keeps
+ * the fields of all entries in parallel columns of primitive integers:
+ *
+ * <ul>
+ *     <li>the class name and the mutator name as ids of interned names,</li>
+ *     <li>the start line and the end line, using {@link Integer#MIN_VALUE} and {@link Integer#MAX_VALUE} as sentinels
+ *     for a missing start line or end line, so a line can be checked without any branches,</li>
+ *     <li>the location of the entry as id of the interned file name and the line number in this file.</li>
+ * </ul>
+ *
+ * <p>
+ * So each entry costs 24 bytes. Stores with more than {@link #DIRECT_BUFFER_THRESHOLD} entries allocate their
+ * columns in direct buffers outside the Java heap. The mutator names are resolved once into
+ * {@link MutatorRegistry.Selection selections}, so a mutator is matched by its id. The store can be shared by several
+ * threads.
+ * </p>
+ *
+ * <p>
+ * While the CSV files are parsed, the entries are passed one by one to a {@link Builder} that removes duplicates and
+ * fills the columns directly, so no {@link CsvExclusionEntry} instances are created for the parsed rows.
+ * </p>
+ */
+final class ExclusionRuleStore {
+    /** The number of entries above which the columns are allocated outside the Java heap. */
+    static final int DIRECT_BUFFER_THRESHOLD = 1 << 20;
+
+    /** The start line of an entry without start line. */
+    static final int UNSET_START = Integer.MIN_VALUE;
+    /** The end line of an entry without end line. */
+    static final int UNSET_END = Integer.MAX_VALUE;
+
+    private static final int ANY_MUTATOR = -1;
+    private static final int NO_SOURCE = -1;
+    private static final int NO_LINE = -1;
+
+    private final int size;
+    private final boolean direct;
+    private final IntBuffer classIds;
+    private final IntBuffer mutatorIds;
+    private final IntBuffer startLines;
+    private final IntBuffer endLines;
+    private final IntBuffer sourceIds;
+    private final IntBuffer sourceLines;
+    private final String[] classNames;
+    private final String[] mutatorNames;
+    private final MutatorRegistry.Selection[] selections;
+    private final String[] sourceFiles;
+
+    /**
+     * Creates a store for the specified entries. The entries keep their order.
+     *
+     * @param entries the entries to store
+     */
+    ExclusionRuleStore(final List<CsvExclusionEntry> entries) {
+        this(entries, DIRECT_BUFFER_THRESHOLD);
+    }
+
+    /**
+     * Creates a store for the specified entries. The entries keep their order.
+     *
+     * @param entries the entries to store
+     * @param directBufferThreshold the number of entries above which the columns are allocated outside the Java heap
+     */
+    ExclusionRuleStore(final List<CsvExclusionEntry> entries, final int directBufferThreshold) {
+        this(new Builder(false).addAll(entries), false, directBufferThreshold);
+    }
+
+    private ExclusionRuleStore(final Builder builder, final boolean grouped, final int directBufferThreshold) {
+        size = builder.size;
+        direct = size > directBufferThreshold;
+        classIds = allocate(size, direct);
+        mutatorIds = allocate(size, direct);
+        startLines = allocate(size, direct);
+        endLines = allocate(size, direct);
+        sourceIds = allocate(size, direct);
+        sourceLines = allocate(size, direct);
+
+        int[] order = grouped ? builder.groupByClassName() : null;
+        for (int row = 0; row < size; row++) {
+            int offset = (order == null ? row : order[row]) * Builder.WIDTH;
+            classIds.put(row, builder.rows[offset + Builder.CLASS]);
+            mutatorIds.put(row, builder.rows[offset + Builder.MUTATOR]);
+            startLines.put(row, builder.rows[offset + Builder.START]);
+            endLines.put(row, builder.rows[offset + Builder.END]);
+            sourceIds.put(row, builder.rows[offset + Builder.SOURCE]);
+            sourceLines.put(row, builder.rows[offset + Builder.SOURCE_LINE]);
+        }
+        classNames = builder.classNameTable.toArray();
+        mutatorNames = builder.mutatorNameTable.toArray();
+        sourceFiles = builder.sourceFileTable.toArray();
+
+        MutatorRegistry registry = MutatorRegistry.shared();
+        selections = new MutatorRegistry.Selection[mutatorNames.length];
+        for (int i = 0; i < mutatorNames.length; i++) {
+            selections[i] = registry.select(mutatorNames[i]);
+        }
+    }
+
+    private static IntBuffer allocate(final int size, final boolean direct) {
+        if (direct) {
+            return ByteBuffer.allocateDirect(size * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+        }
+        return IntBuffer.allocate(size);
+    }
+
+    private static boolean isNumber(final String value) {
+        if (value.isEmpty() || value.length() > 9) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isDirect() {
+        return direct;
+    }
+
+    int getClassCount() {
+        return classNames.length;
+    }
+
+    /**
+     * Returns the id of the class name of the specified entry. The ids are consecutive numbers starting with 0.
+     *
+     * @param row the index of the entry
+     * @return the id of the class name
+     */
+    int getClassId(final int row) {
+        return classIds.get(row);
+    }
+
+    /**
+     * Returns the class name with the specified id.
+     *
+     * @param classId the id of the class name
+     * @return the class name
+     */
+    String getClassNameById(final int classId) {
+        return classNames[classId];
+    }
+
+    /**
+     * Returns the class name of the specified entry.
+     *
+     * @param row the index of the entry
+     * @return the class name
+     */
+    String getClassName(final int row) {
+        return classNames[classIds.get(row)];
+    }
+
+    /**
+     * Returns whether the specified entry suppresses a mutation. The class of the mutation is not checked.
+     *
+     * @param row the index of the entry
+     * @param mutatorId the {@link MutatorRegistry id} of the mutator
+     * @param fqcn the fully qualified class name of the mutator
+     * @param line the line of the mutation
+     * @return {@code true} if the mutation is suppressed, {@code false} otherwise
+     */
+    boolean suppresses(final int row, final int mutatorId, final String fqcn, final int line) {
+        if (line < startLines.get(row) || line > endLines.get(row)) {
+            return false;
+        }
+        int mutator = mutatorIds.get(row);
+        return mutator == ANY_MUTATOR || selections[mutator].contains(mutatorId, fqcn);
+    }
+
+    /**
+     * Returns the specified entry as {@link CsvExclusionEntry} instance.
+     *
+     * @param row the index of the entry
+     * @return the entry
+     */
+    CsvExclusionEntry getEntry(final int row) {
+        int mutator = mutatorIds.get(row);
+        int start = startLines.get(row);
+        int end = endLines.get(row);
+        return new CsvExclusionEntry(getClassName(row),
+                mutator == ANY_MUTATOR ? Optional.empty() : Optional.of(mutatorNames[mutator]),
+                start == UNSET_START ? Optional.empty() : Optional.of(start),
+                end == UNSET_END ? Optional.empty() : Optional.of(end),
+                getSource(row));
+    }
+
+    private String getSource(final int row) {
+        int file = sourceIds.get(row);
+        if (file == NO_SOURCE) {
+            return "";
+        }
+        int line = sourceLines.get(row);
+        return line == NO_LINE ? sourceFiles[file] : sourceFiles[file] + ":" + line;
+    }
+
+    /**
+     * Collects the entries of a store one by one. Each entry is split into its columns immediately, so no object is
+     * created per entry. Entries that differ only in their location are added just once, the first occurrence is kept.
+     */
+    static final class Builder {
+        private static final int CLASS = 0;
+        private static final int MUTATOR = 1;
+        private static final int START = 2;
+        private static final int END = 3;
+        private static final int SOURCE = 4;
+        private static final int SOURCE_LINE = 5;
+        private static final int WIDTH = 6;
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final boolean unique;
+        private final Interner classNameTable = new Interner();
+        private final Interner mutatorNameTable = new Interner();
+        private final Interner sourceFileTable = new Interner();
+        private int[] rows = new int[INITIAL_CAPACITY * WIDTH];
+        private int size;
+        private int[] slots = new int[INITIAL_CAPACITY * 2]; // open addressing table of row + 1, 0 is a free slot
+
+        /**
+         * Creates a builder that skips duplicate entries.
+         */
+        Builder() {
+            this(true);
+        }
+
+        private Builder(final boolean unique) {
+            this.unique = unique;
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Adds the specified entry.
+         *
+         * @param className the class name or file name of the entry
+         * @param mutatorName the name of the mutator, or an empty string for all mutators
+         * @param startLine the start line, or {@link #UNSET_START} if the entry has no start line
+         * @param endLine the end line, or {@link #UNSET_END} if the entry has no end line
+         * @param sourceFile the file that defines the entry, or an empty string if the location is unknown
+         * @param sourceLine the line in the file that defines the entry, or -1 if the line is unknown
+         * @return {@code true} if the entry has been added, {@code false} if it is a duplicate
+         */
+        boolean add(final String className, final String mutatorName, final int startLine, final int endLine,
+                final String sourceFile, final int sourceLine) {
+            return add(classNameTable.intern(className),
+                    mutatorName.isEmpty() ? ANY_MUTATOR : mutatorNameTable.intern(mutatorName),
+                    startLine, endLine,
+                    sourceFile.isEmpty() ? NO_SOURCE : sourceFileTable.intern(sourceFile), sourceLine);
+        }
+
+        /**
+         * Adds the specified entry, see {@link #add(String, String, int, int, String, int)}.
+         *
+         * @param className the class name or file name of the entry
+         * @param mutatorName the name of the mutator, or an empty string for all mutators
+         * @param startLine the start line, or {@link #UNSET_START} if the entry has no start line
+         * @param endLine the end line, or {@link #UNSET_END} if the entry has no end line
+         * @param source the location of the entry (file and line), or an empty string if the location is unknown
+         * @return {@code true} if the entry has been added, {@code false} if it is a duplicate
+         */
+        boolean add(final String className, final String mutatorName, final int startLine, final int endLine,
+                final String source) {
+            int separator = source.lastIndexOf(':');
+            if (separator > 0 && isNumber(source.substring(separator + 1))) {
+                return add(className, mutatorName, startLine, endLine, source.substring(0, separator),
+                        Integer.parseInt(source.substring(separator + 1)));
+            }
+            return add(className, mutatorName, startLine, endLine, source, NO_LINE);
+        }
+
+        /**
+         * Adds the specified entries.
+         *
+         * @param entries the entries to add
+         * @return this builder
+         */
+        Builder addAll(final List<CsvExclusionEntry> entries) {
+            for (CsvExclusionEntry entry : entries) {
+                add(entry.className(), entry.mutationName().orElse(""), entry.startLine().orElse(UNSET_START),
+                        entry.endLine().orElse(UNSET_END), entry.source());
+            }
+            return this;
+        }
+
+        /**
+         * Adds the entries of the specified builder.
+         *
+         * @param other the builder with the entries to add
+         * @return this builder
+         */
+        Builder addAll(final Builder other) {
+            int[] classMap = intern(classNameTable, other.classNameTable.toArray());
+            int[] mutatorMap = intern(mutatorNameTable, other.mutatorNameTable.toArray());
+            int[] sourceMap = intern(sourceFileTable, other.sourceFileTable.toArray());
+            for (int offset = 0; offset < other.size * WIDTH; offset += WIDTH) {
+                int[] row = other.rows;
+                add(classMap[row[offset + CLASS]], map(mutatorMap, row[offset + MUTATOR]),
+                        row[offset + START], row[offset + END],
+                        map(sourceMap, row[offset + SOURCE]), row[offset + SOURCE_LINE]);
+            }
+            return this;
+        }
+
+        /**
+         * Adds the entries of the specified store.
+         *
+         * @param store the store with the entries to add
+         * @return this builder
+         */
+        Builder addAll(final ExclusionRuleStore store) {
+            int[] classMap = intern(classNameTable, store.classNames);
+            int[] mutatorMap = intern(mutatorNameTable, store.mutatorNames);
+            int[] sourceMap = intern(sourceFileTable, store.sourceFiles);
+            for (int row = 0; row < store.size; row++) {
+                add(classMap[store.classIds.get(row)], map(mutatorMap, store.mutatorIds.get(row)),
+                        store.startLines.get(row), store.endLines.get(row),
+                        map(sourceMap, store.sourceIds.get(row)), store.sourceLines.get(row));
+            }
+            return this;
+        }
+
+        private static int[] intern(final Interner table, final String[] values) {
+            int[] ids = new int[values.length];
+            for (int i = 0; i < values.length; i++) {
+                ids[i] = table.intern(values[i]);
+            }
+            return ids;
+        }
+
+        private static int map(final int[] ids, final int id) {
+            return id < 0 ? id : ids[id];
+        }
+
+        private boolean add(final int classId, final int mutatorId, final int startLine, final int endLine,
+                final int sourceId, final int sourceLine) {
+            int slot = -1;
+            if (unique) {
+                slot = findSlot(classId, mutatorId, startLine, endLine);
+                if (slots[slot] != 0) {
+                    return false;
+                }
+            }
+            if ((size + 1) * WIDTH > rows.length) {
+                rows = Arrays.copyOf(rows, rows.length * 2);
+            }
+            int offset = size * WIDTH;
+            rows[offset + CLASS] = classId;
+            rows[offset + MUTATOR] = mutatorId;
+            rows[offset + START] = startLine;
+            rows[offset + END] = endLine;
+            rows[offset + SOURCE] = sourceId;
+            rows[offset + SOURCE_LINE] = sourceLine;
+            size++;
+
+            if (unique) {
+                slots[slot] = size;
+                if (size * 2 > slots.length) {
+                    rehash();
+                }
+            }
+            return true;
+        }
+
+        private int findSlot(final int classId, final int mutatorId, final int startLine, final int endLine) {
+            int hash = ((classId * 31 + mutatorId) * 31 + startLine) * 31 + endLine;
+            int mask = slots.length - 1;
+            int slot = (hash ^ hash >>> 16) & mask;
+            while (slots[slot] != 0) {
+                int offset = (slots[slot] - 1) * WIDTH;
+                if (rows[offset + CLASS] == classId && rows[offset + MUTATOR] == mutatorId
+                        && rows[offset + START] == startLine && rows[offset + END] == endLine) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void rehash() {
+            slots = new int[slots.length * 2];
+            for (int row = 0; row < size; row++) {
+                int offset = row * WIDTH;
+                slots[findSlot(rows[offset + CLASS], rows[offset + MUTATOR], rows[offset + START],
+                        rows[offset + END])] = row + 1;
+            }
+        }
+
+        /**
+         * Returns the order of the entries grouped by class name. The groups are sorted by the first occurrence of
+         * their class names, the entries of a group keep their order.
+         *
+         * @return the indexes of the entries in grouped order
+         */
+        private int[] groupByClassName() {
+            int[] offsets = new int[classNameTable.size() + 1];
+            for (int row = 0; row < size; row++) {
+                offsets[rows[row * WIDTH + CLASS] + 1]++;
+            }
+            for (int i = 1; i < offsets.length; i++) {
+                offsets[i] += offsets[i - 1];
+            }
+            int[] order = new int[size];
+            for (int row = 0; row < size; row++) {
+                order[offsets[rows[row * WIDTH + CLASS]]++] = row;
+            }
+            return order;
+        }
+
+        /**
+         * Creates a store with the added entries. The entries are grouped by class name, so the entries of each class
+         * name are a consecutive range of rows with ascending {@link #getClassId(int) class ids}.
+         *
+         * @return the created store
+         */
+        ExclusionRuleStore build() {
+            return new ExclusionRuleStore(this, true, DIRECT_BUFFER_THRESHOLD);
+        }
+
+        /**
+         * Returns the added entries as {@link CsvExclusionEntry} instances in the order they have been added.
+         *
+         * @return the entries
+         */
+        List<CsvExclusionEntry> toEntries() {
+            ExclusionRuleStore store = new ExclusionRuleStore(this, false, DIRECT_BUFFER_THRESHOLD);
+            List<CsvExclusionEntry> entries = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                entries.add(store.getEntry(row));
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * Assigns consecutive ids to distinct strings.
+     */
+    private static final class Interner {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int intern(final String value) {
+            return ids.computeIfAbsent(value, key -> {
+                values.add(key);
+                return values.size() - 1;
+            });
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        String[] toArray() {
+            return values.toArray(new String[0]);
+        }
+    }
+}
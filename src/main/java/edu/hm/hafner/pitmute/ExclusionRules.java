@@ -0,0 +1,86 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.mutationtest.engine.MutationDetails;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The entries of an {@link ExclusionRuleStore} that refer to a single class. The entries are selected by ranges of
+ * rows of the store, so no entries are copied. Instances are immutable.
+ */
+final class ExclusionRules {
+    static final ExclusionRules EMPTY = new ExclusionRules(new ExclusionRuleStore(List.of()), new int[0]);
+
+    private final ExclusionRuleStore store;
+    private final int[] ranges;
+
+    /**
+     * Creates a new view of some entries of the specified store.
+     *
+     * @param store the store with the entries
+     * @param ranges pairs of the first row (inclusive) and the last row (exclusive) of each range of entries
+     */
+    ExclusionRules(final ExclusionRuleStore store, final int[] ranges) {
+        this.store = store;
+        this.ranges = ranges;
+    }
+
+    boolean isEmpty() {
+        return ranges.length == 0;
+    }
+
+    /**
+     * Returns whether one of the entries suppresses the specified mutation.
+     *
+     * @param mutation the mutation to check
+     * @return {@code true} if the mutation is suppressed, {@code false} otherwise
+     */
+    boolean suppresses(final MutationDetails mutation) {
+        return findRow(mutation) >= 0;
+    }
+
+    /**
+     * Finds the first entry that suppresses the specified mutation.
+     *
+     * @param mutation the mutation to check
+     * @return the entry that suppresses the mutation, or an empty optional if the mutation is not suppressed
+     */
+    Optional<CsvExclusionEntry> findEntry(final MutationDetails mutation) {
+        int row = findRow(mutation);
+        return row < 0 ? Optional.empty() : Optional.of(store.getEntry(row));
+    }
+
+    private int findRow(final MutationDetails mutation) {
+        if (ranges.length == 0) {
+            return -1;
+        }
+        String fqcn = mutation.getMutator();
+        int mutatorId = MutatorRegistry.shared().getId(fqcn);
+        int line = mutation.getLineNumber();
+        for (int i = 0; i < ranges.length; i += 2) {
+            for (int row = ranges[i]; row < ranges[i + 1]; row++) {
+                if (store.suppresses(row, mutatorId, fqcn, line)) {
+                    return row;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the entries as {@link CsvExclusionEntry} instances.
+     *
+     * @return the entries
+     */
+    List<CsvExclusionEntry> toEntries() {
+        List<CsvExclusionEntry> entries = new ArrayList<>();
+        for (int i = 0; i < ranges.length; i += 2) {
+            for (int row = ranges[i]; row < ranges[i + 1]; row++) {
+                entries.add(store.getEntry(row));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,207 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.plugin.FeatureSetting;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes an explanation for each suppressed mutation to a file. Each explanation is written as a single JSON object
+ * in a separate line (NDJSON). The records are handed over to a background thread using a bounded queue, so the
+ * explanations are never collected in memory. All filters that use the same file share a single writer. A closed
+ * writer ignores all further records, and so does a writer that failed to write the file.
+ */
+final class ExplanationWriter {
+    private static final Logger LOGGER = Logger.getLogger(ExplanationWriter.class.getName());
+    private static final Map<Path, ExplanationWriter> WRITERS = new ConcurrentHashMap<>();
+    private static final Set<Path> WRITTEN_FILES = ConcurrentHashMap.newKeySet();
+    private static final int QUEUE_CAPACITY = 8192;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final Path file;
+    private final BlockingQueue<String> records = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread consumer;
+    private final Thread shutdownHook = new Thread(this::close);
+    private volatile boolean closed;
+
+    /**
+     * Returns the writer for the file that is configured by the feature parameter {@code explain}. If this parameter
+     * is not set, explanations are disabled.
+     *
+     * @param params the parameters of the filter
+     * @return the writer, or an empty optional if explanations are disabled
+     */
+    static Optional<ExplanationWriter> fromParameters(final InterceptorParameters params) {
+        return fromSettings(params.settings());
+    }
+
+    /**
+     * Returns the writer for the file that is configured by the feature parameter {@code explain}. If this parameter
+     * is not set, explanations are disabled.
+     *
+     * @param settings the settings of the feature
+     * @return the writer, or an empty optional if explanations are disabled
+     */
+    static Optional<ExplanationWriter> fromSettings(final Optional<FeatureSetting> settings) {
+        return settings
+                .flatMap(setting -> setting.getString("explain"))
+                .filter(path -> !path.isBlank())
+                .map(path -> forFile(Path.of(path.trim())));
+    }
+
+    /**
+     * Returns the writer for the specified file. The writer is created when it is requested for the first time or
+     * after the previous writer of the file has been closed. The file is truncated only by the first writer of this
+     * JVM, all subsequent writers append to the file.
+     *
+     * @param file the file to write the explanations to
+     * @return the writer for the file
+     */
+    static ExplanationWriter forFile(final Path file) {
+        return WRITERS.computeIfAbsent(file.toAbsolutePath().normalize(), ExplanationWriter::new);
+    }
+
+    private ExplanationWriter(final Path file) {
+        this.file = file;
+
+        BufferedWriter writer = createWriter(file);
+        consumer = new Thread(() -> writeRecords(writer), "pitmute-explanation-writer");
+        consumer.setDaemon(true);
+        consumer.start();
+
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    private static BufferedWriter createWriter(final Path file) {
+        try {
+            Path parent = file.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            if (WRITTEN_FILES.add(file)) {
+                return Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            }
+            return Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("Failed to create the explanation file: " + file, e);
+        }
+    }
+
+    /**
+     * Writes the explanation for a suppressed mutation. Blocks if the background thread is too far behind. If the
+     * writer has been closed or has failed, the explanation is ignored.
+     *
+     * @param filter the name of the filter that suppressed the mutation
+     * @param mutation the suppressed mutation
+     * @param rule the description of the rule that suppressed the mutation
+     */
+    void write(final String filter, final MutationDetails mutation, final String rule) {
+        if (closed) {
+            return;
+        }
+        String line = "{\"filter\":" + quote(filter)
+                + ",\"class\":" + quote(mutation.getClassName().asJavaName())
+                + ",\"method\":" + quote(mutation.getMethod())
+                + ",\"methodDesc\":" + quote(mutation.getId().getLocation().getMethodDesc())
+                + ",\"mutator\":" + quote(mutation.getMutator())
+                + ",\"line\":" + mutation.getLineNumber()
+                + ",\"instruction\":" + mutation.getId().getFirstIndex()
+                + ",\"rule\":" + quote(rule)
+                + "}";
+        try {
+            boolean queued = false;
+            while (!queued && !closed) { // stop waiting for space in the queue if the writer is closed or failed
+                queued = records.offer(line, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeRecords(final BufferedWriter writer) {
+        try (writer) {
+            while (!closed || !records.isEmpty()) {
+                String line = records.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (line == null) {
+                    writer.flush();
+                }
+                else {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+        }
+        catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to write the explanation file " + file
+                    + ", all further explanations are skipped", e);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            closed = true; // no one takes the records anymore, so the producers must not wait for space
+            records.clear();
+        }
+    }
+
+    /**
+     * Writes all pending records and closes the file. Subsequent calls of {@link #forFile(Path)} create a new writer.
+     */
+    void close() {
+        closed = true;
+        WRITERS.remove(file, this);
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        }
+        catch (IllegalStateException e) {
+            // already called by the shutdown hook
+        }
+        try {
+            consumer.join();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static String quote(final String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                default -> {
+                    if (c < ' ') {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    }
+                    else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,61 @@
+package edu.hm.hafner.pitmute;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An immutable set of line ranges. The ranges are sorted and merged when the instance is created, so checking a line
+ * requires a single binary search.
+ */
+final class LineIntervals {
+    private final int[] starts;
+    private final int[] ends;
+
+    /**
+     * Creates the intervals of the specified ranges. Overlapping and adjacent ranges are merged.
+     *
+     * @param ranges the ranges, each one an array of the first and last line (inclusive)
+     * @return the intervals
+     */
+    static LineIntervals of(final List<int[]> ranges) {
+        List<int[]> sorted = new ArrayList<>(ranges);
+        sorted.sort(Comparator.comparingInt((int[] range) -> range[0]));
+
+        int[] starts = new int[sorted.size()];
+        int[] ends = new int[sorted.size()];
+        int size = 0;
+        for (int[] range : sorted) {
+            if (size > 0 && range[0] <= ends[size - 1] + 1L) {
+                ends[size - 1] = Math.max(ends[size - 1], range[1]);
+            }
+            else {
+                starts[size] = range[0];
+                ends[size] = range[1];
+                size++;
+            }
+        }
+        return new LineIntervals(Arrays.copyOf(starts, size), Arrays.copyOf(ends, size));
+    }
+
+    private LineIntervals(final int[] starts, final int[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /**
+     * Returns whether the specified line is part of one of the intervals.
+     *
+     * @param line the line to check
+     * @return {@code true} if the line is part of an interval, {@code false} otherwise
+     */
+    boolean contains(final int line) {
+        int position = Arrays.binarySearch(starts, line);
+        if (position >= 0) {
+            return true;
+        }
+        int previous = -position - 2;
+        return previous >= 0 && line <= ends[previous];
+    }
+}
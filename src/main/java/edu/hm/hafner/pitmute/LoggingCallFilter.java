@@ -0,0 +1,150 @@
+package edu.hm.hafner.pitmute;
+
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.bytecode.analysis.MethodTree;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Filters mutations that remove calls of logging or tracing methods. Removing such a call does not change the
+ * behavior that is verified by tests, so these mutations survive by definition. The logging methods are configured
+ * as {@code owner#method} entries, where {@code owner} is the fully qualified name of the class or interface that
+ * declares the method and {@code method} is the name of the method (or {@code *} for all methods of the owner).
+ * For more information, please see the README.
+ *
+ * <p>
+ * The entries are compiled into a hash set of {@code owner#method} keys. In {@link #begin(ClassTree)} the call sites of
+ * these methods are stored as a {@link BitSet} of instruction indexes for each method of the class. Only the mutations
+ * of the method call mutators at these instructions are suppressed. The call sites are stored in a per-thread cursor,
+ * so a single instance of this filter can be used by several threads concurrently.
+ * </p>
+ */
+public class LoggingCallFilter implements MutationInterceptor {
+    /** The logging methods that are used if no methods are configured. */
+    static final List<String> DEFAULT_CALLS = List.of(
+            "org.slf4j.Logger#trace", "org.slf4j.Logger#debug", "org.slf4j.Logger#info",
+            "org.slf4j.Logger#warn", "org.slf4j.Logger#error",
+            "org.slf4j.Logger#atTrace", "org.slf4j.Logger#atDebug", "org.slf4j.Logger#atInfo",
+            "org.slf4j.Logger#atWarn", "org.slf4j.Logger#atError", "org.slf4j.Logger#atLevel",
+            "org.slf4j.spi.LoggingEventBuilder#*",
+            "org.apache.logging.log4j.Logger#trace", "org.apache.logging.log4j.Logger#debug",
+            "org.apache.logging.log4j.Logger#info", "org.apache.logging.log4j.Logger#warn",
+            "org.apache.logging.log4j.Logger#error", "org.apache.logging.log4j.Logger#fatal",
+            "org.apache.logging.log4j.Logger#log",
+            "org.apache.logging.log4j.Logger#atTrace", "org.apache.logging.log4j.Logger#atDebug",
+            "org.apache.logging.log4j.Logger#atInfo", "org.apache.logging.log4j.Logger#atWarn",
+            "org.apache.logging.log4j.Logger#atError", "org.apache.logging.log4j.Logger#atFatal",
+            "org.apache.logging.log4j.Logger#atLevel",
+            "org.apache.logging.log4j.LogBuilder#*",
+            "org.apache.commons.logging.Log#trace", "org.apache.commons.logging.Log#debug",
+            "org.apache.commons.logging.Log#info", "org.apache.commons.logging.Log#warn",
+            "org.apache.commons.logging.Log#error", "org.apache.commons.logging.Log#fatal",
+            "java.util.logging.Logger#finest", "java.util.logging.Logger#finer", "java.util.logging.Logger#fine",
+            "java.util.logging.Logger#config", "java.util.logging.Logger#info", "java.util.logging.Logger#warning",
+            "java.util.logging.Logger#severe", "java.util.logging.Logger#log", "java.util.logging.Logger#logp",
+            "java.util.logging.Logger#entering", "java.util.logging.Logger#exiting",
+            "java.lang.System$Logger#log");
+
+    private static final String ANY_METHOD = "*";
+    private static final String SEPARATOR = "#";
+    private static final Set<String> METHOD_CALL_MUTATORS = Set.of(
+            PitMutator.VOID_METHOD_CALLS.getFqcn(), PitMutator.NON_VOID_METHOD_CALLS.getFqcn());
+
+    private final Set<String> calls;
+    private final ThreadLocal<LoggingCalls> currentClass = new ThreadLocal<>();
+
+    /**
+     * Creates a new {@link LoggingCallFilter} for the {@link #DEFAULT_CALLS default logging methods}.
+     */
+    public LoggingCallFilter() {
+        this(DEFAULT_CALLS);
+    }
+
+    /**
+     * Creates a new {@link LoggingCallFilter}.
+     *
+     * @param calls the logging methods, each of the form {@code owner#method}
+     */
+    public LoggingCallFilter(final Collection<String> calls) {
+        Set<String> keys = new HashSet<>();
+        for (String call : calls) {
+            int separator = call.lastIndexOf(SEPARATOR);
+            if (separator <= 0 || separator == call.length() - 1) {
+                throw new IllegalArgumentException("Expected a logging method of the form owner#method: " + call);
+            }
+            String owner = call.substring(0, separator).trim().replace('.', '/');
+            keys.add(owner + SEPARATOR + call.substring(separator + 1).trim());
+        }
+        this.calls = Set.copyOf(keys);
+    }
+
+    @Override
+    public InterceptorType type() {
+        return InterceptorType.FILTER;
+    }
+
+    @Override
+    public void begin(final ClassTree classTree) {
+        Map<String, BitSet> callSites = new HashMap<>();
+        for (MethodTree method : classTree.methods()) {
+            BitSet instructions = findCallSites(method.instructions());
+            if (!instructions.isEmpty()) {
+                callSites.put(method.asLocation().getMethodName() + method.asLocation().getMethodDesc(), instructions);
+            }
+        }
+        currentClass.set(new LoggingCalls(classTree.name().asJavaName(), Map.copyOf(callSites)));
+    }
+
+    private BitSet findCallSites(final List<AbstractInsnNode> instructions) {
+        BitSet callSites = new BitSet();
+        for (int index = 0; index < instructions.size(); index++) {
+            if (instructions.get(index) instanceof MethodInsnNode call && isLoggingCall(call)) {
+                callSites.set(index);
+            }
+        }
+        return callSites;
+    }
+
+    private boolean isLoggingCall(final MethodInsnNode call) {
+        return calls.contains(call.owner + SEPARATOR + call.name) || calls.contains(call.owner + SEPARATOR + ANY_METHOD);
+    }
+
+    @Override
+    public Collection<MutationDetails> intercept(final Collection<MutationDetails> mutations, final Mutater mutater) {
+        LoggingCalls loggingCalls = currentClass.get();
+        if (loggingCalls == null || loggingCalls.callSites().isEmpty()) {
+            return new ArrayList<>(mutations);
+        }
+        return mutations.stream().filter(mutation -> !loggingCalls.contains(mutation)).collect(Collectors.toList());
+    }
+
+    @Override
+    public void end() {
+        currentClass.remove();
+    }
+
+    private record LoggingCalls(String className, Map<String, BitSet> callSites) {
+        boolean contains(final MutationDetails mutation) {
+            if (!METHOD_CALL_MUTATORS.contains(mutation.getMutator())
+                    || !className.equals(mutation.getClassName().asJavaName())) {
+                return false;
+            }
+            BitSet instructions = callSites.get(mutation.getMethod() + mutation.getId().getLocation().getMethodDesc());
+            return instructions != null && instructions.get(mutation.getId().getFirstIndex());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+
+import java.util.List;
+
+/**
+ * Factory for creating a {@link LoggingCallFilter} instance that excludes mutations that remove logging calls.
+ *
+ * <p>
+ * For details on usage and configuration, please refer to the project's README.
+ * </p>
+ */
+public class LoggingCallFilterFactory implements MutationInterceptorFactory {
+    @Override
+    public MutationInterceptor createInterceptor(final InterceptorParameters params) {
+        List<String> calls = params.settings()
+                .map(settings -> settings.getList("call"))
+                .orElse(List.of())
+                .stream()
+                .filter(call -> call != null && !call.isBlank())
+                .toList();
+        if (calls.isEmpty()) {
+            return new LoggingCallFilter();
+        }
+        try {
+            return new LoggingCallFilter(calls);
+        }
+        catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid feature parameter \"call\": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("FLOGGING")
+                .withDescription("Exclude mutations that remove logging calls")
+                .withOnByDefault(false);
+    }
+
+    @Override
+    public String description() {
+        return "Exclude mutations that remove logging calls";
+    }
+}
@@ -0,0 +1,379 @@
+package edu.hm.hafner.pitmute;
+
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.FrameNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds the instructions of a method that control a loop. The analysis builds a lightweight control flow graph of the
+ * instructions (exception edges are ignored) and finds the back edges with a depth-first search. The natural loop of
+ * each back edge contains all instructions that reach the source of the back edge without passing the loop header.
+ * Within a loop, the following instructions are loop-controlling:
+ *
+ * <ul>
+ *     <li>the conditional jumps that may leave the loop (the loop conditions),</li>
+ *     <li>the increments ({@code IINC}) of the local variables that are compared by these conditions.</li>
+ * </ul>
+ *
+ * <p>
+ * The result is cached by a digest of the instructions, so methods with the same body (e.g., of generated code or of
+ * classes that are analyzed several times) are analyzed only once. The analyzer is thread-safe and shared for the
+ * whole run.
+ * </p>
+ */
+final class LoopControlAnalyzer {
+    private static final LoopControlAnalyzer INSTANCE = new LoopControlAnalyzer(10_000);
+    private static final int MAX_CONDITION_LENGTH = 8;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Map<Long, LoopControl> resultsByDigest = new ConcurrentHashMap<>();
+    private final int capacity;
+
+    /**
+     * Returns the analyzer that is shared by all filters of the current run.
+     *
+     * @return the shared analyzer
+     */
+    static LoopControlAnalyzer shared() {
+        return INSTANCE;
+    }
+
+    /**
+     * Creates a new analyzer.
+     *
+     * @param capacity the maximum number of results in the cache
+     */
+    LoopControlAnalyzer(final int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the loop-controlling instructions of the specified method.
+     *
+     * @param instructions the instructions of the method
+     * @return the indexes of the loop-controlling instructions
+     */
+    LoopControl analyze(final List<AbstractInsnNode> instructions) {
+        if (instructions.stream().noneMatch(JumpInsnNode.class::isInstance)) {
+            return LoopControl.NONE;
+        }
+        long digest = digest(instructions);
+        LoopControl cached = resultsByDigest.get(digest);
+        if (cached != null) {
+            return cached;
+        }
+        LoopControl result = new MethodGraph(instructions).findLoopControl();
+        if (resultsByDigest.size() < capacity) {
+            resultsByDigest.putIfAbsent(digest, result);
+        }
+        return result;
+    }
+
+    int size() {
+        return resultsByDigest.size();
+    }
+
+    /**
+     * Computes a digest of the instructions that are relevant for the analysis: the opcodes, the local variables,
+     * the increments, and the targets of jumps. Labels, line numbers, and frames are part of the instruction indexes,
+     * so they are part of the digest as well.
+     */
+    private static long digest(final List<AbstractInsnNode> instructions) {
+        Map<LabelNode, Integer> labels = indexLabels(instructions);
+        long hash = FNV_OFFSET_BASIS;
+        for (AbstractInsnNode instruction : instructions) {
+            hash = add(hash, instruction.getType());
+            hash = add(hash, instruction.getOpcode());
+            if (instruction instanceof VarInsnNode variable) {
+                hash = add(hash, variable.var);
+            }
+            else if (instruction instanceof IincInsnNode increment) {
+                hash = add(add(hash, increment.var), increment.incr);
+            }
+            else if (instruction instanceof IntInsnNode operand) {
+                hash = add(hash, operand.operand);
+            }
+            else if (instruction instanceof LdcInsnNode constant) {
+                hash = add(hash, constant.cst.hashCode());
+            }
+            else if (instruction instanceof JumpInsnNode jump) {
+                hash = add(hash, labels.getOrDefault(jump.label, -1));
+            }
+            else if (instruction instanceof TableSwitchInsnNode table) {
+                hash = add(hash, labels.getOrDefault(table.dflt, -1));
+                for (LabelNode label : table.labels) {
+                    hash = add(hash, labels.getOrDefault(label, -1));
+                }
+            }
+            else if (instruction instanceof LookupSwitchInsnNode lookup) {
+                hash = add(hash, labels.getOrDefault(lookup.dflt, -1));
+                for (LabelNode label : lookup.labels) {
+                    hash = add(hash, labels.getOrDefault(label, -1));
+                }
+            }
+        }
+        return hash;
+    }
+
+    private static long add(final long hash, final int value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+
+    private static Map<LabelNode, Integer> indexLabels(final List<AbstractInsnNode> instructions) {
+        Map<LabelNode, Integer> labels = new HashMap<>();
+        for (int index = 0; index < instructions.size(); index++) {
+            if (instructions.get(index) instanceof LabelNode label) {
+                labels.put(label, index);
+            }
+        }
+        return labels;
+    }
+
+    /**
+     * The loop-controlling instructions of a method. Instances are immutable.
+     */
+    static final class LoopControl {
+        static final LoopControl NONE = new LoopControl(new BitSet(), new BitSet());
+
+        private final BitSet conditions;
+        private final BitSet increments;
+
+        LoopControl(final BitSet conditions, final BitSet increments) {
+            this.conditions = conditions;
+            this.increments = increments;
+        }
+
+        /**
+         * Returns whether the specified instruction is a conditional jump that may leave a loop.
+         *
+         * @param index the index of the instruction
+         * @return {@code true} if the instruction is a loop condition
+         */
+        boolean isCondition(final int index) {
+            return index >= 0 && conditions.get(index);
+        }
+
+        /**
+         * Returns whether the specified instruction increments a variable that is compared by a loop condition.
+         *
+         * @param index the index of the instruction
+         * @return {@code true} if the instruction increments a loop variable
+         */
+        boolean isIncrement(final int index) {
+            return index >= 0 && increments.get(index);
+        }
+
+        boolean isEmpty() {
+            return conditions.isEmpty() && increments.isEmpty();
+        }
+    }
+
+    /**
+     * The control flow graph of a method, each instruction is a node.
+     */
+    private static final class MethodGraph {
+        private final List<AbstractInsnNode> instructions;
+        private final int[][] successors;
+        private final List<List<Integer>> predecessors;
+
+        MethodGraph(final List<AbstractInsnNode> instructions) {
+            this.instructions = instructions;
+            Map<LabelNode, Integer> labels = indexLabels(instructions);
+
+            int size = instructions.size();
+            successors = new int[size][];
+            predecessors = new ArrayList<>(size);
+            for (int index = 0; index < size; index++) {
+                predecessors.add(new ArrayList<>(1));
+            }
+            for (int index = 0; index < size; index++) {
+                successors[index] = findSuccessors(index, labels);
+                for (int successor : successors[index]) {
+                    predecessors.get(successor).add(index);
+                }
+            }
+        }
+
+        private int[] findSuccessors(final int index, final Map<LabelNode, Integer> labels) {
+            AbstractInsnNode instruction = instructions.get(index);
+            int next = index + 1 < instructions.size() ? index + 1 : -1;
+            if (instruction instanceof JumpInsnNode jump) {
+                int target = labels.getOrDefault(jump.label, -1);
+                if (instruction.getOpcode() == Opcodes.GOTO || instruction.getOpcode() == Opcodes.JSR) {
+                    return valid(target);
+                }
+                return valid(target, next);
+            }
+            if (instruction instanceof TableSwitchInsnNode table) {
+                return valid(labels, table.dflt, table.labels);
+            }
+            if (instruction instanceof LookupSwitchInsnNode lookup) {
+                return valid(labels, lookup.dflt, lookup.labels);
+            }
+            int opcode = instruction.getOpcode();
+            if (opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN || opcode == Opcodes.ATHROW
+                    || opcode == Opcodes.RET) {
+                return new int[0];
+            }
+            return valid(next);
+        }
+
+        private static int[] valid(final int... indexes) {
+            return Arrays.stream(indexes).filter(index -> index >= 0).distinct().toArray();
+        }
+
+        private static int[] valid(final Map<LabelNode, Integer> labels, final LabelNode defaultLabel,
+                final List<LabelNode> targets) {
+            int[] indexes = new int[targets.size() + 1];
+            indexes[0] = labels.getOrDefault(defaultLabel, -1);
+            for (int i = 0; i < targets.size(); i++) {
+                indexes[i + 1] = labels.getOrDefault(targets.get(i), -1);
+            }
+            return valid(indexes);
+        }
+
+        LoopControl findLoopControl() {
+            BitSet conditions = new BitSet();
+            BitSet increments = new BitSet();
+            for (int[] backEdge : findBackEdges()) {
+                BitSet loop = findLoop(backEdge[0], backEdge[1]);
+                BitSet loopVariables = new BitSet();
+                for (int index = loop.nextSetBit(0); index >= 0; index = loop.nextSetBit(index + 1)) {
+                    if (isConditionalJump(instructions.get(index)) && leavesLoop(index, loop)) {
+                        conditions.set(index);
+                        addComparedVariables(index, loopVariables);
+                    }
+                }
+                for (int index = loop.nextSetBit(0); index >= 0; index = loop.nextSetBit(index + 1)) {
+                    if (instructions.get(index) instanceof IincInsnNode increment && loopVariables.get(increment.var)) {
+                        increments.set(index);
+                    }
+                }
+            }
+            if (conditions.isEmpty() && increments.isEmpty()) {
+                return LoopControl.NONE;
+            }
+            return new LoopControl(conditions, increments);
+        }
+
+        /**
+         * Finds the back edges with an iterative depth-first search: an edge is a back edge if its target is on the
+         * stack of the search. Instructions that are not reachable from the first instruction (e.g., exception
+         * handlers) start a new search.
+         *
+         * @return the back edges as pairs of source and target (the loop header)
+         */
+        private List<int[]> findBackEdges() {
+            List<int[]> backEdges = new ArrayList<>();
+            int size = instructions.size();
+            BitSet visited = new BitSet(size);
+            BitSet onStack = new BitSet(size);
+            int[] nextSuccessor = new int[size];
+            Deque<Integer> stack = new ArrayDeque<>();
+            for (int start = visited.nextClearBit(0); start < size; start = visited.nextClearBit(start + 1)) {
+                stack.push(start);
+                visited.set(start);
+                onStack.set(start);
+                while (!stack.isEmpty()) {
+                    int node = stack.peek();
+                    if (nextSuccessor[node] < successors[node].length) {
+                        int successor = successors[node][nextSuccessor[node]++];
+                        if (onStack.get(successor)) {
+                            backEdges.add(new int[] {node, successor});
+                        }
+                        else if (!visited.get(successor)) {
+                            visited.set(successor);
+                            onStack.set(successor);
+                            stack.push(successor);
+                        }
+                    }
+                    else {
+                        onStack.clear(stack.pop());
+                    }
+                }
+            }
+            return backEdges;
+        }
+
+        private BitSet findLoop(final int source, final int header) {
+            BitSet loop = new BitSet();
+            loop.set(header);
+            Deque<Integer> work = new ArrayDeque<>();
+            if (!loop.get(source)) {
+                loop.set(source);
+                work.push(source);
+            }
+            while (!work.isEmpty()) {
+                for (int predecessor : predecessors.get(work.pop())) {
+                    if (!loop.get(predecessor)) {
+                        loop.set(predecessor);
+                        work.push(predecessor);
+                    }
+                }
+            }
+            return loop;
+        }
+
+        private static boolean isConditionalJump(final AbstractInsnNode instruction) {
+            int opcode = instruction.getOpcode();
+            return instruction instanceof JumpInsnNode && opcode != Opcodes.GOTO && opcode != Opcodes.JSR;
+        }
+
+        private boolean leavesLoop(final int index, final BitSet loop) {
+            for (int successor : successors[index]) {
+                if (!loop.get(successor)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Adds the local variables that are loaded by the instructions that compute the operands of the specified
+         * condition. The instructions are scanned backwards until the previous jump, store, or increment.
+         */
+        private void addComparedVariables(final int condition, final BitSet variables) {
+            int scanned = 0;
+            for (int index = condition - 1; index >= 0 && scanned < MAX_CONDITION_LENGTH; index--) {
+                AbstractInsnNode instruction = instructions.get(index);
+                if (instruction instanceof LabelNode || instruction instanceof LineNumberNode
+                        || instruction instanceof FrameNode) {
+                    continue;
+                }
+                if (instruction instanceof JumpInsnNode || instruction instanceof IincInsnNode
+                        || isStore(instruction)) {
+                    return;
+                }
+                if (instruction instanceof VarInsnNode variable) {
+                    variables.set(variable.var);
+                }
+                scanned++;
+            }
+        }
+
+        private static boolean isStore(final AbstractInsnNode instruction) {
+            int opcode = instruction.getOpcode();
+            return opcode >= Opcodes.ISTORE && opcode <= Opcodes.ASTORE;
+        }
+    }
+}
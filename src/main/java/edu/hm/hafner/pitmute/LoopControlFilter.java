@@ -0,0 +1,142 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.bytecode.analysis.MethodTree;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import edu.hm.hafner.pitmute.LoopControlAnalyzer.LoopControl;
+
+/**
+ * Finds the mutations of loop-controlling instructions that likely result in an infinite loop: mutations of the
+ * conditions that leave a loop ({@code CONDITIONALS_BOUNDARY}, {@code NEGATE_CONDITIONALS}) and of the increments of
+ * the variables that are compared by these conditions ({@code INCREMENTS}, {@code REMOVE_INCREMENTS}). Depending on
+ * the {@link Policy}, these mutations are removed, or they are kept and written to the explanation file. For more
+ * information, please see the README.
+ *
+ * <p>
+ * In {@link #begin(ClassTree)} the loop-controlling instructions of each method are computed by the
+ * {@link LoopControlAnalyzer} and stored in a per-thread cursor. So a single instance of this filter can be used by
+ * several threads concurrently.
+ * </p>
+ */
+public class LoopControlFilter implements MutationInterceptor {
+    private static final String FILTER_NAME = "FLOOP";
+    private static final String CONDITIONALS_BOUNDARY = PitMutator.CONDITIONALS_BOUNDARY.getFqcn();
+    private static final String NEGATE_CONDITIONALS = PitMutator.NEGATE_CONDITIONALS.getFqcn();
+    private static final String INCREMENTS = PitMutator.INCREMENTS.getFqcn();
+    private static final String REMOVE_INCREMENTS = PitMutator.REMOVE_INCREMENTS.getFqcn();
+
+    private final LoopControlAnalyzer analyzer;
+    private final Policy policy;
+    private final Optional<ExplanationWriter> explanations;
+    private final ThreadLocal<ClassLoops> currentClass = new ThreadLocal<>();
+
+    /**
+     * Determines what happens with the mutations of loop-controlling instructions.
+     */
+    enum Policy {
+        /** Removes the mutations. */
+        SUPPRESS,
+        /** Keeps the mutations and writes them to the explanation file. */
+        TAG
+    }
+
+    /**
+     * Creates a new {@link LoopControlFilter} that removes the mutations of loop-controlling instructions.
+     */
+    public LoopControlFilter() {
+        this(LoopControlAnalyzer.shared(), Policy.SUPPRESS, Optional.empty());
+    }
+
+    LoopControlFilter(final LoopControlAnalyzer analyzer, final Policy policy,
+            final Optional<ExplanationWriter> explanations) {
+        if (policy == Policy.TAG && explanations.isEmpty()) {
+            throw new IllegalArgumentException("The policy TAG requires an explanation file");
+        }
+        this.analyzer = analyzer;
+        this.policy = policy;
+        this.explanations = explanations;
+    }
+
+    @Override
+    public InterceptorType type() {
+        return InterceptorType.FILTER;
+    }
+
+    @Override
+    public void begin(final ClassTree classTree) {
+        Map<String, LoopControl> loops = new HashMap<>();
+        for (MethodTree method : classTree.methods()) {
+            LoopControl loopControl = analyzer.analyze(method.instructions());
+            if (!loopControl.isEmpty()) {
+                loops.put(method.asLocation().getMethodName() + method.asLocation().getMethodDesc(), loopControl);
+            }
+        }
+        currentClass.set(new ClassLoops(classTree.name().asJavaName(), Map.copyOf(loops)));
+    }
+
+    @Override
+    public Collection<MutationDetails> intercept(final Collection<MutationDetails> mutations, final Mutater mutater) {
+        ClassLoops loops = currentClass.get();
+        if (loops == null || loops.loops().isEmpty()) {
+            return new ArrayList<>(mutations);
+        }
+        if (policy == Policy.TAG) {
+            ExplanationWriter writer = explanations.orElseThrow();
+            for (MutationDetails mutation : mutations) {
+                findRule(loops, mutation).ifPresent(rule -> writer.write(FILTER_NAME, mutation, rule));
+            }
+            return new ArrayList<>(mutations);
+        }
+        return mutations.stream().filter(mutation -> !isSuppressed(loops, mutation)).collect(Collectors.toList());
+    }
+
+    private boolean isSuppressed(final ClassLoops loops, final MutationDetails mutation) {
+        Optional<String> rule = findRule(loops, mutation);
+        rule.ifPresent(description -> explanations.ifPresent(
+                writer -> writer.write(FILTER_NAME, mutation, description)));
+        return rule.isPresent();
+    }
+
+    private static Optional<String> findRule(final ClassLoops loops, final MutationDetails mutation) {
+        LoopControl loopControl = loops.find(mutation);
+        if (loopControl == null) {
+            return Optional.empty();
+        }
+        String mutator = mutation.getMutator();
+        int instruction = mutation.getId().getFirstIndex();
+        if ((CONDITIONALS_BOUNDARY.equals(mutator) || NEGATE_CONDITIONALS.equals(mutator))
+                && loopControl.isCondition(instruction)) {
+            return Optional.of("loop condition");
+        }
+        if ((INCREMENTS.equals(mutator) || REMOVE_INCREMENTS.equals(mutator))
+                && loopControl.isIncrement(instruction)) {
+            return Optional.of("increment of loop variable");
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void end() {
+        currentClass.remove();
+    }
+
+    private record ClassLoops(String className, Map<String, LoopControl> loops) {
+        LoopControl find(final MutationDetails mutation) {
+            if (!className.equals(mutation.getClassName().asJavaName())) {
+                return null;
+            }
+            return loops.get(mutation.getMethod() + mutation.getId().getLocation().getMethodDesc());
+        }
+    }
+}
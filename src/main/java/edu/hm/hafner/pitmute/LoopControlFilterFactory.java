@@ -0,0 +1,50 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import edu.hm.hafner.pitmute.LoopControlFilter.Policy;
+
+/**
+ * Factory for creating a {@link LoopControlFilter} instance that filters mutations of loop-controlling instructions.
+ *
+ * <p>
+ * For details on usage and configuration, please refer to the project's README.
+ * </p>
+ */
+public class LoopControlFilterFactory implements MutationInterceptorFactory {
+    @Override
+    public MutationInterceptor createInterceptor(final InterceptorParameters params) {
+        Optional<FeatureSetting> settings = params.settings();
+        String policy = settings.flatMap(setting -> setting.getString("policy"))
+                .filter(value -> !value.isBlank())
+                .orElse("suppress");
+
+        try {
+            return new LoopControlFilter(LoopControlAnalyzer.shared(),
+                    Policy.valueOf(policy.trim().toUpperCase(Locale.ENGLISH)), ExplanationWriter.fromSettings(settings));
+        }
+        catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid feature parameter of FLOOP: " + e.getMessage()
+                    + ". Please use policy[suppress], or policy[tag] together with explain[<file>].", e);
+        }
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("FLOOP")
+                .withDescription("Filter mutations of loop conditions and loop increments that likely time out")
+                .withOnByDefault(false);
+    }
+
+    @Override
+    public String description() {
+        return "Filter mutations of loop conditions and loop increments that likely time out";
+    }
+}
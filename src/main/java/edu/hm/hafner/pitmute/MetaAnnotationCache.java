@@ -0,0 +1,226 @@
+package edu.hm.hafner.pitmute;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.AnnotationNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.pitest.classpath.ClassByteArraySource;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves annotation types that are meta-annotated with {@link SuppressMutation} or {@link SuppressMutations}. The
+ * class file of each annotation type is read only once, the result is cached by the descriptor of the annotation
+ * type for the whole PIT run. So using a meta-annotation costs a single hash lookup after it has been resolved.
+ * Meta-annotations are resolved transitively, i.e., an annotation type may also be annotated with another annotation
+ * type that is meta-annotated with {@link SuppressMutation}. Annotation types that are meta-annotated with each other
+ * are resolved together, so each of them gets the suppressions of the whole cycle.
+ */
+final class MetaAnnotationCache {
+    private static final MetaAnnotationCache INSTANCE = new MetaAnnotationCache();
+    private static final String SUPPRESS_MUTATION_DESC = "SuppressMutation;";
+    private static final String SUPPRESS_MUTATIONS_DESC = "SuppressMutations;";
+    private static final List<String> PLATFORM_PACKAGES = List.of("Ljava/", "Ljavax/", "Ljdk/", "Lkotlin/");
+
+    private final Map<String, List<AnnotationNode>> suppressionsByDescriptor = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cache that is shared by all filters of the current run.
+     *
+     * @return the shared cache
+     */
+    static MetaAnnotationCache shared() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns whether the specified annotation is a {@link SuppressMutation} annotation.
+     *
+     * @param descriptor the descriptor of the annotation type
+     * @return {@code true} if the annotation is a {@link SuppressMutation} annotation
+     */
+    static boolean isSuppressMutation(final String descriptor) {
+        return descriptor.endsWith(SUPPRESS_MUTATION_DESC);
+    }
+
+    /**
+     * Returns whether the specified annotation is a {@link SuppressMutations} container annotation.
+     *
+     * @param descriptor the descriptor of the annotation type
+     * @return {@code true} if the annotation is a {@link SuppressMutations} annotation
+     */
+    static boolean isSuppressMutations(final String descriptor) {
+        return descriptor.endsWith(SUPPRESS_MUTATIONS_DESC);
+    }
+
+    /**
+     * Returns the {@link SuppressMutation} annotations of the specified annotation type, including the annotations of
+     * its meta-annotations. Container annotations are already expanded.
+     *
+     * @param descriptor the descriptor of the annotation type
+     * @param source the source to read the class file of the annotation type
+     * @return the {@link SuppressMutation} annotations, or an empty list if the annotation type is not
+     *         meta-annotated
+     */
+    List<AnnotationNode> getSuppressions(final String descriptor, final ClassByteArraySource source) {
+        List<AnnotationNode> suppressions = suppressionsByDescriptor.get(descriptor);
+        if (suppressions != null) {
+            return suppressions;
+        }
+        if (isPlatformAnnotation(descriptor)) {
+            return List.of();
+        }
+        new Resolver(source).resolve(descriptor);
+        return suppressionsByDescriptor.get(descriptor);
+    }
+
+    private static boolean isPlatformAnnotation(final String descriptor) {
+        for (String prefix : PLATFORM_PACKAGES) {
+            if (descriptor.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<AnnotationNode> readAnnotations(final String descriptor, final ClassByteArraySource source) {
+        String className = descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+        Optional<byte[]> bytes = source.getBytes(className);
+        if (bytes.isEmpty()) {
+            return List.of();
+        }
+
+        ClassNode classNode = new ClassNode();
+        new ClassReader(bytes.get()).accept(classNode,
+                ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        List<AnnotationNode> annotations = new ArrayList<>();
+        if (classNode.visibleAnnotations != null) {
+            annotations.addAll(classNode.visibleAnnotations);
+        }
+        if (classNode.invisibleAnnotations != null) {
+            annotations.addAll(classNode.invisibleAnnotations);
+        }
+        return annotations;
+    }
+
+    /**
+     * Returns the {@link SuppressMutation} annotations of a {@link SuppressMutations} container annotation.
+     *
+     * @param containerAnnotation the container annotation
+     * @return the contained annotations
+     */
+    static List<AnnotationNode> getContainedAnnotations(final AnnotationNode containerAnnotation) {
+        if (containerAnnotation.values == null) {
+            return List.of();
+        }
+        for (int i = 0; i < containerAnnotation.values.size() - 1; i += 2) {
+            String annotationName = containerAnnotation.values.get(i).toString();
+            Object value = containerAnnotation.values.get(i + 1);
+
+            if ("value".equals(annotationName) && value instanceof List<?> list) {
+                return list.stream()
+                        .filter(AnnotationNode.class::isInstance)
+                        .map(AnnotationNode.class::cast)
+                        .toList();
+            }
+        }
+        return List.of();
+    }
+
+    int size() {
+        return suppressionsByDescriptor.size();
+    }
+
+    /**
+     * Resolves the meta-annotations of annotation types that are not cached yet. Annotation types that are
+     * meta-annotated with each other form a cycle (a strongly connected component of the graph of meta-annotations,
+     * found with the algorithm of Tarjan). All annotation types of a cycle have the same suppressions, so they are
+     * resolved together and cached only when the whole cycle has been resolved. Instances are used by a single thread
+     * for a single lookup.
+     */
+    private final class Resolver {
+        private final ClassByteArraySource source;
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final Map<String, Integer> lowLinks = new HashMap<>();
+        private final Map<String, List<AnnotationNode>> ownSuppressions = new HashMap<>();
+        private final Deque<String> stack = new ArrayDeque<>();
+        private final Set<String> onStack = new HashSet<>();
+
+        Resolver(final ClassByteArraySource source) {
+            this.source = source;
+        }
+
+        void resolve(final String descriptor) {
+            int index = indexes.size();
+            indexes.put(descriptor, index);
+            lowLinks.put(descriptor, index);
+            stack.push(descriptor);
+            onStack.add(descriptor);
+
+            List<AnnotationNode> suppressions = new ArrayList<>();
+            for (AnnotationNode annotation : readAnnotations(descriptor, source)) {
+                String metaAnnotation = annotation.desc;
+                if (isSuppressMutation(metaAnnotation)) {
+                    suppressions.add(annotation);
+                }
+                else if (isSuppressMutations(metaAnnotation)) {
+                    suppressions.addAll(getContainedAnnotations(annotation));
+                }
+                else if (!isPlatformAnnotation(metaAnnotation)) {
+                    List<AnnotationNode> cached = suppressionsByDescriptor.get(metaAnnotation);
+                    if (cached == null && !indexes.containsKey(metaAnnotation)) {
+                        resolve(metaAnnotation);
+                        lowLinks.merge(descriptor, lowLinks.get(metaAnnotation), Math::min);
+                        cached = suppressionsByDescriptor.get(metaAnnotation);
+                    }
+                    else if (onStack.contains(metaAnnotation)) {
+                        lowLinks.merge(descriptor, indexes.get(metaAnnotation), Math::min);
+                    }
+                    if (cached != null && !onStack.contains(metaAnnotation)) {
+                        suppressions.addAll(cached);
+                    }
+                }
+            }
+            ownSuppressions.put(descriptor, suppressions);
+
+            if (lowLinks.get(descriptor) == index) {
+                cacheCycle(descriptor);
+            }
+        }
+
+        /**
+         * Caches the annotation types of the cycle that starts with the specified annotation type. Each annotation
+         * type of the cycle gets the suppressions of all annotation types of the cycle.
+         *
+         * @param root the first annotation type of the cycle that has been visited
+         */
+        private void cacheCycle(final String root) {
+            List<String> cycle = new ArrayList<>();
+            String member;
+            do {
+                member = stack.pop();
+                onStack.remove(member);
+                cycle.add(0, member);
+            }
+            while (!member.equals(root));
+
+            Set<AnnotationNode> suppressions = new LinkedHashSet<>();
+            for (String descriptor : cycle) {
+                suppressions.addAll(ownSuppressions.remove(descriptor));
+            }
+            List<AnnotationNode> resolved = List.copyOf(suppressions);
+            for (String descriptor : cycle) {
+                suppressionsByDescriptor.putIfAbsent(descriptor, resolved);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Computes stable 64-bit hashes of mutations. The hash of a mutation depends only on its identifier (class, method,
+ * instructions, and mutator) and a seed, so it is the same in each run and independent of the order in which the
+ * mutations are generated. The identifier is hashed with FNV-1a, the result is mixed with the seed using the
+ * finalizer of SplitMix64 to spread the bits evenly.
+ */
+final class MutationHash {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char SEPARATOR = '\u0000';
+
+    private MutationHash() {
+        // prevents instantiation
+    }
+
+    /**
+     * Returns the hash of the specified mutation.
+     *
+     * @param mutation the mutation
+     * @param seed the seed
+     * @return the hash
+     */
+    static long of(final MutationDetails mutation, final long seed) {
+        return mix(hashIdentifier(mutation.getId()) ^ mix(seed));
+    }
+
+    /**
+     * Returns the hash of the specified mutation, including its line number. In contrast to
+     * {@link #of(MutationDetails, long)} the hash changes if the mutated code is moved to another line.
+     *
+     * @param mutation the mutation
+     * @param seed the seed
+     * @return the hash
+     */
+    static long ofSite(final MutationDetails mutation, final long seed) {
+        return mix(add(hashIdentifier(mutation.getId()), mutation.getLineNumber()) ^ mix(seed));
+    }
+
+    private static long hashIdentifier(final MutationIdentifier id) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = add(hash, id.getLocation().getClassName().asJavaName());
+        hash = add(hash, id.getLocation().getMethodName());
+        hash = add(hash, id.getLocation().getMethodDesc());
+        for (int index : id.getIndexes()) {
+            hash = add(hash, index);
+        }
+        return add(hash, id.getMutator());
+    }
+
+    /**
+     * Returns the hash of the specified text.
+     *
+     * @param text the text
+     * @param seed the seed
+     * @return the hash
+     */
+    static long of(final String text, final long seed) {
+        return mix(add(FNV_OFFSET_BASIS, text) ^ mix(seed));
+    }
+
+    /**
+     * Returns the hash of the specified bytes, e.g., the content of a class file.
+     *
+     * @param bytes the bytes
+     * @param seed the seed
+     * @return the hash
+     */
+    static long of(final byte[] bytes, final long seed) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte value : bytes) {
+            hash = (hash ^ (value & 0xff)) * FNV_PRIME;
+        }
+        return mix(hash ^ mix(seed));
+    }
+
+    private static long add(final long hash, final String text) {
+        long result = hash;
+        for (int i = 0; i < text.length(); i++) {
+            result = (result ^ text.charAt(i)) * FNV_PRIME;
+        }
+        return (result ^ SEPARATOR) * FNV_PRIME;
+    }
+
+    private static long add(final long hash, final int value) {
+        long result = hash;
+        for (int shift = 0; shift < Integer.SIZE; shift += Byte.SIZE) {
+            result = (result ^ ((value >>> shift) & 0xff)) * FNV_PRIME;
+        }
+        return result;
+    }
+
+    private static long mix(final long value) {
+        long z = value + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,129 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads the mutations of a PIT XML report ({@code mutations.xml}) with a streaming parser, so that the report is
+ * never loaded into memory as a whole.
+ */
+final class MutationsReportReader {
+    private static final String MUTATION = "mutation";
+    private static final String INDEX = "index";
+
+    private MutationsReportReader() {
+        // prevents instantiation
+    }
+
+    /**
+     * A mutation of the report, along with the result of the analysis.
+     *
+     * @param mutation the mutation
+     * @param status the status of the mutation, e.g. {@code KILLED} or {@code TIMED_OUT}
+     * @param testsRun the number of tests that have been run to analyze the mutation
+     */
+    record ReportedMutation(MutationDetails mutation, String status, int testsRun) {
+    }
+
+    /**
+     * Reads all mutations of the specified report.
+     *
+     * @param report the path of the report
+     * @param consumer the consumer that is called for each mutation
+     * @throws IllegalStateException if the report cannot be read
+     */
+    static void read(final Path report, final Consumer<ReportedMutation> consumer) {
+        try (InputStream input = Files.newInputStream(report)) {
+            read(input, consumer);
+        }
+        catch (IOException | XMLStreamException | IllegalArgumentException e) {
+            throw new IllegalStateException("Failed to read the PIT report " + report, e);
+        }
+    }
+
+    /**
+     * Reads all mutations of the specified report.
+     *
+     * @param input the content of the report
+     * @param consumer the consumer that is called for each mutation
+     * @throws XMLStreamException if the report is not a valid XML document
+     */
+    static void read(final InputStream input, final Consumer<ReportedMutation> consumer) throws XMLStreamException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+        XMLStreamReader reader = factory.createXMLStreamReader(input);
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && MUTATION.equals(reader.getLocalName())) {
+                    consumer.accept(readMutation(reader));
+                }
+            }
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    private static ReportedMutation readMutation(final XMLStreamReader reader) throws XMLStreamException {
+        String status = attribute(reader, "status", "UNKNOWN");
+        int testsRun = Integer.parseInt(attribute(reader, "numberOfTestsRun", "0"));
+
+        Map<String, String> elements = new HashMap<>();
+        List<Integer> indexes = new ArrayList<>();
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT && MUTATION.equals(reader.getLocalName())) {
+                break;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                if (INDEX.equals(name)) {
+                    indexes.add(Integer.parseInt(reader.getElementText().trim()));
+                }
+                else if (!"indexes".equals(name) && !"blocks".equals(name)) {
+                    elements.put(name, reader.getElementText().trim());
+                }
+            }
+        }
+
+        Location location = Location.location(ClassName.fromString(required(elements, "mutatedClass")),
+                required(elements, "mutatedMethod"), required(elements, "methodDescription"));
+        MutationIdentifier id = new MutationIdentifier(location, indexes.isEmpty() ? List.of(0) : indexes,
+                required(elements, "mutator"));
+        MutationDetails mutation = new MutationDetails(id, elements.getOrDefault("sourceFile", ""),
+                elements.getOrDefault("description", ""),
+                Integer.parseInt(elements.getOrDefault("lineNumber", "0")), 0);
+        return new ReportedMutation(mutation, status, testsRun);
+    }
+
+    private static String attribute(final XMLStreamReader reader, final String name, final String defaultValue) {
+        String value = reader.getAttributeValue(null, name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    private static String required(final Map<String, String> elements, final String name) {
+        String value = elements.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Missing element '" + name + "' in mutation");
+        }
+        return value;
+    }
+}
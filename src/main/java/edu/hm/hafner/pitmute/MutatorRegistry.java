@@ -0,0 +1,224 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.mutationtest.engine.gregor.MethodMutatorFactory;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Assigns dense integer ids to the mutators of PIT, so that the filters can match mutators using bit sets instead of
+ * comparing names. The registry is seeded with the {@link PitMutator} values and the mutators that PIT's plugin
+ * loading discovers on the class path (including third party mutators). Mutators that are not known in advance get
+ * the next free id when they are seen for the first time.
+ *
+ * <p>
+ * PIT creates some mutators several times with a numeric parameter, e.g., {@code RemoveSwitchMutator_0},
+ * {@code RemoveSwitchMutator_1}, and so on. Each member of such a family gets its own id, so a rule for a single
+ * member matches only this member. Only the name of the family ({@code RemoveSwitchMutator_N}) matches all members.
+ * The id {@link #ALL_MUTATORS} represents all mutators, see {@link PitMutator#NONE}.
+ * </p>
+ *
+ * <p>
+ * The registry is thread-safe and shared for the whole run.
+ * </p>
+ */
+final class MutatorRegistry {
+    /** The id that represents all mutators. */
+    static final int ALL_MUTATORS = 0;
+
+    private static final Logger LOGGER = Logger.getLogger(MutatorRegistry.class.getName());
+    private static final Pattern FAMILY_MEMBER = Pattern.compile("_\\d+$");
+    private static final String FAMILY_SUFFIX = "_N";
+    private static final String MUTATOR_SUFFIX = "Mutator";
+
+    private static final MutatorRegistry INSTANCE = discover();
+
+    private final Map<String, Integer> idsByFqcn = new ConcurrentHashMap<>();
+    private final List<String> fqcns = new ArrayList<>(List.of("")); // guarded by this, indexed by id
+
+    /**
+     * Returns the registry that is shared by all filters of the current run.
+     *
+     * @return the shared registry
+     */
+    static MutatorRegistry shared() {
+        return INSTANCE;
+    }
+
+    private static MutatorRegistry discover() {
+        MutatorRegistry registry = new MutatorRegistry();
+        try {
+            for (MethodMutatorFactory factory : ServiceLoader.load(MethodMutatorFactory.class,
+                    MutatorRegistry.class.getClassLoader())) {
+                registry.getId(factory.getGloballyUniqueId());
+            }
+        }
+        catch (ServiceConfigurationError | LinkageError e) {
+            LOGGER.log(Level.FINE, "Failed to discover the mutators of PIT, using the built-in mutators only", e);
+        }
+        return registry;
+    }
+
+    /**
+     * Creates a new registry that contains the {@link PitMutator} values.
+     */
+    MutatorRegistry() {
+        for (PitMutator mutator : PitMutator.values()) {
+            if (mutator != PitMutator.NONE) {
+                getId(mutator.getFqcn());
+            }
+        }
+    }
+
+    /**
+     * Returns the id of the specified mutator. If the mutator is not known yet, it gets the next free id.
+     *
+     * @param fqcn the fully qualified class name (or globally unique id) of the mutator
+     * @return the id of the mutator
+     */
+    int getId(final String fqcn) {
+        Integer id = idsByFqcn.get(fqcn);
+        if (id != null) {
+            return id;
+        }
+        return register(fqcn);
+    }
+
+    private synchronized int register(final String fqcn) {
+        return idsByFqcn.computeIfAbsent(fqcn, name -> {
+            fqcns.add(name);
+            return fqcns.size() - 1;
+        });
+    }
+
+    /**
+     * Returns the id of the specified mutator of the {@link SuppressMutation} annotation.
+     *
+     * @param mutator the mutator
+     * @return the id of the mutator, or {@link #ALL_MUTATORS} for {@link PitMutator#NONE}
+     */
+    int getId(final PitMutator mutator) {
+        return mutator == PitMutator.NONE ? ALL_MUTATORS : getId(mutator.getFqcn());
+    }
+
+    /**
+     * Returns the number of ids that have been assigned so far (including {@link #ALL_MUTATORS}). All ids are smaller
+     * than this number.
+     *
+     * @return the number of ids
+     */
+    synchronized int size() {
+        return fqcns.size();
+    }
+
+    /**
+     * Selects all known mutators that match the specified name. Mutators that are registered later are matched by
+     * name, see {@link Selection#contains(int, String)}.
+     *
+     * @param mutatorName the name of the mutator: the fully qualified class name, the class name, or the class name
+     *         without the suffix {@code Mutator}
+     * @return the selected mutators
+     */
+    synchronized Selection select(final String mutatorName) {
+        BitSet ids = new BitSet(fqcns.size());
+        for (int id = ALL_MUTATORS + 1; id < fqcns.size(); id++) {
+            if (nameMatches(fqcns.get(id), mutatorName)) {
+                ids.set(id);
+            }
+        }
+        return new Selection(mutatorName, ids, fqcns.size());
+    }
+
+    /**
+     * Returns whether the name of a mutator matches the specified name. A member of a family (e.g.,
+     * {@code RemoveSwitchMutator_3}) matches its own name and the name of the family ({@code RemoveSwitchMutator_N}),
+     * but not the names of the other members.
+     *
+     * @param fqcn the fully qualified class name of the mutator
+     * @param mutatorName the name of the mutator: the fully qualified class name, the class name, or the class name
+     *         without the suffix {@code Mutator}
+     * @return {@code true} if the names match, {@code false} otherwise
+     */
+    static boolean nameMatches(final String fqcn, final String mutatorName) {
+        if (exactNameMatches(fqcn, mutatorName)) {
+            return true;
+        }
+        return isFamily(mutatorName)
+                && getFamily(fqcn).map(family -> exactNameMatches(family, mutatorName)).orElse(false);
+    }
+
+    private static boolean exactNameMatches(final String fqcn, final String mutatorName) {
+        String className = fqcn.substring(fqcn.lastIndexOf('.') + 1);
+        String shortName = className.endsWith(MUTATOR_SUFFIX)
+                ? className.substring(0, className.length() - MUTATOR_SUFFIX.length()) : className;
+        return fqcn.equals(mutatorName) || className.equals(mutatorName) || shortName.equals(mutatorName);
+    }
+
+    /**
+     * Returns the name of the family of the specified mutator, e.g., {@code RemoveSwitchMutator_N} for
+     * {@code RemoveSwitchMutator_3}.
+     *
+     * @param fqcn the fully qualified class name of the mutator
+     * @return the name of the family, or an empty optional if the mutator is not a member of a family
+     */
+    static Optional<String> getFamily(final String fqcn) {
+        var member = FAMILY_MEMBER.matcher(fqcn);
+        if (member.find()) {
+            return Optional.of(fqcn.substring(0, member.start()) + FAMILY_SUFFIX);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns whether the specified mutator represents all members of a family, e.g., {@code RemoveSwitchMutator_N}.
+     *
+     * @param fqcn the fully qualified class name of the mutator
+     * @return {@code true} if the name is the name of a family, {@code false} otherwise
+     */
+    static boolean isFamily(final String fqcn) {
+        return fqcn.endsWith(FAMILY_SUFFIX);
+    }
+
+    /**
+     * The mutators that match a name. Instances are immutable.
+     */
+    static final class Selection {
+        private final String mutatorName;
+        private final BitSet ids;
+        private final int known;
+
+        private Selection(final String mutatorName, final BitSet ids, final int known) {
+            this.mutatorName = mutatorName;
+            this.ids = ids;
+            this.known = known;
+        }
+
+        /**
+         * Returns whether this selection contains the specified mutator.
+         *
+         * @param id the id of the mutator
+         * @param fqcn the fully qualified class name of the mutator, only used if the mutator has been registered
+         *         after this selection has been created
+         * @return {@code true} if the mutator is selected, {@code false} otherwise
+         */
+        boolean contains(final int id, final String fqcn) {
+            if (id < known) {
+                return ids.get(id);
+            }
+            return nameMatches(fqcn, mutatorName);
+        }
+
+        BitSet getIds() {
+            return (BitSet) ids.clone();
+        }
+    }
+}
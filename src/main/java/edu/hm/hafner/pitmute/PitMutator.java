@@ -1,8 +1,16 @@
 package edu.hm.hafner.pitmute;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * Represents the mutators available in PIT.
- * This enum maps each mutator name to its fully qualified class name.
+ * This enum maps each mutator name to its fully qualified class name. The filters do not match the mutators by these
+ * names directly, but by the ids of the {@link MutatorRegistry}, which also knows the mutators that are not part of
+ * this enum.
  */
 public enum PitMutator {
     CONDITIONALS_BOUNDARY("org.pitest.mutationtest.engine.gregor.mutators.ConditionalsBoundaryMutator"),
@@ -30,7 +38,7 @@ public enum PitMutator {
     REMOVE_CONDITIONALS_ORDER_IF("org.pitest.mutationtest.engine.gregor.mutators.RemoveConditionalMutator_ORDER_IF"),
     REMOVE_CONDITIONALS_ORDER_ELSE("org.pitest.mutationtest.engine.gregor.mutators.RemoveConditionalMutator_ORDER_ELSE"),
     EXPERIMENTAL_SWITCH("org.pitest.mutationtest.engine.gregor.mutators.experimental.SwitchMutator"),
-    EXPERIMENTAL_REMOVE_SWITCH_MUTATOR_0("org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_0"), //todo maybe find a better solution for n cases
+    EXPERIMENTAL_REMOVE_SWITCH_MUTATOR_0("org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_0"),
     EXPERIMENTAL_REMOVE_SWITCH_MUTATOR_1("org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_1"),
     EXPERIMENTAL_REMOVE_SWITCH_MUTATOR_2("org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_2"),
     EXPERIMENTAL_REMOVE_SWITCH_MUTATOR_3("org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_3"),
@@ -41,7 +49,16 @@ public enum PitMutator {
     EXPERIMENTAL_REMOVE_SWITCH_MUTATOR_8("org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_8"),
     EXPERIMENTAL_REMOVE_SWITCH_MUTATOR_9("org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_9"),
     EXPERIMENTAL_REMOVE_SWITCH_MUTATOR_10("org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_10"),
-    NONE("");
+    NONE(""),
+    /**
+     * All mutators of the family {@code RemoveSwitchMutator_N}, regardless of the removed case. The constants for the
+     * individual cases above match only their own case, see {@link MutatorRegistry}.
+     */
+    EXPERIMENTAL_REMOVE_SWITCH("org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_N");
+
+    private static final Map<String, PitMutator> MUTATORS_BY_FQCN = Arrays.stream(values())
+            .filter(mutator -> mutator != NONE)
+            .collect(Collectors.toMap(PitMutator::getFqcn, Function.identity()));
 
     private final String fqcn;
 
@@ -57,4 +74,25 @@ public enum PitMutator {
     public String getFqcn() {
         return fqcn;
     }
+
+    /**
+     * Returns the mutator with the specified fully qualified class name.
+     *
+     * @param fqcn the fully qualified class name of the mutator
+     * @return the mutator, or an empty optional if the mutator is not part of this enum
+     */
+    public static Optional<PitMutator> fromFqcn(final String fqcn) {
+        return Optional.ofNullable(MUTATORS_BY_FQCN.get(fqcn));
+    }
+
+    /**
+     * Returns the mutator that represents the whole family of the mutator with the specified fully qualified class
+     * name, e.g., {@link #EXPERIMENTAL_REMOVE_SWITCH} for {@code RemoveSwitchMutator_3}.
+     *
+     * @param fqcn the fully qualified class name of the mutator
+     * @return the mutator of the family, or an empty optional if the mutator is not a member of a family of this enum
+     */
+    static Optional<PitMutator> familyOf(final String fqcn) {
+        return MutatorRegistry.getFamily(fqcn).map(MUTATORS_BY_FQCN::get);
+    }
 }
@@ -0,0 +1,101 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps a deterministic sample of the mutations of each class. The mutations are grouped by mutator, and from each
+ * group the mutations with the smallest {@link MutationHash hashes} are kept, so every mutator of a class remains
+ * represented in the sample. The sample only depends on the rate and the seed, but not on the order of the mutations.
+ * For more information, please see the README.
+ *
+ * <p>
+ * This filter has no state, so a single instance can be used by several threads concurrently.
+ * </p>
+ */
+public class SamplingFilter implements MutationInterceptor {
+    private final double rate;
+    private final long seed;
+
+    /**
+     * Creates a new {@link SamplingFilter}.
+     *
+     * @param rate the fraction of the mutations of each mutator that should be kept, must be in the range (0, 1]
+     * @param seed the seed that selects the sample
+     */
+    public SamplingFilter(final double rate, final long seed) {
+        if (!(rate > 0 && rate <= 1)) {
+            throw new IllegalArgumentException("The sampling rate must be greater than 0 and at most 1: " + rate);
+        }
+        this.rate = rate;
+        this.seed = seed;
+    }
+
+    @Override
+    public InterceptorType type() {
+        return InterceptorType.FILTER;
+    }
+
+    @Override
+    public void begin(final ClassTree classTree) {
+        // nothing to prepare
+    }
+
+    @Override
+    public Collection<MutationDetails> intercept(final Collection<MutationDetails> mutations, final Mutater mutater) {
+        if (mutations.isEmpty() || rate == 1) {
+            return mutations;
+        }
+
+        Map<String, List<MutationDetails>> mutationsByMutator = new LinkedHashMap<>();
+        for (MutationDetails mutation : mutations) {
+            mutationsByMutator.computeIfAbsent(mutation.getMutator(), mutator -> new ArrayList<>()).add(mutation);
+        }
+
+        Set<MutationDetails> sample = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (List<MutationDetails> stratum : mutationsByMutator.values()) {
+            sample.addAll(select(stratum));
+        }
+        return mutations.stream().filter(sample::contains).toList();
+    }
+
+    private List<MutationDetails> select(final List<MutationDetails> stratum) {
+        int size = (int) Math.ceil(stratum.size() * rate);
+        if (size >= stratum.size()) {
+            return stratum;
+        }
+
+        long[] hashes = new long[stratum.size()];
+        Integer[] positions = new Integer[stratum.size()];
+        for (int i = 0; i < stratum.size(); i++) {
+            hashes[i] = MutationHash.of(stratum.get(i), seed);
+            positions[i] = i;
+        }
+        Arrays.sort(positions, Comparator.comparingLong((Integer position) -> hashes[position]));
+
+        List<MutationDetails> selected = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            selected.add(stratum.get(positions[i]));
+        }
+        return selected;
+    }
+
+    @Override
+    public void end() {
+        // nothing to clean up
+    }
+}
@@ -0,0 +1,49 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+import java.util.Optional;
+
+/**
+ * Factory for creating a {@link SamplingFilter} instance that keeps a deterministic sample of the mutations.
+ *
+ * <p>
+ * For details on usage and configuration, please refer to the project's README.
+ * </p>
+ */
+public class SamplingFilterFactory implements MutationInterceptorFactory {
+    @Override
+    public MutationInterceptor createInterceptor(final InterceptorParameters params) {
+        Optional<FeatureSetting> settings = params.settings();
+        String rate = settings.flatMap(setting -> setting.getString("rate"))
+                .filter(value -> !value.isBlank())
+                .orElseThrow(() -> new IllegalStateException("Missing or empty feature parameter \"rate\". Please "
+                        + "provide the fraction of mutations to keep, e.g. +FSAMPLE(rate[0.1] seed[42])."));
+        String seed = settings.flatMap(setting -> setting.getString("seed"))
+                .filter(value -> !value.isBlank())
+                .orElse("0");
+
+        try {
+            return new SamplingFilter(Double.parseDouble(rate.trim()), Long.parseLong(seed.trim()));
+        }
+        catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid feature parameter of FSAMPLE: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("FSAMPLE")
+                .withDescription("Keep a deterministic sample of the mutations")
+                .withOnByDefault(false);
+    }
+
+    @Override
+    public String description() {
+        return "Keep a deterministic sample of the mutations";
+    }
+}
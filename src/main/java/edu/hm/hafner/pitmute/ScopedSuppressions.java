@@ -0,0 +1,206 @@
+package edu.hm.hafner.pitmute;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * The compiled {@link SuppressionRule suppression rules} of a single scope (class or method).
+ *
+ * <p>
+ * The mutators of a rule are compiled into a bit set that contains the {@link MutatorRegistry ids} of the suppressed
+ * mutators. The id {@link MutatorRegistry#ALL_MUTATORS} represents all mutators. Rules that apply to the whole scope
+ * are merged into a single set. Rules that are restricted to some lines are compiled into sorted, disjoint line
+ * intervals with a mutator set for each interval. So checking a mutation requires a binary search and a few bit
+ * operations, regardless of the number of rules and the size of the line ranges.
+ * </p>
+ *
+ * <p>
+ * Rules that use a mutator name or a family of mutators (e.g., {@link PitMutator#EXPERIMENTAL_REMOVE_SWITCH}) are
+ * additionally kept as they are. These rules are only evaluated for mutations of mutators that have been registered
+ * after the rules have been compiled.
+ * </p>
+ */
+final class ScopedSuppressions {
+    static final ScopedSuppressions EMPTY = compile(List.of());
+
+    private static final BitSet ALL = BitSet.valueOf(new long[] {1L << MutatorRegistry.ALL_MUTATORS});
+
+    private final BitSet scopeMutators;
+    private final int[] intervalStarts;
+    private final int[] intervalEnds;
+    private final BitSet[] intervalMutators;
+    private final int knownMutators;
+    private final List<SuppressionRule> rulesWithMutatorName;
+    private final List<SuppressionRule> rules;
+
+    /**
+     * Compiles the specified rules of a scope.
+     *
+     * @param rules the rules of the scope
+     * @return the compiled rules
+     */
+    static ScopedSuppressions compile(final List<SuppressionRule> rules) {
+        MutatorRegistry registry = MutatorRegistry.shared();
+        int knownMutators = registry.size();
+
+        BitSet scopeMutators = new BitSet();
+        List<SuppressionRule> lineRules = new ArrayList<>();
+        List<SuppressionRule> rulesWithMutatorName = new ArrayList<>();
+        for (SuppressionRule rule : rules) {
+            if (rule.startLine().isPresent() && rule.endLine().isPresent()) {
+                if (rule.startLine().get() <= rule.endLine().get()) {
+                    lineRules.add(rule);
+                }
+            }
+            else {
+                scopeMutators.or(getMutators(registry, rule));
+            }
+            if (rule.mutator() == PitMutator.NONE && rule.mutatorName().isPresent()
+                    || MutatorRegistry.isFamily(rule.mutator().getFqcn())) {
+                rulesWithMutatorName.add(rule);
+            }
+        }
+
+        // the boundaries split the lines into elementary intervals, each one covered by the same rules
+        TreeSet<Long> boundaries = new TreeSet<>();
+        List<BitSet> lineRuleMutators = new ArrayList<>();
+        for (SuppressionRule rule : lineRules) {
+            boundaries.add((long) rule.startLine().get());
+            boundaries.add(rule.endLine().get() + 1L);
+            lineRuleMutators.add(getMutators(registry, rule));
+        }
+
+        List<int[]> intervals = new ArrayList<>();
+        List<BitSet> intervalMutators = new ArrayList<>();
+        Long start = boundaries.pollFirst();
+        for (Long next : boundaries) {
+            int first = start.intValue();
+            int last = (int) (next - 1);
+            BitSet mutators = null;
+            for (int i = 0; i < lineRules.size(); i++) {
+                if (lineRules.get(i).startLine().get() <= first && lineRules.get(i).endLine().get() >= last) {
+                    mutators = merge(mutators, lineRuleMutators.get(i));
+                }
+            }
+            if (mutators != null) {
+                int previous = intervals.size() - 1;
+                if (previous >= 0 && intervals.get(previous)[1] == first - 1
+                        && intervalMutators.get(previous).equals(mutators)) {
+                    intervals.get(previous)[1] = last;
+                }
+                else {
+                    intervals.add(new int[] {first, last});
+                    intervalMutators.add(mutators);
+                }
+            }
+            start = next;
+        }
+
+        return new ScopedSuppressions(scopeMutators, intervals, intervalMutators, knownMutators,
+                rulesWithMutatorName, rules);
+    }
+
+    private static BitSet getMutators(final MutatorRegistry registry, final SuppressionRule rule) {
+        if (MutatorRegistry.isFamily(rule.mutator().getFqcn())) {
+            return registry.select(rule.mutator().getFqcn()).getIds();
+        }
+        if (rule.mutator() != PitMutator.NONE) {
+            BitSet mutators = new BitSet();
+            mutators.set(registry.getId(rule.mutator()));
+            return mutators;
+        }
+        if (rule.mutatorName().isEmpty()) {
+            return ALL;
+        }
+        return registry.select(rule.mutatorName().get()).getIds();
+    }
+
+    // the sets of the rules are shared by all intervals of the rule, so they are copied before they are modified
+    private static BitSet merge(final BitSet existing, final BitSet mutators) {
+        if (existing == null || existing.equals(mutators)) {
+            return mutators;
+        }
+        BitSet merged = (BitSet) existing.clone();
+        merged.or(mutators);
+        return merged;
+    }
+
+    private ScopedSuppressions(final BitSet scopeMutators, final List<int[]> intervals,
+            final List<BitSet> intervalMutators, final int knownMutators,
+            final List<SuppressionRule> rulesWithMutatorName, final List<SuppressionRule> rules) {
+        this.scopeMutators = scopeMutators;
+        this.intervalStarts = intervals.stream().mapToInt(interval -> interval[0]).toArray();
+        this.intervalEnds = intervals.stream().mapToInt(interval -> interval[1]).toArray();
+        this.intervalMutators = intervalMutators.toArray(new BitSet[0]);
+        this.knownMutators = knownMutators;
+        this.rulesWithMutatorName = List.copyOf(rulesWithMutatorName);
+        this.rules = List.copyOf(rules);
+    }
+
+    /**
+     * Returns whether a mutation is suppressed by the rules of this scope.
+     *
+     * @param mutatorId the {@link MutatorRegistry id} of the mutator
+     * @param fqcn the fully qualified class name of the mutator
+     * @param line the line of the mutation
+     * @return {@code true} if the mutation is suppressed, {@code false} otherwise
+     */
+    boolean suppresses(final int mutatorId, final String fqcn, final int line) {
+        if (contains(scopeMutators, mutatorId)) {
+            return true;
+        }
+        int position = Arrays.binarySearch(intervalStarts, line);
+        int interval = position >= 0 ? position : -position - 2;
+        if (interval >= 0 && line <= intervalEnds[interval] && contains(intervalMutators[interval], mutatorId)) {
+            return true;
+        }
+        return mutatorId >= knownMutators && !rulesWithMutatorName.isEmpty() && matchesMutatorName(fqcn, line);
+    }
+
+    private static boolean contains(final BitSet mutators, final int mutatorId) {
+        return mutators.get(MutatorRegistry.ALL_MUTATORS) || mutators.get(mutatorId);
+    }
+
+    private boolean matchesMutatorName(final String fqcn, final int line) {
+        for (SuppressionRule rule : rulesWithMutatorName) {
+            if (lineMatches(rule, line) && mutatorMatches(rule, fqcn)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the first rule of this scope that suppresses a mutation. In contrast to
+     * {@link #suppresses(int, String, int)} all rules are evaluated one after another, so this method should only be
+     * used to explain a suppression.
+     *
+     * @param fqcn the fully qualified class name of the mutator
+     * @param line the line of the mutation
+     * @return the rule that suppresses the mutation, or an empty optional if the mutation is not suppressed
+     */
+    Optional<SuppressionRule> findRule(final String fqcn, final int line) {
+        for (SuppressionRule rule : rules) {
+            if (lineMatches(rule, line) && mutatorMatches(rule, fqcn)) {
+                return Optional.of(rule);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean lineMatches(final SuppressionRule rule, final int line) {
+        return rule.startLine().map(start -> line >= start).orElse(true)
+                && rule.endLine().map(end -> line <= end).orElse(true);
+    }
+
+    private static boolean mutatorMatches(final SuppressionRule rule, final String fqcn) {
+        if (rule.mutator() != PitMutator.NONE) {
+            return MutatorRegistry.nameMatches(fqcn, rule.mutator().getFqcn());
+        }
+        return rule.mutatorName().map(name -> MutatorRegistry.nameMatches(fqcn, name)).orElse(true);
+    }
+}
@@ -0,0 +1,111 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps only the mutations that belong to one shard of a run that is split across several nodes. Each mutation is
+ * assigned to a shard using its {@link MutationHash#ofSite(MutationDetails, long) hash} (class, method, descriptor,
+ * mutator, line, and instruction), so all nodes agree on the assignment without any coordination.
+ *
+ * <p>
+ * The costs of mutations of the same class are similar, since they are analyzed by the same tests. So the mutations
+ * of each class are sorted by their hash and dealt out round-robin to the shards, starting at a shard that is derived
+ * from the hash of the class name. Thus, every shard gets the same share (up to one mutation) of each class, and the
+ * remainders of the classes are spread across all shards. For more information, please see the README.
+ * </p>
+ *
+ * <p>
+ * This filter has no state, so a single instance can be used by several threads concurrently.
+ * </p>
+ */
+public class ShardingFilter implements MutationInterceptor {
+    private final int index;
+    private final int total;
+
+    /**
+     * Creates a new {@link ShardingFilter}.
+     *
+     * @param index the index of the shard to keep, must be in the range [0, total)
+     * @param total the total number of shards, must be positive
+     */
+    public ShardingFilter(final int index, final int total) {
+        if (total < 1) {
+            throw new IllegalArgumentException("The total number of shards must be positive: " + total);
+        }
+        if (index < 0 || index >= total) {
+            throw new IllegalArgumentException(
+                    "The shard index must be at least 0 and less than " + total + ": " + index);
+        }
+        this.index = index;
+        this.total = total;
+    }
+
+    @Override
+    public InterceptorType type() {
+        return InterceptorType.FILTER;
+    }
+
+    @Override
+    public void begin(final ClassTree classTree) {
+        // nothing to prepare
+    }
+
+    @Override
+    public Collection<MutationDetails> intercept(final Collection<MutationDetails> mutations, final Mutater mutater) {
+        if (mutations.isEmpty() || total == 1) {
+            return mutations;
+        }
+
+        Map<String, List<MutationDetails>> mutationsByClass = new LinkedHashMap<>();
+        for (MutationDetails mutation : mutations) {
+            mutationsByClass.computeIfAbsent(mutation.getClassName().asJavaName(), name -> new ArrayList<>())
+                    .add(mutation);
+        }
+
+        Set<MutationDetails> shard = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map.Entry<String, List<MutationDetails>> entry : mutationsByClass.entrySet()) {
+            select(entry.getKey(), entry.getValue(), shard);
+        }
+        return mutations.stream().filter(shard::contains).toList();
+    }
+
+    private void select(final String className, final List<MutationDetails> mutations,
+            final Set<MutationDetails> shard) {
+        long[] hashes = new long[mutations.size()];
+        Integer[] positions = new Integer[mutations.size()];
+        for (int i = 0; i < mutations.size(); i++) {
+            hashes[i] = MutationHash.ofSite(mutations.get(i), 0);
+            positions[i] = i;
+        }
+        Arrays.sort(positions, Comparator.comparingLong((Integer position) -> hashes[position]));
+
+        int first = Math.floorMod(index - getOffset(className), total);
+        for (int i = first; i < positions.length; i += total) {
+            shard.add(mutations.get(positions[i]));
+        }
+    }
+
+    private int getOffset(final String className) {
+        return (int) Long.remainderUnsigned(MutationHash.of(className, 0), total);
+    }
+
+    @Override
+    public void end() {
+        // nothing to clean up
+    }
+}
@@ -0,0 +1,51 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+import java.util.Optional;
+
+/**
+ * Factory for creating a {@link ShardingFilter} instance that keeps only the mutations of one shard.
+ *
+ * <p>
+ * For details on usage and configuration, please refer to the project's README.
+ * </p>
+ */
+public class ShardingFilterFactory implements MutationInterceptorFactory {
+    @Override
+    public MutationInterceptor createInterceptor(final InterceptorParameters params) {
+        Optional<FeatureSetting> settings = params.settings();
+        String index = getRequiredParameter(settings, "index");
+        String total = getRequiredParameter(settings, "total");
+
+        try {
+            return new ShardingFilter(Integer.parseInt(index.trim()), Integer.parseInt(total.trim()));
+        }
+        catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid feature parameter of FSHARD: " + e.getMessage(), e);
+        }
+    }
+
+    private static String getRequiredParameter(final Optional<FeatureSetting> settings, final String name) {
+        return settings.flatMap(setting -> setting.getString(name))
+                .filter(value -> !value.isBlank())
+                .orElseThrow(() -> new IllegalStateException("Missing or empty feature parameter \"" + name
+                        + "\". Please provide the shard of this node, e.g. +FSHARD(index[2] total[8])."));
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("FSHARD")
+                .withDescription("Keep only the mutations of one shard of a distributed run")
+                .withOnByDefault(false);
+    }
+
+    @Override
+    public String description() {
+        return "Keep only the mutations of one shard of a distributed run";
+    }
+}
@@ -0,0 +1,309 @@
+package edu.hm.hafner.pitmute;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * An index of {@link CsvExclusionEntry} entries that is stored in a directory, so it can be shared by all modules
+ * of a Maven reactor. The first module that needs the index parses the CSV files and writes the index; all other
+ * modules just read the parts of the index they need.
+ *
+ * <p>
+ * The index is partitioned by package: the entries of each package are stored in a separate file. Entries without a
+ * package (simple class names or file names) are stored in a global partition that is used for all classes. The
+ * partition of a package is read when a class of this package is analyzed for the first time.
+ * </p>
+ *
+ * <p>
+ * The name of the index directory contains a hash of the paths and a hash of the paths, sizes, and modification times
+ * of the CSV files, so a changed CSV file results in a new index. The index is written to a temporary directory that
+ * is renamed atomically when it is complete. Before a new index is written, the temporary directories of aborted
+ * builds and the outdated indexes of the same CSV files are deleted; indexes of other CSV files are kept.
+ * The creation is guarded by a file lock, so several Maven processes (and several threads of the same process) can
+ * open the index concurrently. The index can be used by several threads.
+ * </p>
+ */
+final class SharedExclusionIndex implements ExclusionIndex {
+    private static final String GLOBAL_PARTITION = "_global";
+    private static final String PARTITION_SUFFIX = ".csv";
+    private static final String MANIFEST = "index.properties";
+    private static final String PACKAGES = "packages";
+    private static final String ENTRIES = "entries";
+    private static final String LOCK_FILE = "index.lock";
+    private static final String INDEX_PREFIX = "index-";
+    private static final String TEMPORARY_MARKER = ".tmp";
+    private static final String KEY_SEPARATOR = "-";
+    private static final Set<String> SOURCE_FILE_EXTENSIONS = Set.of("java", "kt", "kts", "groovy", "scala", "clj");
+    private static final String SEPARATOR = ",";
+    private static final int FIELDS = 5;
+    /** A file lock cannot be acquired twice by the same JVM. Not a monitor, since that would pin a virtual thread. */
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    private final Path directory;
+    private final Set<String> packages;
+    private final boolean empty;
+    private final CsvExclusionIndex globalIndex;
+    private final Map<String, CsvExclusionIndex> partitions = new ConcurrentHashMap<>();
+
+    /**
+     * Opens the index of the specified CSV files. If the index does not exist yet, it is created using the specified
+     * entries.
+     *
+     * @param root the directory that contains the indexes
+     * @param files the CSV files to index
+     * @param entries provides the entries of the CSV files, only called if the index does not exist yet
+     * @return the opened index
+     */
+    static SharedExclusionIndex open(final Path root, final List<Path> files,
+            final Supplier<ExclusionRuleStore> entries) {
+        try {
+            Path directory = root.resolve(INDEX_PREFIX + getKey(files));
+            if (!Files.isDirectory(directory)) {
+                create(root, directory, entries);
+            }
+            return new SharedExclusionIndex(directory);
+        }
+        catch (IOException | UncheckedIOException e) {
+            throw new IllegalStateException("Failed to create the shared exclusion index in " + root, e);
+        }
+    }
+
+    /**
+     * Returns the key of the index of the specified files. The key consists of a hash of the paths of the files,
+     * followed by a hash of the paths, sizes, and modification times of the files.
+     *
+     * @param files the CSV files to index
+     * @return the key of the index
+     * @throws IOException if the size or the modification time of a file cannot be read
+     */
+    private static String getKey(final List<Path> files) throws IOException {
+        try {
+            MessageDigest paths = MessageDigest.getInstance("SHA-256");
+            MessageDigest versions = MessageDigest.getInstance("SHA-256");
+            for (Path file : files) {
+                String path = file.toAbsolutePath().normalize() + "\n";
+                paths.update(path.getBytes(StandardCharsets.UTF_8));
+                String version = path + Files.size(file) + "|" + Files.getLastModifiedTime(file).toMillis() + "\n";
+                versions.update(version.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(paths.digest(), 0, 8) + KEY_SEPARATOR
+                    + HexFormat.of().formatHex(versions.digest(), 0, 16);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static void create(final Path root, final Path directory, final Supplier<ExclusionRuleStore> entries)
+            throws IOException {
+        Files.createDirectories(root);
+        LOCK.lock();
+        try (FileChannel channel = FileChannel.open(root.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.lock();
+            try {
+                if (!Files.isDirectory(directory)) { // might have been created by another process in the meantime
+                    deleteOutdatedDirectories(root, directory);
+                    Path temporary = Files.createTempDirectory(root, directory.getFileName() + TEMPORARY_MARKER);
+                    write(temporary, entries.get());
+                    move(temporary, directory);
+                }
+            }
+            finally {
+                lock.release();
+            }
+        }
+        finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Deletes the temporary directories of builds that have been aborted and the indexes of older versions of the
+     * same CSV files. Since every build holds the file lock, all temporary directories that exist while the lock is
+     * held are stale.
+     *
+     * @param root the directory that contains the indexes
+     * @param directory the directory of the index that will be created
+     * @throws IOException if a directory cannot be deleted
+     */
+    private static void deleteOutdatedDirectories(final Path root, final Path directory) throws IOException {
+        String name = directory.getFileName().toString();
+        String previousVersions = name.substring(0, name.lastIndexOf(KEY_SEPARATOR) + 1);
+        try (Stream<Path> directories = Files.list(root)) {
+            for (Path outdated : directories.filter(Files::isDirectory)
+                    .filter(path -> isOutdated(path.getFileName().toString(), previousVersions))
+                    .toList()) {
+                delete(outdated);
+            }
+        }
+    }
+
+    private static boolean isOutdated(final String name, final String previousVersions) {
+        return name.startsWith(INDEX_PREFIX) && name.contains(TEMPORARY_MARKER) || name.startsWith(previousVersions);
+    }
+
+    private static void move(final Path temporary, final Path directory) throws IOException {
+        try {
+            Files.move(temporary, directory, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (FileAlreadyExistsException | AtomicMoveNotSupportedException e) {
+            delete(temporary);
+            if (!Files.isDirectory(directory)) {
+                throw e;
+            }
+        }
+    }
+
+    private static void write(final Path directory, final ExclusionRuleStore entries) throws IOException {
+        String[] partitionOfClass = new String[entries.getClassCount()];
+        Set<String> partitionNames = new TreeSet<>(Set.of(GLOBAL_PARTITION));
+        for (int classId = 0; classId < partitionOfClass.length; classId++) {
+            partitionOfClass[classId] = getPartition(entries.getClassNameById(classId));
+            partitionNames.add(partitionOfClass[classId]);
+        }
+        List<String> partitions = new ArrayList<>(partitionNames);
+
+        int[] offsets = new int[partitions.size() + 1];
+        int[] partitionIds = new int[entries.size()];
+        for (int row = 0; row < entries.size(); row++) {
+            partitionIds[row] = Collections.binarySearch(partitions, partitionOfClass[entries.getClassId(row)]);
+            offsets[partitionIds[row] + 1]++;
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+        int[] rows = new int[entries.size()];
+        for (int row = 0; row < entries.size(); row++) {
+            rows[offsets[partitionIds[row]]++] = row;
+        }
+
+        int first = 0;
+        for (int partition = 0; partition < partitions.size(); partition++) {
+            try (BufferedWriter writer = Files.newBufferedWriter(
+                    directory.resolve(partitions.get(partition) + PARTITION_SUFFIX), StandardCharsets.UTF_8)) {
+                for (; first < offsets[partition]; first++) {
+                    CsvExclusionEntry entry = entries.getEntry(rows[first]);
+                    writer.write(String.join(SEPARATOR, entry.className(), entry.mutationName().orElse(""),
+                            entry.startLine().map(String::valueOf).orElse(""),
+                            entry.endLine().map(String::valueOf).orElse(""), entry.source()));
+                    writer.write('\n');
+                }
+            }
+        }
+
+        Properties manifest = new Properties();
+        List<String> packages = new ArrayList<>(partitions);
+        packages.remove(GLOBAL_PARTITION);
+        manifest.setProperty(PACKAGES, String.join(SEPARATOR, packages));
+        manifest.setProperty(ENTRIES, String.valueOf(entries.size()));
+        try (OutputStream output = Files.newOutputStream(directory.resolve(MANIFEST))) {
+            manifest.store(output, "pitmute exclusion index");
+        }
+    }
+
+    private static void delete(final Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Returns the partition of the specified class name. The partition is the package of the class, or the global
+     * partition if the class name has no package or is the name of a source file (e.g., {@code Foo.kt}).
+     *
+     * @param className the class name of an entry or the fully qualified name of a class
+     * @return the partition
+     */
+    private static String getPartition(final String className) {
+        int packageEnd = className.lastIndexOf('.');
+        if (packageEnd <= 0 || SOURCE_FILE_EXTENSIONS.contains(className.substring(packageEnd + 1))) {
+            return GLOBAL_PARTITION;
+        }
+        return className.substring(0, packageEnd);
+    }
+
+    private SharedExclusionIndex(final Path directory) throws IOException {
+        this.directory = directory;
+
+        Properties manifest = new Properties();
+        try (InputStream input = Files.newInputStream(directory.resolve(MANIFEST))) {
+            manifest.load(input);
+        }
+        String packageList = manifest.getProperty(PACKAGES, "");
+        packages = packageList.isEmpty() ? Set.of() : Set.of(packageList.split(SEPARATOR));
+        empty = Integer.parseInt(manifest.getProperty(ENTRIES, "0")) == 0;
+        globalIndex = new CsvExclusionIndex(read(GLOBAL_PARTITION));
+    }
+
+    @Override
+    public ExclusionRules findRules(final String fqcn, final String sourceFile) {
+        String partition = getPartition(fqcn);
+        if (!packages.contains(partition)) {
+            return globalIndex.findRules(fqcn, sourceFile);
+        }
+        return partitions.computeIfAbsent(partition, this::readPartition).findRules(fqcn, sourceFile);
+    }
+
+    private CsvExclusionIndex readPartition(final String partition) {
+        return new CsvExclusionIndex(read(partition).addAll(globalIndex.getStore()));
+    }
+
+    private ExclusionRuleStore.Builder read(final String partition) {
+        ExclusionRuleStore.Builder entries = new ExclusionRuleStore.Builder();
+        try (BufferedReader reader = Files.newBufferedReader(directory.resolve(partition + PARTITION_SUFFIX),
+                StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                String[] fields = line.split(SEPARATOR, FIELDS);
+                if (fields.length != FIELDS) {
+                    throw new IOException("Invalid line in partition " + partition + ": " + line);
+                }
+                entries.add(fields[0], fields[1], parseLine(fields[2], ExclusionRuleStore.UNSET_START),
+                        parseLine(fields[3], ExclusionRuleStore.UNSET_END), fields[4]);
+            }
+        }
+        catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Failed to read the shared exclusion index in " + directory, e);
+        }
+        return entries;
+    }
+
+    private static int parseLine(final String value, final int defaultValue) {
+        return value.isEmpty() ? defaultValue : Integer.parseInt(value);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return empty;
+    }
+}
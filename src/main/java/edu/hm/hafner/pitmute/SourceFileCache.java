@@ -0,0 +1,72 @@
+package edu.hm.hafner.pitmute;
+
+import org.objectweb.asm.tree.ClassNode;
+import org.pitest.bytecode.analysis.ClassTree;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps classes to the names of the source files they have been compiled from. The source file is read from the
+ * {@code SourceFile} attribute of the class file, so nested classes, local and anonymous classes, and secondary
+ * top-level classes are mapped to the file that actually contains them. The cache is shared for the whole PIT run
+ * and can be used by several threads.
+ */
+final class SourceFileCache {
+    private static final String JAVA_FILE_SUFFIX = ".java";
+    private static final SourceFileCache INSTANCE = new SourceFileCache();
+
+    private final Map<String, String> sourceFiles = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cache that is shared by all filters of the current run.
+     *
+     * @return the shared cache
+     */
+    static SourceFileCache shared() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the source file name that is derived from the name of the specified class, i.e., the simple name of
+     * the top-level class followed by {@code .java}.
+     *
+     * @param fqcn the fully qualified name of the class
+     * @return the derived source file name
+     */
+    static String getDefaultSourceFile(final String fqcn) {
+        String simpleName = fqcn.substring(fqcn.lastIndexOf('.') + 1);
+        int nestedStart = simpleName.indexOf('$');
+        String topLevelName = nestedStart > 0 ? simpleName.substring(0, nestedStart) : simpleName;
+        return topLevelName + JAVA_FILE_SUFFIX;
+    }
+
+    /**
+     * Stores the source file of the specified class, if the class file contains a {@code SourceFile} attribute.
+     *
+     * @param classTree the class
+     */
+    void put(final ClassTree classTree) {
+        ClassNode classNode = classTree.rawNode();
+        if (classNode != null && classNode.sourceFile != null) {
+            sourceFiles.put(classTree.name().asJavaName(), classNode.sourceFile);
+        }
+    }
+
+    /**
+     * Returns the name of the source file of the specified class (without the package path, e.g., {@code Main.java}).
+     * If the class has not been stored yet, the name is derived from the class name, see
+     * {@link #getDefaultSourceFile(String)}.
+     *
+     * @param fqcn the fully qualified name of the class
+     * @return the name of the source file
+     */
+    String get(final String fqcn) {
+        String sourceFile = sourceFiles.get(fqcn);
+        return sourceFile == null ? getDefaultSourceFile(fqcn) : sourceFile;
+    }
+
+    int size() {
+        return sourceFiles.size();
+    }
+}
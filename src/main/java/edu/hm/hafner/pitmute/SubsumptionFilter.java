@@ -0,0 +1,133 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Removes redundant mutations of conditional instructions. The mutations of a class are grouped by method and
+ * instruction index. If a group contains the mutations of all dominating mutators of a {@link SubsumptionRule}, the
+ * mutation of the redundant mutator is removed. For more information, please see the README.
+ *
+ * <p>
+ * The rules are compiled into bit masks that contain one bit for each {@link PitMutator}, so checking a group requires
+ * only a few bit operations. This filter has no state, so a single instance can be used by several threads
+ * concurrently.
+ * </p>
+ */
+public class SubsumptionFilter implements MutationInterceptor {
+    private final long[][] dominatorMasksByMutator;
+
+    /**
+     * Creates a new {@link SubsumptionFilter}.
+     *
+     * @param rules the rules to apply
+     */
+    SubsumptionFilter(final List<SubsumptionRule> rules) {
+        List<List<Long>> masks = new ArrayList<>();
+        for (int i = 0; i < PitMutator.values().length; i++) {
+            masks.add(new ArrayList<>());
+        }
+        for (SubsumptionRule rule : rules) {
+            long mask = 0;
+            for (PitMutator dominator : rule.dominators()) {
+                mask |= bit(dominator);
+            }
+            masks.get(rule.redundant().ordinal()).add(mask);
+        }
+
+        dominatorMasksByMutator = new long[masks.size()][];
+        for (int i = 0; i < masks.size(); i++) {
+            dominatorMasksByMutator[i] = masks.get(i).stream().mapToLong(Long::longValue).toArray();
+        }
+    }
+
+    /**
+     * Creates a new {@link SubsumptionFilter} that uses the {@link SubsumptionRule#DEFAULT_RULES default rules}.
+     */
+    public SubsumptionFilter() {
+        this(SubsumptionRule.DEFAULT_RULES);
+    }
+
+    private static long bit(final PitMutator mutator) {
+        return 1L << mutator.ordinal();
+    }
+
+    @Override
+    public InterceptorType type() {
+        return InterceptorType.FILTER;
+    }
+
+    @Override
+    public void begin(final ClassTree classTree) {
+        // nothing to prepare
+    }
+
+    @Override
+    public Collection<MutationDetails> intercept(final Collection<MutationDetails> mutations, final Mutater mutater) {
+        if (mutations.size() < 2) {
+            return mutations;
+        }
+
+        Map<InstructionKey, Long> mutatorsByInstruction = new HashMap<>();
+        for (MutationDetails mutation : mutations) {
+            long mutators = 0;
+            for (PitMutator mutator : getMutators(mutation)) {
+                mutators |= bit(mutator);
+            }
+            if (mutators != 0) {
+                mutatorsByInstruction.merge(InstructionKey.of(mutation), mutators, (a, b) -> a | b);
+            }
+        }
+
+        return mutations.stream().filter(mutation -> !isRedundant(mutation, mutatorsByInstruction)).toList();
+    }
+
+    /**
+     * Returns the mutators of the enum that the mutation belongs to: the mutator itself and, for a member of a family
+     * like {@code RemoveSwitchMutator_3}, the mutator of the whole family.
+     */
+    private static List<PitMutator> getMutators(final MutationDetails mutation) {
+        String fqcn = mutation.getMutator();
+        Optional<PitMutator> mutator = PitMutator.fromFqcn(fqcn);
+        Optional<PitMutator> family = PitMutator.familyOf(fqcn);
+        if (family.isEmpty()) {
+            return mutator.map(List::of).orElse(List.of());
+        }
+        return mutator.map(member -> List.of(member, family.get())).orElse(List.of(family.get()));
+    }
+
+    private boolean isRedundant(final MutationDetails mutation, final Map<InstructionKey, Long> mutatorsByInstruction) {
+        for (PitMutator mutator : getMutators(mutation)) {
+            long[] dominatorMasks = dominatorMasksByMutator[mutator.ordinal()];
+            for (long dominatorMask : dominatorMasks) {
+                long mutators = mutatorsByInstruction.get(InstructionKey.of(mutation));
+                if ((mutators & dominatorMask) == dominatorMask) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void end() {
+        // nothing to clean up
+    }
+
+    private record InstructionKey(String method, String methodDesc, int instruction) {
+        static InstructionKey of(final MutationDetails mutation) {
+            return new InstructionKey(mutation.getMethod(), mutation.getId().getLocation().getMethodDesc(),
+                    mutation.getId().getFirstIndex());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Factory for creating a {@link SubsumptionFilter} instance that removes redundant mutations of conditional
+ * instructions.
+ *
+ * <p>
+ * For details on usage and configuration, please refer to the project's README.
+ * </p>
+ */
+public class SubsumptionFilterFactory implements MutationInterceptorFactory {
+    @Override
+    public MutationInterceptor createInterceptor(final InterceptorParameters params) {
+        List<String> values = params.settings()
+                .map(settings -> settings.getList("rule"))
+                .orElse(List.of())
+                .stream()
+                .filter(rule -> rule != null && !rule.isBlank())
+                .toList();
+        if (values.isEmpty()) {
+            return new SubsumptionFilter();
+        }
+
+        List<SubsumptionRule> rules = new ArrayList<>();
+        for (String value : values) {
+            try {
+                rules.add(SubsumptionRule.parse(value));
+            }
+            catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Invalid feature parameter \"rule\": " + value + ". " + e.getMessage(), e);
+            }
+        }
+        return new SubsumptionFilter(rules);
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("FSUBSUME")
+                .withDescription("Remove redundant mutations of conditional instructions")
+                .withOnByDefault(false);
+    }
+
+    @Override
+    public String description() {
+        return "Remove redundant mutations of conditional instructions";
+    }
+}
@@ -0,0 +1,63 @@
+package edu.hm.hafner.pitmute;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A rule that marks the mutation of a mutator as redundant if the mutations of all dominating mutators have been
+ * created for the same instruction. Each test that detects the redundant mutation also detects at least one of the
+ * dominating mutations, so the redundant mutation can be skipped without weakening the test suite.
+ *
+ * @param dominators the mutators that together subsume the redundant mutator
+ * @param redundant  the mutator that is subsumed
+ */
+record SubsumptionRule(Set<PitMutator> dominators, PitMutator redundant) {
+    private static final String DOMINATOR_SEPARATOR = "+";
+    private static final String RULE_SEPARATOR = ">";
+
+    /**
+     * The default rules: negating a conditional is subsumed by replacing the condition with {@code true} and with
+     * {@code false}.
+     */
+    static final List<SubsumptionRule> DEFAULT_RULES = List.of(
+            new SubsumptionRule(EnumSet.of(PitMutator.REMOVE_CONDITIONALS_EQUAL_IF,
+                    PitMutator.REMOVE_CONDITIONALS_EQUAL_ELSE), PitMutator.NEGATE_CONDITIONALS),
+            new SubsumptionRule(EnumSet.of(PitMutator.REMOVE_CONDITIONALS_ORDER_IF,
+                    PitMutator.REMOVE_CONDITIONALS_ORDER_ELSE), PitMutator.NEGATE_CONDITIONALS));
+
+    SubsumptionRule {
+        if (dominators.isEmpty() || dominators.contains(PitMutator.NONE) || redundant == PitMutator.NONE) {
+            throw new IllegalArgumentException("A rule requires at least one dominating and one redundant mutator");
+        }
+        if (dominators.contains(redundant)) {
+            throw new IllegalArgumentException("A mutator cannot subsume itself: " + redundant);
+        }
+        dominators = Set.copyOf(dominators);
+    }
+
+    /**
+     * Parses a rule of the form {@code DOMINATOR+DOMINATOR>REDUNDANT}, where each mutator is the name of a
+     * {@link PitMutator}.
+     *
+     * @param rule the rule to parse
+     * @return the parsed rule
+     * @throws IllegalArgumentException if the rule is invalid
+     */
+    static SubsumptionRule parse(final String rule) {
+        String[] parts = rule.split(RULE_SEPARATOR, -1);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Expected a rule of the form DOMINATOR+DOMINATOR>REDUNDANT: " + rule);
+        }
+        Set<PitMutator> dominators = EnumSet.noneOf(PitMutator.class);
+        for (String dominator : parts[0].split("\\" + DOMINATOR_SEPARATOR, -1)) {
+            dominators.add(parseMutator(dominator));
+        }
+        return new SubsumptionRule(dominators, parseMutator(parts[1]));
+    }
+
+    private static PitMutator parseMutator(final String name) {
+        return PitMutator.valueOf(name.trim().toUpperCase(Locale.ENGLISH));
+    }
+}
@@ -41,6 +41,29 @@ public @interface SuppressMutation {
      */
     int line() default -1;
 
+    /**
+     * Limits the suppression to several line numbers.
+     *
+     * @return the line numbers to suppress, or an empty array for all lines in the scope
+     */
+    int[] lines() default {};
+
+    /**
+     * Limits the suppression to a range of lines that starts with this line number (inclusive).
+     * Must be used together with {@link #endLine()}.
+     *
+     * @return the first line number of the range to suppress, or -1 for all lines in the scope
+     */
+    int startLine() default -1;
+
+    /**
+     * Limits the suppression to a range of lines that ends with this line number (inclusive).
+     * Must be used together with {@link #startLine()}.
+     *
+     * @return the last line number of the range to suppress, or -1 for all lines in the scope
+     */
+    int endLine() default -1;
+
     /**
      * Specifies a mutator to be ignored.
      * If both {@code mutator} and {@code mutatorName} are provided, {@code mutatorName} is ignored.
@@ -10,8 +10,35 @@ import java.util.Optional;
  * @param methodName  the name of the method if the annotation is a method-level annotation
  * @param mutator     the mutator to be ignored if provided as an annotation parameter
  * @param mutatorName the name of the mutator to be ignored if provided as annotation parameter, only used if {@code mutator} is not provided
- * @param line        the line to be ignored if provided as an annotation parameter
+ * @param startLine   the first line (inclusive) to be ignored if a line or a line range is provided as an annotation parameter
+ * @param endLine     the last line (inclusive) to be ignored if a line or a line range is provided as an annotation parameter
  */
 public record SuppressionRule(String className, Optional<String> methodName, PitMutator mutator,
-                              Optional<String> mutatorName, Optional<Integer> line) {
+                              Optional<String> mutatorName, Optional<Integer> startLine, Optional<Integer> endLine) {
+    /**
+     * Creates a new rule for a single line.
+     *
+     * @param className   the name of the class where the annotation is located and applied
+     * @param methodName  the name of the method if the annotation is a method-level annotation
+     * @param mutator     the mutator to be ignored if provided as an annotation parameter
+     * @param mutatorName the name of the mutator to be ignored if provided as annotation parameter
+     * @param line        the line to be ignored if provided as an annotation parameter
+     * @deprecated use the canonical constructor with a line range instead
+     */
+    @Deprecated
+    public SuppressionRule(final String className, final Optional<String> methodName, final PitMutator mutator,
+            final Optional<String> mutatorName, final Optional<Integer> line) {
+        this(className, methodName, mutator, mutatorName, line, line);
+    }
+
+    /**
+     * Returns the first line to be ignored. Rules with a line range also ignore all lines up to {@link #endLine()}.
+     *
+     * @return the first line to be ignored
+     * @deprecated use {@link #startLine()} and {@link #endLine()} instead
+     */
+    @Deprecated
+    public Optional<Integer> line() {
+        return startLine;
+    }
 }
@@ -0,0 +1,350 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.mutationtest.engine.MutationDetails;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import edu.hm.hafner.pitmute.MutationsReportReader.ReportedMutation;
+
+/**
+ * The history of mutations that timed out in consecutive runs. The history is updated with the PIT report of the
+ * previous run: each mutation that timed out again extends its streak, each mutation with another result is removed.
+ * Mutations that are not part of the report (e.g., because they have been suppressed) keep their streak.
+ *
+ * <p>
+ * Each entry stores the hash of the class file it refers to. If the class file changes, the entries of the class are
+ * removed, so the streak starts again. The report of a run is created with the class files of this run, not with the
+ * class files that are available when the report is read. So each update also stores the hashes of the current class
+ * files, i.e., the class files that are mutated in the next run. A timeout of the next report is counted only if the
+ * class file has not been changed since then. Therefore, the first report only initializes these hashes.
+ * </p>
+ *
+ * <p>
+ * The history is stored in a CSV file with the columns class name, class file hash, mutation key, and number of
+ * consecutive timeouts. The hashes and keys are stored as hexadecimal numbers. The hashes of the mutated class files
+ * are stored in comment lines, like the fingerprint of the report.
+ * </p>
+ */
+final class TimeoutHistory {
+    /** The status of PIT for mutations that timed out. */
+    static final String TIMED_OUT = "TIMED_OUT";
+
+    private static final String HEADER = "# className,classHash,mutationKey,consecutiveTimeouts";
+    private static final String REPORT_PREFIX = "# report=";
+    private static final String CLASS_PREFIX = "# class=";
+    private static final String SEPARATOR = ",";
+    private static final int FIELDS = 4;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Map<Long, Entry> entries;
+    private final String reportFingerprint;
+    private final Map<String, Long> mutatedClassHashes;
+
+    /**
+     * Creates an empty history.
+     */
+    TimeoutHistory() {
+        this(new LinkedHashMap<>(), "", new LinkedHashMap<>());
+    }
+
+    private TimeoutHistory(final Map<Long, Entry> entries, final String reportFingerprint,
+            final Map<String, Long> mutatedClassHashes) {
+        this.entries = entries;
+        this.reportFingerprint = reportFingerprint;
+        this.mutatedClassHashes = mutatedClassHashes;
+    }
+
+    /**
+     * Returns the key of the specified mutation. The key depends only on the identifier of the mutation, not on its
+     * line.
+     *
+     * @param mutation the mutation
+     * @return the key
+     */
+    static long getKey(final MutationDetails mutation) {
+        return MutationHash.of(mutation, 0);
+    }
+
+    /**
+     * Returns the hash of the specified class file.
+     *
+     * @param classFile the content of the class file
+     * @return the hash
+     */
+    static long getClassHash(final byte[] classFile) {
+        return MutationHash.of(classFile, 0);
+    }
+
+    /**
+     * Reads the history from the specified file. If the file does not exist, an empty history is returned.
+     *
+     * @param file the history file
+     * @return the history
+     * @throws IllegalStateException if the file cannot be read
+     */
+    static TimeoutHistory read(final Path file) {
+        if (!Files.isRegularFile(file)) {
+            return new TimeoutHistory();
+        }
+        Map<Long, Entry> entries = new LinkedHashMap<>();
+        Map<String, Long> mutatedClassHashes = new LinkedHashMap<>();
+        String fingerprint = "";
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.startsWith(REPORT_PREFIX)) {
+                    fingerprint = line.substring(REPORT_PREFIX.length());
+                }
+                else if (line.startsWith(CLASS_PREFIX)) {
+                    String[] fields = line.substring(CLASS_PREFIX.length()).split(SEPARATOR, -1);
+                    if (fields.length != 2) {
+                        throw new IllegalArgumentException("Invalid class in timeout history: " + line);
+                    }
+                    mutatedClassHashes.put(fields[0], HexFormat.fromHexDigitsToLong(fields[1]));
+                }
+                else if (!line.isBlank() && !line.startsWith("#")) {
+                    Entry entry = parse(line);
+                    entries.put(entry.key(), entry);
+                }
+            }
+        }
+        catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Failed to read the timeout history " + file, e);
+        }
+        return new TimeoutHistory(entries, fingerprint, mutatedClassHashes);
+    }
+
+    private static Entry parse(final String line) {
+        String[] fields = line.split(SEPARATOR, -1);
+        if (fields.length != FIELDS) {
+            throw new IllegalArgumentException("Invalid entry in timeout history: " + line);
+        }
+        return new Entry(fields[0], HexFormat.fromHexDigitsToLong(fields[1]),
+                HexFormat.fromHexDigitsToLong(fields[2]), Integer.parseInt(fields[3]));
+    }
+
+    /**
+     * Writes the history to the specified file. The file is replaced atomically, if supported by the file system.
+     *
+     * @param file the history file
+     * @throws IllegalStateException if the file cannot be written
+     */
+    void write(final Path file) {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                writer.write(REPORT_PREFIX + reportFingerprint);
+                writer.newLine();
+                for (Map.Entry<String, Long> classHash : mutatedClassHashes.entrySet()) {
+                    writer.write(CLASS_PREFIX + classHash.getKey() + SEPARATOR + HEX.toHexDigits(classHash.getValue()));
+                    writer.newLine();
+                }
+                for (Entry entry : entries.values()) {
+                    writer.write(String.join(SEPARATOR, entry.className(), HEX.toHexDigits(entry.classHash()),
+                            HEX.toHexDigits(entry.key()), String.valueOf(entry.streak())));
+                    writer.newLine();
+                }
+            }
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("Failed to write the timeout history " + file, e);
+        }
+    }
+
+    /**
+     * Returns the fingerprint of the report that has been used for the last update.
+     *
+     * @return the fingerprint, or an empty string if the history has not been updated yet
+     */
+    String getReportFingerprint() {
+        return reportFingerprint;
+    }
+
+    /**
+     * Returns the fingerprint of the specified report, i.e., its size and modification time. A report is used only
+     * once to update the history, so running PIT several times without a new report does not extend the streaks.
+     *
+     * @param report the PIT report
+     * @return the fingerprint
+     * @throws IllegalStateException if the report cannot be read
+     */
+    static String getFingerprint(final Path report) {
+        try {
+            return Files.size(report) + ":" + Files.getLastModifiedTime(report).toMillis();
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("Failed to read the PIT report " + report, e);
+        }
+    }
+
+    /**
+     * Updates the history with the mutations of a PIT report. A timeout is counted only if the class file has not
+     * been changed since the last update, i.e., if the timeout has been caused by the current class file.
+     *
+     * @param report the PIT report of the previous run
+     * @param classHashes provides the hash of the current class file of a class, or an empty optional if the class
+     *         file is not available
+     * @return the updated history
+     * @throws IllegalStateException if the report cannot be read
+     */
+    TimeoutHistory update(final Path report, final Function<String, OptionalLong> classHashes) {
+        Map<String, OptionalLong> hashes = new LinkedHashMap<>();
+        Function<String, OptionalLong> cachedHashes = className -> hashes.computeIfAbsent(className, classHashes);
+
+        Map<Long, Entry> updated = new LinkedHashMap<>();
+        for (Entry entry : entries.values()) {
+            if (entry.isValidFor(cachedHashes.apply(entry.className()))) {
+                updated.put(entry.key(), entry);
+            }
+        }
+        MutationsReportReader.read(report, mutation -> update(updated, mutation, cachedHashes));
+
+        Map<String, Long> currentClassHashes = new LinkedHashMap<>();
+        hashes.forEach((className, hash) -> hash.ifPresent(value -> currentClassHashes.put(className, value)));
+        return new TimeoutHistory(updated, getFingerprint(report), currentClassHashes);
+    }
+
+    private void update(final Map<Long, Entry> entries, final ReportedMutation reported,
+            final Function<String, OptionalLong> classHashes) {
+        String className = reported.mutation().getClassName().asJavaName();
+        OptionalLong classHash = classHashes.apply(className);
+        long key = getKey(reported.mutation());
+        if (!TIMED_OUT.equals(reported.status()) || !isMutatedClassFile(className, classHash)) {
+            entries.remove(key);
+            return;
+        }
+        Entry previous = entries.get(key);
+        int streak = previous == null ? 1 : previous.streak() + 1;
+        entries.put(key, new Entry(className, classHash.getAsLong(), key, streak));
+    }
+
+    /**
+     * Returns whether the specified class file has been mutated in the run that created the report, i.e., whether
+     * the class file has not been changed since the last update.
+     *
+     * @param className the name of the class
+     * @param classHash the hash of the current class file
+     * @return {@code true} if the class file has been mutated, {@code false} if it has been changed or is unknown
+     */
+    private boolean isMutatedClassFile(final String className, final OptionalLong classHash) {
+        Long mutatedHash = mutatedClassHashes.get(className);
+        return mutatedHash != null && classHash.isPresent() && mutatedHash == classHash.getAsLong();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of consecutive timeouts of the specified mutation.
+     *
+     * @param mutation the mutation
+     * @return the number of consecutive timeouts
+     */
+    int getStreak(final MutationDetails mutation) {
+        Entry entry = entries.get(getKey(mutation));
+        return entry == null ? 0 : entry.streak();
+    }
+
+    /**
+     * Returns the mutations that timed out in at least the specified number of consecutive runs.
+     *
+     * @param runs the minimum number of consecutive runs
+     * @return the chronic timeouts, grouped by class
+     */
+    ChronicTimeouts getChronicTimeouts(final int runs) {
+        Map<String, List<Entry>> entriesByClass = entries.values().stream()
+                .filter(entry -> entry.streak() >= runs)
+                .collect(Collectors.groupingBy(Entry::className));
+        Map<String, ClassTimeouts> timeouts = new HashMap<>();
+        entriesByClass.forEach((className, classEntries) -> {
+            long classHash = classEntries.get(0).classHash();
+            long[] keys = classEntries.stream()
+                    .filter(entry -> entry.classHash() == classHash)
+                    .mapToLong(Entry::key)
+                    .sorted()
+                    .toArray();
+            timeouts.put(className, new ClassTimeouts(classHash, keys));
+        });
+        return new ChronicTimeouts(Map.copyOf(timeouts));
+    }
+
+    /**
+     * An entry of the history.
+     *
+     * @param className the name of the mutated class
+     * @param classHash the hash of the class file that has been mutated when the mutation timed out the last time
+     * @param key the key of the mutation, see {@link #getKey(MutationDetails)}
+     * @param streak the number of consecutive runs in which the mutation timed out
+     */
+    record Entry(String className, long classHash, long key, int streak) {
+        boolean isValidFor(final OptionalLong currentHash) {
+            return currentHash.isPresent() && currentHash.getAsLong() == classHash;
+        }
+    }
+
+    /**
+     * The mutations that timed out in several consecutive runs, grouped by class. Instances are immutable.
+     */
+    static final class ChronicTimeouts {
+        private final Map<String, ClassTimeouts> timeoutsByClass;
+
+        private ChronicTimeouts(final Map<String, ClassTimeouts> timeoutsByClass) {
+            this.timeoutsByClass = timeoutsByClass;
+        }
+
+        Optional<ClassTimeouts> find(final String className) {
+            return Optional.ofNullable(timeoutsByClass.get(className));
+        }
+
+        boolean isEmpty() {
+            return timeoutsByClass.isEmpty();
+        }
+
+        int size() {
+            return timeoutsByClass.values().stream().mapToInt(ClassTimeouts::size).sum();
+        }
+    }
+
+    /**
+     * The chronic timeouts of a single class: the hash of the class file and the sorted keys of the mutations.
+     *
+     * @param classHash the hash of the class file the timeouts refer to
+     * @param keys the sorted keys of the mutations
+     */
+    record ClassTimeouts(long classHash, long[] keys) {
+        boolean contains(final MutationDetails mutation) {
+            return Arrays.binarySearch(keys, getKey(mutation)) >= 0;
+        }
+
+        int size() {
+            return keys.length;
+        }
+    }
+}
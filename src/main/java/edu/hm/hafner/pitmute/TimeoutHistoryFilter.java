@@ -0,0 +1,87 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classpath.ClassByteArraySource;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import edu.hm.hafner.pitmute.TimeoutHistory.ChronicTimeouts;
+import edu.hm.hafner.pitmute.TimeoutHistory.ClassTimeouts;
+
+/**
+ * Filters the mutations that timed out in several consecutive runs, see {@link TimeoutHistory}. Depending on the
+ * {@link Mode}, these mutations are removed, or only these mutations are kept, so they can be analyzed in a separate
+ * run. For more information, please see the README.
+ *
+ * <p>
+ * In {@link #begin(ClassTree)} the chronic timeouts of the class are stored in a per-thread cursor. If the class file
+ * has changed since the timeouts have been recorded, the timeouts of the class are ignored. Each mutation is then
+ * checked with a binary search in the sorted keys of the timeouts of its class. So a single instance of this filter
+ * can be used by several threads concurrently.
+ * </p>
+ */
+public class TimeoutHistoryFilter implements MutationInterceptor {
+    private final ChronicTimeouts timeouts;
+    private final ClassByteArraySource source;
+    private final Mode mode;
+    private final ThreadLocal<Optional<ClassTimeouts>> currentClass = new ThreadLocal<>();
+
+    /**
+     * Determines what happens with the mutations that timed out in several consecutive runs.
+     */
+    enum Mode {
+        /** Removes the chronic timeouts. */
+        SUPPRESS,
+        /** Keeps only the chronic timeouts. */
+        ONLY
+    }
+
+    TimeoutHistoryFilter(final ChronicTimeouts timeouts, final ClassByteArraySource source, final Mode mode) {
+        this.timeouts = timeouts;
+        this.source = source;
+        this.mode = mode;
+    }
+
+    @Override
+    public InterceptorType type() {
+        return InterceptorType.FILTER;
+    }
+
+    @Override
+    public void begin(final ClassTree classTree) {
+        String className = classTree.name().asJavaName();
+        currentClass.set(timeouts.find(className).filter(classTimeouts -> isUnchanged(className, classTimeouts)));
+    }
+
+    private boolean isUnchanged(final String className, final ClassTimeouts classTimeouts) {
+        return source.getBytes(className)
+                .map(TimeoutHistory::getClassHash)
+                .filter(hash -> hash == classTimeouts.classHash())
+                .isPresent();
+    }
+
+    @Override
+    public Collection<MutationDetails> intercept(final Collection<MutationDetails> mutations, final Mutater mutater) {
+        Optional<ClassTimeouts> classTimeouts = currentClass.get();
+        if (classTimeouts == null || classTimeouts.isEmpty()) {
+            return mode == Mode.SUPPRESS ? new ArrayList<>(mutations) : List.of();
+        }
+        boolean keepTimeouts = mode == Mode.ONLY;
+        return mutations.stream()
+                .filter(mutation -> classTimeouts.get().contains(mutation) == keepTimeouts)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void end() {
+        currentClass.remove();
+    }
+}
@@ -0,0 +1,113 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.classpath.ClassByteArraySource;
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import edu.hm.hafner.pitmute.TimeoutHistoryFilter.Mode;
+
+/**
+ * Factory for creating a {@link TimeoutHistoryFilter} instance that filters the mutations that timed out in several
+ * consecutive runs. The factory updates the {@link TimeoutHistory} with the PIT report of the previous run, before the
+ * filter is created.
+ *
+ * <p>
+ * For details on usage and configuration, please refer to the project's README.
+ * </p>
+ */
+public class TimeoutHistoryFilterFactory implements MutationInterceptorFactory {
+    private static final String DEFAULT_HISTORY = "target/pitmute-timeouts.csv";
+    private static final String DEFAULT_RUNS = "3";
+
+    private final Logger logger;
+
+    /**
+     * Creates a new {@link TimeoutHistoryFilterFactory}.
+     */
+    public TimeoutHistoryFilterFactory() {
+        this(Logger.getLogger(TimeoutHistoryFilterFactory.class.getName()));
+    }
+
+    TimeoutHistoryFilterFactory(final Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public MutationInterceptor createInterceptor(final InterceptorParameters params) {
+        Optional<FeatureSetting> settings = params.settings();
+        Path history = Paths.get(getParameter(settings, "history").orElse(DEFAULT_HISTORY));
+        Optional<Path> report = getParameter(settings, "report").map(Paths::get);
+        int runs;
+        Mode mode;
+        try {
+            runs = Integer.parseInt(getParameter(settings, "runs").orElse(DEFAULT_RUNS));
+            if (runs < 1) {
+                throw new IllegalArgumentException("The number of runs must be at least 1: " + runs);
+            }
+            mode = Mode.valueOf(getParameter(settings, "mode").orElse("suppress").toUpperCase(Locale.ENGLISH));
+        }
+        catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid feature parameter of FTIMEOUT: " + e.getMessage(), e);
+        }
+
+        ClassByteArraySource source = params.source();
+        TimeoutHistory timeoutHistory = readHistory(history, report, source);
+        TimeoutHistory.ChronicTimeouts timeouts = timeoutHistory.getChronicTimeouts(runs);
+        logger.log(Level.INFO, "Found {0} mutations that timed out in at least {1} consecutive runs",
+                new Object[] {timeouts.size(), runs});
+        return new TimeoutHistoryFilter(timeouts, source, mode);
+    }
+
+    private TimeoutHistory readHistory(final Path history, final Optional<Path> report,
+            final ClassByteArraySource source) {
+        TimeoutHistory timeoutHistory = TimeoutHistory.read(history);
+        if (report.isEmpty()) {
+            return timeoutHistory;
+        }
+        Path reportFile = report.get();
+        if (!Files.isRegularFile(reportFile)) {
+            logger.log(Level.INFO, "PIT report {0} not found, using the timeout history {1} as it is",
+                    new Object[] {reportFile, history});
+            return timeoutHistory;
+        }
+        if (TimeoutHistory.getFingerprint(reportFile).equals(timeoutHistory.getReportFingerprint())) {
+            return timeoutHistory;
+        }
+
+        TimeoutHistory updated = timeoutHistory.update(reportFile, className -> source.getBytes(className)
+                .map(bytes -> OptionalLong.of(TimeoutHistory.getClassHash(bytes)))
+                .orElse(OptionalLong.empty()));
+        updated.write(history);
+        return updated;
+    }
+
+    private static Optional<String> getParameter(final Optional<FeatureSetting> settings, final String name) {
+        return settings.flatMap(setting -> setting.getString(name))
+                .filter(value -> !value.isBlank())
+                .map(String::trim);
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("FTIMEOUT")
+                .withDescription("Filter mutations that timed out in several consecutive runs")
+                .withOnByDefault(false);
+    }
+
+    @Override
+    public String description() {
+        return "Filter mutations that timed out in several consecutive runs";
+    }
+}
@@ -0,0 +1,145 @@
+package edu.hm.hafner.pitmute;
+
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.AnnotationNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recognizes trivial methods by the shape of their instructions. Trivial methods are:
+ * <ul>
+ *     <li>getters (including record accessors) that return a field of the class</li>
+ *     <li>setters that assign the parameter to a field of the class (optionally returning {@code this})</li>
+ *     <li>{@code equals}, {@code hashCode}, and {@code toString} of records that are implemented by the compiler
+ *     using {@code java.lang.runtime.ObjectMethods}</li>
+ *     <li>methods that are generated by Lombok, i.e., annotated with {@code @lombok.Generated}</li>
+ * </ul>
+ *
+ * <p>
+ * Lombok methods are recognized only by the annotation (Lombok adds it with the configuration
+ * {@code lombok.addLombokGeneratedAnnotation = true}), since hand-written {@code equals}, {@code hashCode}, and
+ * {@code toString} methods often have the same shape.
+ * </p>
+ */
+final class TrivialMemberClassifier {
+    private static final String OBJECT_METHODS = "java/lang/runtime/ObjectMethods";
+    private static final String LOMBOK_GENERATED = "Llombok/Generated;";
+    private static final String EQUALS_DESC = "(Ljava/lang/Object;)Z";
+    private static final String HASH_CODE_DESC = "()I";
+    private static final String TO_STRING_DESC = "()Ljava/lang/String;";
+
+    private TrivialMemberClassifier() {
+        // prevents instantiation
+    }
+
+    /**
+     * Returns whether the specified method of a class is trivial.
+     *
+     * @param owner the internal name of the class that declares the method
+     * @param method the method to classify
+     * @return {@code true} if the method is trivial, {@code false} otherwise
+     */
+    static boolean isTrivial(final String owner, final MethodNode method) {
+        if ((method.access & (Opcodes.ACC_ABSTRACT | Opcodes.ACC_NATIVE | Opcodes.ACC_SYNTHETIC
+                | Opcodes.ACC_BRIDGE)) != 0) {
+            return false;
+        }
+        if (hasAnnotation(method.visibleAnnotations) || hasAnnotation(method.invisibleAnnotations)) {
+            return true;
+        }
+
+        List<AbstractInsnNode> instructions = getInstructions(method);
+        if ((method.access & Opcodes.ACC_STATIC) != 0) { // variable 0 is the first parameter rather than this
+            return isStaticGetter(owner, instructions);
+        }
+        return isStaticGetter(owner, instructions)
+                || isGetter(owner, instructions)
+                || isSetter(owner, instructions)
+                || isRecordObjectMethod(method, instructions);
+    }
+
+    private static boolean hasAnnotation(final List<AnnotationNode> annotations) {
+        return annotations != null
+                && annotations.stream().anyMatch(annotation -> LOMBOK_GENERATED.equals(annotation.desc));
+    }
+
+    private static List<AbstractInsnNode> getInstructions(final MethodNode method) {
+        List<AbstractInsnNode> instructions = new ArrayList<>();
+        for (AbstractInsnNode instruction : method.instructions) {
+            if (instruction.getOpcode() >= 0) {
+                instructions.add(instruction);
+            }
+        }
+        return instructions;
+    }
+
+    private static boolean isStaticGetter(final String owner, final List<AbstractInsnNode> instructions) {
+        return instructions.size() == 2
+                && isFieldAccess(instructions.get(0), Opcodes.GETSTATIC, owner)
+                && isValueReturn(instructions.get(1));
+    }
+
+    private static boolean isGetter(final String owner, final List<AbstractInsnNode> instructions) {
+        return instructions.size() == 3
+                && isLoad(instructions.get(0), 0)
+                && isFieldAccess(instructions.get(1), Opcodes.GETFIELD, owner)
+                && isValueReturn(instructions.get(2));
+    }
+
+    private static boolean isSetter(final String owner, final List<AbstractInsnNode> instructions) {
+        if (instructions.size() != 4 && instructions.size() != 5) {
+            return false;
+        }
+        boolean assignsField = isLoad(instructions.get(0), 0)
+                && isLoad(instructions.get(1), 1)
+                && isFieldAccess(instructions.get(2), Opcodes.PUTFIELD, owner);
+        if (instructions.size() == 4) {
+            return assignsField && instructions.get(3).getOpcode() == Opcodes.RETURN;
+        }
+        return assignsField && isLoad(instructions.get(3), 0) && instructions.get(4).getOpcode() == Opcodes.ARETURN;
+    }
+
+    private static boolean isRecordObjectMethod(final MethodNode method, final List<AbstractInsnNode> instructions) {
+        if (!isObjectMethod(method) || instructions.isEmpty()
+                || !isValueReturn(instructions.get(instructions.size() - 1))) {
+            return false;
+        }
+        boolean hasObjectMethodsCall = false;
+        for (AbstractInsnNode instruction : instructions.subList(0, instructions.size() - 1)) {
+            if (instruction instanceof InvokeDynamicInsnNode invokeDynamic
+                    && OBJECT_METHODS.equals(invokeDynamic.bsm.getOwner())) {
+                hasObjectMethodsCall = true;
+            }
+            else if (!(instruction instanceof VarInsnNode)) {
+                return false;
+            }
+        }
+        return hasObjectMethodsCall;
+    }
+
+    private static boolean isObjectMethod(final MethodNode method) {
+        return "equals".equals(method.name) && EQUALS_DESC.equals(method.desc)
+                || "hashCode".equals(method.name) && HASH_CODE_DESC.equals(method.desc)
+                || "toString".equals(method.name) && TO_STRING_DESC.equals(method.desc);
+    }
+
+    private static boolean isLoad(final AbstractInsnNode instruction, final int variable) {
+        return instruction instanceof VarInsnNode load
+                && load.getOpcode() >= Opcodes.ILOAD && load.getOpcode() <= Opcodes.ALOAD
+                && load.var == variable;
+    }
+
+    private static boolean isFieldAccess(final AbstractInsnNode instruction, final int opcode, final String owner) {
+        return instruction instanceof FieldInsnNode field && field.getOpcode() == opcode && owner.equals(field.owner);
+    }
+
+    private static boolean isValueReturn(final AbstractInsnNode instruction) {
+        return instruction.getOpcode() >= Opcodes.IRETURN && instruction.getOpcode() <= Opcodes.ARETURN;
+    }
+}
@@ -0,0 +1,67 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.bytecode.analysis.MethodTree;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Filters mutations in trivial methods, e.g. getters, setters, record accessors, and generated {@code equals},
+ * {@code hashCode}, or {@code toString} methods. The methods are recognized by {@link TrivialMemberClassifier the
+ * shape of their instructions}, so no annotation or CSV entry is required. For more information, please see the
+ * README.
+ *
+ * <p>
+ * The methods of a class are classified once in {@link #begin(ClassTree)}. The trivial methods (name and descriptor)
+ * are stored in a per-thread cursor, so a single instance of this filter can be used by several threads concurrently.
+ * </p>
+ */
+public class TrivialMemberFilter implements MutationInterceptor {
+    private final ThreadLocal<TrivialMethods> currentClass = new ThreadLocal<>();
+
+    @Override
+    public InterceptorType type() {
+        return InterceptorType.FILTER;
+    }
+
+    @Override
+    public void begin(final ClassTree classTree) {
+        String owner = classTree.name().asInternalName();
+        Set<String> trivialMethods = new HashSet<>();
+        for (MethodTree method : classTree.methods()) {
+            if (TrivialMemberClassifier.isTrivial(owner, method.rawNode())) {
+                trivialMethods.add(method.asLocation().getMethodName() + method.asLocation().getMethodDesc());
+            }
+        }
+        currentClass.set(new TrivialMethods(classTree.name().asJavaName(), Set.copyOf(trivialMethods)));
+    }
+
+    @Override
+    public Collection<MutationDetails> intercept(final Collection<MutationDetails> mutations, final Mutater mutater) {
+        TrivialMethods trivialMethods = currentClass.get();
+        if (trivialMethods == null || trivialMethods.methods().isEmpty()) {
+            return new ArrayList<>(mutations);
+        }
+        return mutations.stream().filter(mutation -> !trivialMethods.contains(mutation)).collect(Collectors.toList());
+    }
+
+    @Override
+    public void end() {
+        currentClass.remove();
+    }
+
+    private record TrivialMethods(String className, Set<String> methods) {
+        boolean contains(final MutationDetails mutation) {
+            return className.equals(mutation.getClassName().asJavaName())
+                    && methods.contains(mutation.getMethod() + mutation.getId().getLocation().getMethodDesc());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+
+/**
+ * Factory for creating a {@link TrivialMemberFilter} instance that excludes mutations in trivial methods.
+ *
+ * <p>
+ * For details on usage and configuration, please refer to the project's README.
+ * </p>
+ */
+public class TrivialMemberFilterFactory implements MutationInterceptorFactory {
+    @Override
+    public MutationInterceptor createInterceptor(final InterceptorParameters interceptorParameters) {
+        return new TrivialMemberFilter();
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("FTRIVIAL")
+                .withDescription("Exclude mutations in trivial methods like getters, setters, and generated methods")
+                .withOnByDefault(false);
+    }
+
+    @Override
+    public String description() {
+        return "Exclude mutations in trivial methods like getters, setters, and generated methods";
+    }
+}
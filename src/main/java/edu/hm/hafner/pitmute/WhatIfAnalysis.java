@@ -0,0 +1,307 @@
+package edu.hm.hafner.pitmute;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import edu.hm.hafner.pitmute.MutationsReportReader.ReportedMutation;
+
+/**
+ * Replays the suppression rules of PitMute against the mutations of an existing PIT report ({@code mutations.xml}).
+ * The analysis shows how many mutations would be suppressed by the CSV entries and the {@link SuppressMutation}
+ * annotations, and estimates how much time would be saved, without running PIT again. The classes of the report are
+ * analyzed in parallel. If the class files are available, both filters see the same class files as in a PIT run, so
+ * CSV entries for a source file also match the secondary top-level classes of this file.
+ *
+ * <p>
+ * Usage: {@code java -cp pitmute.jar:pitest-entry.jar:pitest.jar edu.hm.hafner.pitmute.WhatIfAnalysis
+ * --report target/pit-reports/mutations.xml [--csv etc/exclusions.csv]... [--classes target/classes]...
+ * [--millis-per-test 10] [--timeout-millis 4000] [--top 20]}
+ * </p>
+ */
+public final class WhatIfAnalysis {
+    private static final String USAGE = "Usage: WhatIfAnalysis --report <mutations.xml> [--csv <file>]... "
+            + "[--classes <directory>]... [--millis-per-test <ms>] [--timeout-millis <ms>] [--top <n>]";
+    private static final String TIMED_OUT = "TIMED_OUT";
+    private static final int DEFAULT_MILLIS_PER_TEST = 10;
+    private static final int DEFAULT_TIMEOUT_MILLIS = 4000;
+    private static final int DEFAULT_TOP = 20;
+
+    private final List<String> csvFiles = new ArrayList<>();
+    private final List<Path> classDirectories = new ArrayList<>();
+    private Path report;
+    private long millisPerTest = DEFAULT_MILLIS_PER_TEST;
+    private long timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+    private int top = DEFAULT_TOP;
+
+    /**
+     * Runs the analysis and prints the result to the standard output.
+     *
+     * @param args the command line arguments
+     */
+    @SuppressWarnings("PMD.SystemPrintln")
+    public static void main(final String[] args) {
+        int status = run(args, System.out, System.err);
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Runs the analysis.
+     *
+     * @param args the command line arguments
+     * @param out the stream to print the result to
+     * @param err the stream to print errors to
+     * @return the exit status: 0 on success, 1 if the analysis failed, 2 if the arguments are invalid
+     */
+    static int run(final String[] args, final PrintStream out, final PrintStream err) {
+        WhatIfAnalysis analysis;
+        try {
+            analysis = parse(args);
+        }
+        catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return 2;
+        }
+        try {
+            analysis.analyze().print(out, analysis.millisPerTest, analysis.timeoutMillis, analysis.top);
+            return 0;
+        }
+        catch (IllegalStateException e) {
+            err.println(e.getMessage());
+            return 1;
+        }
+    }
+
+    static WhatIfAnalysis parse(final String[] args) {
+        WhatIfAnalysis analysis = new WhatIfAnalysis();
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for option " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--report" -> analysis.report = Paths.get(value);
+                case "--csv" -> analysis.csvFiles.add(value);
+                case "--classes" -> analysis.classDirectories.add(Paths.get(value));
+                case "--millis-per-test" -> analysis.millisPerTest = parseNumber(option, value);
+                case "--timeout-millis" -> analysis.timeoutMillis = parseNumber(option, value);
+                case "--top" -> analysis.top = (int) parseNumber(option, value);
+                default -> throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+        if (analysis.report == null) {
+            throw new IllegalArgumentException("Missing option --report");
+        }
+        if (analysis.csvFiles.isEmpty() && analysis.classDirectories.isEmpty()) {
+            throw new IllegalArgumentException("At least one of the options --csv or --classes is required");
+        }
+        return analysis;
+    }
+
+    private static long parseNumber(final String option, final String value) {
+        try {
+            long number = Long.parseLong(value.trim());
+            if (number >= 0 && number <= Integer.MAX_VALUE) {
+                return number;
+            }
+        }
+        catch (NumberFormatException ignored) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid value for option " + option + ": " + value);
+    }
+
+    private WhatIfAnalysis() {
+        // use parse
+    }
+
+    /**
+     * Replays the rules against the mutations of the report.
+     *
+     * @return the result of the analysis
+     */
+    Result analyze() {
+        Map<String, List<ReportedMutation>> mutationsByClass = new LinkedHashMap<>();
+        MutationsReportReader.read(report, mutation -> mutationsByClass
+                .computeIfAbsent(mutation.mutation().getClassName().asJavaName(), name -> new ArrayList<>())
+                .add(mutation));
+
+        Optional<CsvExclusionFilter> csvFilter = csvFiles.isEmpty() ? Optional.empty()
+                : Optional.of(new CsvExclusionFilter(new CsvExclusionFilterFactory(
+                        Logger.getLogger(WhatIfAnalysis.class.getName())).getCsvExclusionIndex(csvFiles, false),
+                        Optional.empty(), new SourceFileCache()));
+        Optional<AnnotationExclusionFilter> annotationFilter = classDirectories.isEmpty() ? Optional.empty()
+                : Optional.of(new AnnotationExclusionFilter(this::readClassFile));
+
+        return mutationsByClass.entrySet().parallelStream()
+                .map(entry -> analyze(entry.getKey(), entry.getValue(), csvFilter, annotationFilter))
+                .reduce(new Result(), Result::merge);
+    }
+
+    private Result analyze(final String className, final List<ReportedMutation> mutations,
+            final Optional<CsvExclusionFilter> csvFilter, final Optional<AnnotationExclusionFilter> annotationFilter) {
+        Optional<ClassTree> classTree = readClassFile(className).map(ClassTree::fromBytes);
+        classTree.ifPresent(tree -> {
+            csvFilter.ifPresent(filter -> filter.begin(tree));
+            annotationFilter.ifPresent(filter -> filter.begin(tree));
+        });
+        Optional<AnnotationExclusionFilter> activeAnnotationFilter = annotationFilter.filter(
+                filter -> classTree.isPresent());
+        try {
+            Result result = new Result();
+            for (ReportedMutation reported : mutations) {
+                MutationDetails mutation = reported.mutation();
+                Optional<String> rule = csvFilter.flatMap(filter -> filter.findRule(mutation))
+                        .or(() -> activeAnnotationFilter.flatMap(filter -> filter.findRule(mutation)));
+                result.add(reported, rule);
+            }
+            return result;
+        }
+        finally {
+            csvFilter.ifPresent(CsvExclusionFilter::end);
+            annotationFilter.ifPresent(AnnotationExclusionFilter::end);
+        }
+    }
+
+    private Optional<byte[]> readClassFile(final String className) {
+        String fileName = className.replace('.', '/') + ".class";
+        for (Path directory : classDirectories) {
+            Path file = directory.resolve(fileName);
+            if (Files.isRegularFile(file)) {
+                try {
+                    return Optional.of(Files.readAllBytes(file));
+                }
+                catch (IOException e) {
+                    throw new IllegalStateException("Failed to read the class file " + file, e);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The suppressed mutations, counted by rule, class, and mutator. Instances are not thread-safe, the results of
+     * several threads are combined using {@link #merge(Result)}.
+     */
+    static final class Result {
+        private long mutations;
+        private long suppressed;
+        private long testsRun;
+        private long timedOut;
+        private final Map<String, Long> byRule = new HashMap<>();
+        private final Map<String, Long> byClass = new HashMap<>();
+        private final Map<String, Long> byMutator = new HashMap<>();
+
+        void add(final ReportedMutation mutation, final Optional<String> rule) {
+            mutations++;
+            if (rule.isEmpty()) {
+                return;
+            }
+            suppressed++;
+            testsRun += mutation.testsRun();
+            if (TIMED_OUT.equals(mutation.status())) {
+                timedOut++;
+            }
+            byRule.merge(rule.get(), 1L, Long::sum);
+            byClass.merge(mutation.mutation().getClassName().asJavaName(), 1L, Long::sum);
+            byMutator.merge(getSimpleName(mutation.mutation().getMutator()), 1L, Long::sum);
+        }
+
+        private static String getSimpleName(final String mutator) {
+            return mutator.substring(mutator.lastIndexOf('.') + 1);
+        }
+
+        Result merge(final Result other) {
+            Result merged = new Result();
+            for (Result result : List.of(this, other)) {
+                merged.mutations += result.mutations;
+                merged.suppressed += result.suppressed;
+                merged.testsRun += result.testsRun;
+                merged.timedOut += result.timedOut;
+                result.byRule.forEach((key, count) -> merged.byRule.merge(key, count, Long::sum));
+                result.byClass.forEach((key, count) -> merged.byClass.merge(key, count, Long::sum));
+                result.byMutator.forEach((key, count) -> merged.byMutator.merge(key, count, Long::sum));
+            }
+            return merged;
+        }
+
+        long getMutations() {
+            return mutations;
+        }
+
+        long getSuppressed() {
+            return suppressed;
+        }
+
+        long getTestsRun() {
+            return testsRun;
+        }
+
+        Map<String, Long> getByRule() {
+            return Map.copyOf(byRule);
+        }
+
+        Map<String, Long> getByClass() {
+            return Map.copyOf(byClass);
+        }
+
+        Map<String, Long> getByMutator() {
+            return Map.copyOf(byMutator);
+        }
+
+        /**
+         * Returns the estimated time that would be saved: each test run of a suppressed mutation costs
+         * {@code millisPerTest}, each suppressed mutation that timed out costs {@code timeoutMillis}.
+         *
+         * @param millisPerTest the estimated time of a single test run
+         * @param timeoutMillis the estimated time of a mutation that timed out
+         * @return the estimated time in milliseconds
+         */
+        long getSavedMillis(final long millisPerTest, final long timeoutMillis) {
+            return testsRun * millisPerTest + timedOut * timeoutMillis;
+        }
+
+        void print(final PrintStream out, final long millisPerTest, final long timeoutMillis, final int top) {
+            out.printf(Locale.ENGLISH, "Mutations in report:     %d%n", mutations);
+            out.printf(Locale.ENGLISH, "Suppressed mutations:    %d (%.1f%%)%n", suppressed,
+                    mutations == 0 ? 0.0 : 100.0 * suppressed / mutations);
+            out.printf(Locale.ENGLISH, "Test runs saved:         %d%n", testsRun);
+            out.printf(Locale.ENGLISH, "Estimated time saved:    %.1f s (%d ms per test run, %d ms per timeout)%n",
+                    getSavedMillis(millisPerTest, timeoutMillis) / 1000.0, millisPerTest, timeoutMillis);
+            print(out, "rule", byRule, top);
+            print(out, "class", byClass, top);
+            print(out, "mutator", byMutator, top);
+        }
+
+        private static void print(final PrintStream out, final String title, final Map<String, Long> counts,
+                final int top) {
+            out.printf(Locale.ENGLISH, "%nSuppressed mutations per %s:%n", title);
+            counts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(top)
+                    .forEach(entry -> out.printf(Locale.ENGLISH, "%8d  %s%n", entry.getValue(), entry.getKey()));
+            if (counts.size() > top) {
+                out.printf(Locale.ENGLISH, "     ...  %d more%n", counts.size() - top);
+            }
+        }
+    }
+}
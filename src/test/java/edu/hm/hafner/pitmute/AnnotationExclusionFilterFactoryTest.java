@@ -1,9 +1,15 @@
 package edu.hm.hafner.pitmute;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.pitest.mutationtest.build.InterceptorParameters;
 import org.pitest.mutationtest.build.MutationInterceptor;
 import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -18,7 +24,26 @@ class AnnotationExclusionFilterFactoryTest {
 
         assertThat(interceptor).isNotNull();
         assertThat(interceptor).isExactlyInstanceOf(AnnotationExclusionFilter.class);
-        verifyNoInteractions(interceptorParameters);
+        verify(interceptorParameters).source();
+        verify(interceptorParameters).settings();
+        verifyNoMoreInteractions(interceptorParameters);
+    }
+
+    @Test
+    void shouldCreateFilterWithForeignAnnotations() {
+        InterceptorParameters interceptorParameters = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getList("annotation")).thenReturn(List.of("lombok.Generated", "Lcom/google/protobuf/Generated;", " "));
+        when(interceptorParameters.settings()).thenReturn(Optional.of(settings));
+
+        assertThat(factory.createInterceptor(interceptorParameters)).isExactlyInstanceOf(AnnotationExclusionFilter.class);
+        verify(settings).getList("annotation");
+    }
+
+    @ParameterizedTest(name = "{index} => annotation: {0}")
+    @ValueSource(strings = {"lombok.Generated", "Llombok/Generated;", " lombok.Generated "})
+    void shouldConvertAnnotationNamesToDescriptors(final String annotation) {
+        assertThat(AnnotationExclusionFilterFactory.toDescriptor(annotation)).isEqualTo("Llombok/Generated;");
     }
 
     @Test
@@ -1,11 +1,20 @@
 package edu.hm.hafner.pitmute;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
 import org.objectweb.asm.tree.AnnotationNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InnerClassNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
 import org.pitest.bytecode.analysis.ClassTree;
 import org.pitest.bytecode.analysis.MethodTree;
 import org.pitest.classinfo.ClassName;
@@ -15,9 +24,19 @@ import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
@@ -25,6 +44,9 @@ import static org.mockito.Mockito.*;
 
 class AnnotationExclusionFilterTest {
     private static final String TEST_CLASS_FQCN = "com.example.TestClass";
+    private static final String OUTER_CLASS_FQCN = "com.example.Outer";
+    private static final String INNER_CLASS_FQCN = "com.example.Outer$Inner";
+    private static final String ANONYMOUS_CLASS_FQCN = "com.example.Outer$1";
     private final AnnotationExclusionFilter filter = new AnnotationExclusionFilter();
     private final Mutater mutater = mock(Mutater.class);
     private static final String SUPPRESS_MUTATION_DESC = "Lany/package/SuppressMutation;";
@@ -36,6 +58,9 @@ class AnnotationExclusionFilterTest {
     private static final String MUTATOR_NAME = "mutatorName";
     private static final String MUTATOR = "mutator";
     private static final String LINE = "line";
+    private static final String LINES = "lines";
+    private static final String START_LINE = "startLine";
+    private static final String END_LINE = "endLine";
     private static final int FIRST_LINE = 1;
     private static final String ANY_METHOD_DESC = "(II)I";
     private static final String THREE_INT_TO_INT_DESC = "(III)I";
@@ -139,6 +164,51 @@ class AnnotationExclusionFilterTest {
         assertThat(remainingMutations).containsExactly(notMatchingMutation);
     }
 
+    @Test
+    void shouldExplainSuppressedMutations(@TempDir final Path directory) throws IOException {
+        Path file = directory.resolve("explanations.ndjson");
+        ExplanationWriter writer = ExplanationWriter.forFile(file);
+        var explainingFilter = new AnnotationExclusionFilter(className -> Optional.empty(), new ClassSuppressionCache(10),
+                Optional.of(writer));
+
+        ClassTree classTree = createClassTree(TEST_CLASS_FQCN);
+        when(classTree.annotations()).thenReturn(List.of());
+        MethodTree methodTree = createMethodTree(classTree, "annotatedMethod");
+        var annotations = List.of(createAnnotation(MUTATOR_NAME, "Math"));
+        when(methodTree.annotations()).thenReturn(annotations);
+
+        explainingFilter.begin(classTree);
+        MutationDetails matchingMutation = createMutation(TEST_CLASS_FQCN, "annotatedMethod", MATH_MUTATOR_FQCN);
+        MutationDetails notMatchingMutation = createMutation(TEST_CLASS_FQCN, "annotatedMethod", PRIMITIVE_RETURNS_MUTATOR_FQCN);
+        Collection<MutationDetails> remainingMutations = explainingFilter.intercept(List.of(matchingMutation, notMatchingMutation), mutater);
+
+        assertThat(remainingMutations).containsExactly(notMatchingMutation);
+
+        writer.close();
+        assertThat(Files.readAllLines(file)).singleElement().asString()
+                .startsWith("{\"filter\":\"FANNOT\",\"class\":\"" + TEST_CLASS_FQCN + "\",\"method\":\"annotatedMethod\"")
+                .endsWith("\"rule\":\"@SuppressMutation on " + TEST_CLASS_FQCN + "#annotatedMethod" + ANY_METHOD_DESC
+                        + " mutatorName=Math\"}");
+    }
+
+    @Test
+    void shouldFindSuppressingRuleWithoutFiltering() {
+        ClassTree classTree = createClassTree(TEST_CLASS_FQCN);
+        when(classTree.annotations()).thenReturn(List.of());
+        MethodTree methodTree = createMethodTree(classTree, "annotatedMethod");
+        var annotations = List.of(createAnnotation(MUTATOR_NAME, "Math"));
+        when(methodTree.annotations()).thenReturn(annotations);
+
+        filter.begin(classTree);
+
+        assertThat(filter.findRule(createMutation(TEST_CLASS_FQCN, "annotatedMethod", MATH_MUTATOR_FQCN)))
+                .contains("@SuppressMutation on " + TEST_CLASS_FQCN + "#annotatedMethod" + ANY_METHOD_DESC
+                        + " mutatorName=Math");
+        assertThat(filter.findRule(createMutation(TEST_CLASS_FQCN, "annotatedMethod", PRIMITIVE_RETURNS_MUTATOR_FQCN)))
+                .isEmpty();
+        filter.end();
+    }
+
     @Test
     void shouldSuppressMutationsInMethodCorrectlyForMethodWithMultipleAnnotations() {
         ClassTree classTree = createClassTree(TEST_CLASS_FQCN);
@@ -249,6 +319,93 @@ class AnnotationExclusionFilterTest {
         assertThat(remainingMutations).containsExactly(primitiveReturnsMutation);
     }
 
+    @Test
+    void shouldSuppressMutationsForAnnotationsWithSeveralLinesAndLineRanges() {
+        ClassTree classTree = createClassTree(TEST_CLASS_FQCN);
+        when(classTree.annotations()).thenReturn(List.of());
+
+        MethodTree methodTree = createMethodTree(classTree, "annotatedMethod");
+        var annotations = List.of(createContainerAnnotation(List.of(List.of(LINES, List.of(3, 7)),
+                List.of(MUTATOR_NAME, "Math", START_LINE, 10, END_LINE, 12))));
+        when(methodTree.annotations()).thenReturn(annotations);
+
+        filter.begin(classTree);
+        MutationDetails suppressedInFirstLine = createMutation("annotatedMethod", NEGATE_CONDITIONALS_MUTATOR_FQCN, 3);
+        MutationDetails keptBetweenLines = createMutation("annotatedMethod", NEGATE_CONDITIONALS_MUTATOR_FQCN, 5);
+        MutationDetails suppressedInSecondLine = createMutation("annotatedMethod", PRIMITIVE_RETURNS_MUTATOR_FQCN, 7);
+        MutationDetails keptBeforeRange = createMutation("annotatedMethod", MATH_MUTATOR_FQCN, 9);
+        MutationDetails suppressedAtRangeStart = createMutation("annotatedMethod", MATH_MUTATOR_FQCN, 10);
+        MutationDetails suppressedAtRangeEnd = createMutation("annotatedMethod", MATH_MUTATOR_FQCN, 12);
+        MutationDetails keptInRangeWithOtherMutator = createMutation("annotatedMethod", NEGATE_CONDITIONALS_MUTATOR_FQCN, 11);
+        MutationDetails keptAfterRange = createMutation("annotatedMethod", MATH_MUTATOR_FQCN, 13);
+        Collection<MutationDetails> remainingMutations = filter.intercept(List.of(suppressedInFirstLine, keptBetweenLines,
+                suppressedInSecondLine, keptBeforeRange, suppressedAtRangeStart, suppressedAtRangeEnd,
+                keptInRangeWithOtherMutator, keptAfterRange), mutater);
+
+        assertThat(remainingMutations).containsExactly(keptBetweenLines, keptBeforeRange, keptInRangeWithOtherMutator, keptAfterRange);
+    }
+
+    @Test
+    void shouldSuppressMutationsInHugeAndDistantLineRanges() {
+        ClassTree classTree = createClassTree(TEST_CLASS_FQCN);
+        when(classTree.annotations()).thenReturn(List.of());
+
+        MethodTree methodTree = createMethodTree(classTree, "annotatedMethod");
+        var annotations = List.of(createContainerAnnotation(List.of(
+                List.of(MUTATOR_NAME, "Math", START_LINE, 1, END_LINE, Integer.MAX_VALUE),
+                List.of(MUTATOR_NAME, "NegateConditionals", LINES, List.of(2, 2_000_000_000)))));
+        when(methodTree.annotations()).thenReturn(annotations);
+
+        filter.begin(classTree);
+        MutationDetails suppressedMath = createMutation("annotatedMethod", MATH_MUTATOR_FQCN, Integer.MAX_VALUE);
+        MutationDetails suppressedInFirstLine = createMutation("annotatedMethod", NEGATE_CONDITIONALS_MUTATOR_FQCN, 2);
+        MutationDetails suppressedInLastLine = createMutation("annotatedMethod", NEGATE_CONDITIONALS_MUTATOR_FQCN, 2_000_000_000);
+        MutationDetails keptBetweenLines = createMutation("annotatedMethod", NEGATE_CONDITIONALS_MUTATOR_FQCN, 3);
+        MutationDetails keptWithOtherMutator = createMutation("annotatedMethod", PRIMITIVE_RETURNS_MUTATOR_FQCN, 2);
+        Collection<MutationDetails> remainingMutations = filter.intercept(List.of(suppressedMath, suppressedInFirstLine,
+                suppressedInLastLine, keptBetweenLines, keptWithOtherMutator), mutater);
+
+        assertThat(remainingMutations).containsExactly(keptBetweenLines, keptWithOtherMutator);
+    }
+
+    @Test
+    void shouldSkipAnnotationsWithIncompleteOrInvertedLineRange() {
+        ClassTree classTree = createClassTree(TEST_CLASS_FQCN);
+        when(classTree.annotations()).thenReturn(List.of());
+
+        MethodTree methodTree = createMethodTree(classTree, "annotatedMethod");
+        var annotations = List.of(createContainerAnnotation(List.of(List.of(START_LINE, 10),
+                List.of(END_LINE, 12), List.of(START_LINE, 12, END_LINE, 10))));
+        when(methodTree.annotations()).thenReturn(annotations);
+
+        filter.begin(classTree);
+        MutationDetails mutation = createMutation("annotatedMethod", MATH_MUTATOR_FQCN, 11);
+        Collection<MutationDetails> remainingMutations = filter.intercept(List.of(mutation), mutater);
+
+        assertThat(remainingMutations).containsExactly(mutation);
+    }
+
+    @Test
+    void shouldSuppressMutationsOfUnknownMutatorsByName() {
+        ClassTree classTree = createClassTree(TEST_CLASS_FQCN);
+        when(classTree.annotations()).thenReturn(List.of());
+
+        MethodTree methodTree = createMethodTree(classTree, "annotatedMethod");
+        var annotations = List.of(createContainerAnnotation(List.of(List.of(MUTATOR_NAME, "Custom"),
+                List.of(MUTATOR_NAME, "OtherCustomMutator", LINE, 5))));
+        when(methodTree.annotations()).thenReturn(annotations);
+
+        filter.begin(classTree);
+        MutationDetails customMutation = createMutation("annotatedMethod", "com.example.mutators.CustomMutator", 1);
+        MutationDetails otherCustomMutation = createMutation("annotatedMethod", "com.example.mutators.OtherCustomMutator", 5);
+        MutationDetails otherCustomMutationInOtherLine = createMutation("annotatedMethod", "com.example.mutators.OtherCustomMutator", 6);
+        MutationDetails mathMutation = createMutation("annotatedMethod", MATH_MUTATOR_FQCN, 5);
+        Collection<MutationDetails> remainingMutations = filter.intercept(List.of(customMutation, otherCustomMutation,
+                otherCustomMutationInOtherLine, mathMutation), mutater);
+
+        assertThat(remainingMutations).containsExactly(otherCustomMutationInOtherLine, mathMutation);
+    }
+
     @Test
     void shouldDistinguishOverloadedMethodsByDescriptor() {
         ClassTree classTree = createClassTree(TEST_CLASS_FQCN);
@@ -290,6 +447,30 @@ class AnnotationExclusionFilterTest {
         assertThat(remainingMutations).containsExactly(negateConditionalsMutationInOtherMethod);
     }
 
+    @Test
+    void shouldSuppressOnlySingleCaseOrWholeFamilyOfRemoveSwitchMutator() {
+        ClassTree classTree = createClassTree(TEST_CLASS_FQCN);
+        when(classTree.annotations()).thenReturn(List.of());
+
+        MethodTree singleCase = createMethodTree(classTree, "single", ANY_METHOD_DESC);
+        String[] thirdCase = {PIT_MUTATOR_FQCN, String.valueOf(PitMutator.EXPERIMENTAL_REMOVE_SWITCH_MUTATOR_3)};
+        when(singleCase.annotations()).thenReturn(List.of(createContainerAnnotation(List.of(List.of(MUTATOR, thirdCase)))));
+        MethodTree allCases = createMethodTree(classTree, "all", ANY_METHOD_DESC);
+        String[] family = {PIT_MUTATOR_FQCN, String.valueOf(PitMutator.EXPERIMENTAL_REMOVE_SWITCH)};
+        when(allCases.annotations()).thenReturn(List.of(createContainerAnnotation(List.of(List.of(MUTATOR, family)))));
+        when(classTree.methods()).thenReturn(List.of(singleCase, allCases));
+
+        filter.begin(classTree);
+        String removeSwitch = "org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_";
+        MutationDetails third = createMutation(TEST_CLASS_FQCN, "single", removeSwitch + "3", 10, ANY_METHOD_DESC);
+        MutationDetails fourth = createMutation(TEST_CLASS_FQCN, "single", removeSwitch + "4", 10, ANY_METHOD_DESC);
+        MutationDetails first = createMutation(TEST_CLASS_FQCN, "all", removeSwitch + "0", 20, ANY_METHOD_DESC);
+        MutationDetails later = createMutation(TEST_CLASS_FQCN, "all", removeSwitch + "57", 20, ANY_METHOD_DESC);
+        Collection<MutationDetails> remainingMutations = filter.intercept(List.of(third, fourth, first, later), mutater);
+
+        assertThat(remainingMutations).containsExactly(fourth);
+    }
+
     @Test
     void shouldNotRemoveMutationIfInvalidIntegerIsProvided() {
         ClassTree classTree = createClassTree(TEST_CLASS_FQCN);
@@ -309,6 +490,134 @@ class AnnotationExclusionFilterTest {
         assertThat(remainingMutations).containsExactly(mathMutation, negateConditionalsMutationInOtherMethod);
     }
 
+    @Test
+    void shouldSuppressMutationsInLambdasOfAnnotatedMethod() {
+        ClassTree classTree = createClassTree(TEST_CLASS_FQCN);
+        when(classTree.annotations()).thenReturn(List.of());
+
+        MethodTree annotatedMethod = createMethodTree(classTree, "annotatedMethod", EMPTY_TO_VOID_DESC);
+        when(annotatedMethod.annotations()).thenReturn(List.of(createAnnotation(MUTATOR_NAME, "Math")));
+        when(annotatedMethod.instructions()).thenReturn(List.of(createLambdaCall("lambda$annotatedMethod$0")));
+
+        MethodTree lambda = createLambdaMethodTree(classTree, "lambda$annotatedMethod$0");
+        when(lambda.instructions()).thenReturn(List.of(createLambdaCall("lambda$annotatedMethod$1")));
+        MethodTree nestedLambda = createLambdaMethodTree(classTree, "lambda$annotatedMethod$1");
+
+        MethodTree otherMethod = createMethodTree(classTree, "otherMethod", EMPTY_TO_VOID_DESC);
+        when(otherMethod.instructions()).thenReturn(List.of(createLambdaCall("lambda$otherMethod$2")));
+        MethodTree otherLambda = createLambdaMethodTree(classTree, "lambda$otherMethod$2");
+
+        when(classTree.methods()).thenReturn(List.of(annotatedMethod, lambda, nestedLambda, otherMethod, otherLambda));
+
+        filter.begin(classTree);
+        MutationDetails mathMutationInLambda = createMutation("lambda$annotatedMethod$0", MATH_MUTATOR_FQCN, 5);
+        MutationDetails mathMutationInNestedLambda = createMutation("lambda$annotatedMethod$1", MATH_MUTATOR_FQCN, 6);
+        MutationDetails negateConditionalsMutationInLambda = createMutation("lambda$annotatedMethod$0", NEGATE_CONDITIONALS_MUTATOR_FQCN, 5);
+        MutationDetails mathMutationInOtherLambda = createMutation("lambda$otherMethod$2", MATH_MUTATOR_FQCN, 10);
+        Collection<MutationDetails> remainingMutations = filter.intercept(List.of(mathMutationInLambda,
+                mathMutationInNestedLambda, negateConditionalsMutationInLambda, mathMutationInOtherLambda), mutater);
+
+        assertThat(remainingMutations).containsExactly(negateConditionalsMutationInLambda, mathMutationInOtherLambda);
+    }
+
+    @Test
+    void shouldNotAttributeMethodReferencesToNonSyntheticMethods() {
+        ClassTree classTree = createClassTree(TEST_CLASS_FQCN);
+        when(classTree.annotations()).thenReturn(List.of());
+
+        MethodTree annotatedMethod = createMethodTree(classTree, "annotatedMethod", EMPTY_TO_VOID_DESC);
+        when(annotatedMethod.annotations()).thenReturn(List.of(createAnnotation()));
+        when(annotatedMethod.instructions()).thenReturn(List.of(createLambdaCall("referencedMethod")));
+        MethodTree referencedMethod = createMethodTree(classTree, "referencedMethod", ANY_METHOD_DESC);
+
+        when(classTree.methods()).thenReturn(List.of(annotatedMethod, referencedMethod));
+
+        filter.begin(classTree);
+        MutationDetails mutation = createMutation("referencedMethod", MATH_MUTATOR_FQCN, 5);
+        Collection<MutationDetails> remainingMutations = filter.intercept(List.of(mutation), mutater);
+
+        assertThat(remainingMutations).containsExactly(mutation);
+    }
+
+    @Test
+    void shouldInheritClassLevelAnnotationsOfAlreadyAnalyzedEnclosingClass() {
+        var nestedClassFilter = new AnnotationExclusionFilter(className -> Optional.empty(), new ClassSuppressionCache(10));
+
+        ClassTree outerClass = createClassTree(OUTER_CLASS_FQCN);
+        when(outerClass.annotations()).thenReturn(List.of(createAnnotation(MUTATOR_NAME, "Math")));
+        MethodTree outerMethod = createMethodTree(outerClass, "annotatedMethod");
+        when(outerMethod.annotations()).thenReturn(List.of(createAnnotation()));
+
+        ClassTree innerClass = createClassTree(INNER_CLASS_FQCN);
+        when(innerClass.annotations()).thenReturn(List.of());
+        when(innerClass.methods()).thenReturn(List.of());
+        ClassNode innerNode = createClassNode(INNER_CLASS_FQCN);
+        innerNode.innerClasses.add(new InnerClassNode("com/example/Outer$Inner", "com/example/Outer", "Inner", Opcodes.ACC_STATIC));
+        when(innerClass.rawNode()).thenReturn(innerNode);
+
+        nestedClassFilter.begin(outerClass);
+        nestedClassFilter.begin(innerClass);
+
+        MutationDetails mathMutation = createMutation(INNER_CLASS_FQCN, "annotatedMethod", MATH_MUTATOR_FQCN);
+        MutationDetails negateConditionalsMutation = createMutation(INNER_CLASS_FQCN, "annotatedMethod", NEGATE_CONDITIONALS_MUTATOR_FQCN);
+        Collection<MutationDetails> remainingMutations = nestedClassFilter.intercept(List.of(mathMutation, negateConditionalsMutation), mutater);
+
+        assertThat(remainingMutations).containsExactly(negateConditionalsMutation);
+    }
+
+    @Test
+    void shouldReadEnclosingClassOnlyOnceForSeveralNestedClasses() {
+        var readCount = new AtomicInteger();
+        byte[] outerClassFile = createClassFile("com/example/Outer", MUTATOR_NAME, "Math");
+        var nestedClassFilter = new AnnotationExclusionFilter(className -> {
+            readCount.incrementAndGet();
+            return OUTER_CLASS_FQCN.equals(className) ? Optional.of(outerClassFile) : Optional.empty();
+        }, new ClassSuppressionCache(10));
+
+        ClassTree anonymousClass = createClassTree(ANONYMOUS_CLASS_FQCN);
+        when(anonymousClass.annotations()).thenReturn(List.of());
+        when(anonymousClass.methods()).thenReturn(List.of());
+        ClassNode anonymousNode = createClassNode(ANONYMOUS_CLASS_FQCN);
+        anonymousNode.outerClass = "com/example/Outer";
+        when(anonymousClass.rawNode()).thenReturn(anonymousNode);
+
+        ClassTree innerClass = createClassTree(INNER_CLASS_FQCN);
+        when(innerClass.annotations()).thenReturn(List.of());
+        when(innerClass.methods()).thenReturn(List.of());
+        ClassNode innerNode = createClassNode(INNER_CLASS_FQCN);
+        innerNode.nestHostClass = "com/example/Outer";
+        when(innerClass.rawNode()).thenReturn(innerNode);
+
+        nestedClassFilter.begin(anonymousClass);
+        MutationDetails mathMutationInAnonymousClass = createMutation(ANONYMOUS_CLASS_FQCN, "anyMethod", MATH_MUTATOR_FQCN);
+        assertThat(nestedClassFilter.intercept(List.of(mathMutationInAnonymousClass), mutater)).isEmpty();
+
+        nestedClassFilter.begin(innerClass);
+        MutationDetails mathMutationInInnerClass = createMutation(INNER_CLASS_FQCN, "anyMethod", MATH_MUTATOR_FQCN);
+        MutationDetails negateConditionalsMutationInInnerClass = createMutation(INNER_CLASS_FQCN, "anyMethod", NEGATE_CONDITIONALS_MUTATOR_FQCN);
+        assertThat(nestedClassFilter.intercept(List.of(mathMutationInInnerClass, negateConditionalsMutationInInnerClass), mutater))
+                .containsExactly(negateConditionalsMutationInInnerClass);
+
+        assertThat(readCount).hasValue(1);
+    }
+
+    @Test
+    void shouldNotInheritAnnotationsIfEnclosingClassIsNotAvailable() {
+        var nestedClassFilter = new AnnotationExclusionFilter(className -> Optional.empty(), new ClassSuppressionCache(10));
+
+        ClassTree innerClass = createClassTree(INNER_CLASS_FQCN);
+        when(innerClass.annotations()).thenReturn(List.of());
+        when(innerClass.methods()).thenReturn(List.of());
+        ClassNode innerNode = createClassNode(INNER_CLASS_FQCN);
+        innerNode.nestHostClass = "com/example/Outer";
+        when(innerClass.rawNode()).thenReturn(innerNode);
+
+        nestedClassFilter.begin(innerClass);
+        MutationDetails mutation = createMutation(INNER_CLASS_FQCN, "anyMethod", MATH_MUTATOR_FQCN);
+
+        assertThat(nestedClassFilter.intercept(List.of(mutation), mutater)).containsExactly(mutation);
+    }
+
     @ParameterizedTest
     @MethodSource("provideTestCases")
     void shouldSuppressMutationCorrectlyForAnnotations(final AnnotationNode methodAnnotations, final List<MutationDetails> mutations, final List<MutationDetails> expectedRemainingMutations) {
@@ -364,6 +673,100 @@ class AnnotationExclusionFilterTest {
         );
     }
 
+    @Test
+    void shouldFilterClassesOfSeveralThreadsWithSharedInstance() throws InterruptedException, ExecutionException {
+        ClassTree annotatedClass = createClassTree(TEST_CLASS_FQCN);
+        when(annotatedClass.annotations()).thenReturn(List.of(createAnnotation(MUTATOR_NAME, "Math")));
+        when(annotatedClass.methods()).thenReturn(List.of());
+        MutationDetails suppressedMutation = createMutation(TEST_CLASS_FQCN, "anyMethod", MATH_MUTATOR_FQCN);
+
+        ClassTree otherClass = createClassTree("com.example.OtherClass");
+        when(otherClass.annotations()).thenReturn(List.of());
+        when(otherClass.methods()).thenReturn(List.of());
+        MutationDetails keptMutation = createMutation("com.example.OtherClass", "anyMethod", MATH_MUTATOR_FQCN);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Collection<MutationDetails>>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                var classTree = i % 2 == 0 ? annotatedClass : otherClass;
+                var mutation = i % 2 == 0 ? suppressedMutation : keptMutation;
+                results.add(executor.submit(() -> {
+                    filter.begin(classTree);
+                    Collection<MutationDetails> remaining = filter.intercept(List.of(mutation), mutater);
+                    filter.end();
+                    return remaining;
+                }));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i).get()).hasSize(i % 2);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldSuppressMutationsInScopesWithMetaAnnotation() {
+        byte[] generatedCode = createClassFile("com/example/GeneratedCode", MUTATOR_NAME, "Math");
+        var metaAnnotatedFilter = new AnnotationExclusionFilter(
+                name -> "com.example.GeneratedCode".equals(name) ? Optional.of(generatedCode) : Optional.empty(),
+                new ClassSuppressionCache(16), new MetaAnnotationCache(), Set.of(), Optional.empty());
+
+        ClassTree classTree = createClassTree(TEST_CLASS_FQCN);
+        when(classTree.annotations()).thenReturn(List.of());
+        MethodTree method = createMethodTree(classTree, "generated");
+        when(method.annotations()).thenReturn(List.of(new AnnotationNode("Lcom/example/GeneratedCode;"),
+                new AnnotationNode("Lcom/example/Unrelated;")));
+
+        metaAnnotatedFilter.begin(classTree);
+
+        MutationDetails suppressed = createMutation(TEST_CLASS_FQCN, "generated", MATH_MUTATOR_FQCN);
+        MutationDetails otherMutator = createMutation(TEST_CLASS_FQCN, "generated", PRIMITIVE_RETURNS_MUTATOR_FQCN);
+        MutationDetails otherMethod = createMutation(TEST_CLASS_FQCN, "other", MATH_MUTATOR_FQCN);
+
+        assertThat(metaAnnotatedFilter.intercept(List.of(suppressed, otherMutator, otherMethod), mutater))
+                .containsExactly(otherMutator, otherMethod);
+    }
+
+    @Test
+    void shouldSuppressAllMutationsInScopesWithForeignAnnotation() {
+        var foreignAnnotationFilter = new AnnotationExclusionFilter(className -> Optional.empty(),
+                new ClassSuppressionCache(16), new MetaAnnotationCache(), Set.of("Llombok/Generated;"), Optional.empty());
+
+        ClassTree classTree = createClassTree(TEST_CLASS_FQCN);
+        when(classTree.annotations()).thenReturn(List.of());
+        MethodTree method = createMethodTree(classTree, "generated");
+        when(method.annotations()).thenReturn(List.of(new AnnotationNode("Llombok/Generated;")));
+
+        foreignAnnotationFilter.begin(classTree);
+
+        MutationDetails math = createMutation(TEST_CLASS_FQCN, "generated", MATH_MUTATOR_FQCN);
+        MutationDetails primitiveReturns = createMutation(TEST_CLASS_FQCN, "generated", PRIMITIVE_RETURNS_MUTATOR_FQCN);
+        MutationDetails otherMethod = createMutation(TEST_CLASS_FQCN, "other", MATH_MUTATOR_FQCN);
+
+        assertThat(foreignAnnotationFilter.intercept(List.of(math, primitiveReturns, otherMethod), mutater))
+                .containsExactly(otherMethod);
+    }
+
+    @Test
+    void shouldSuppressAllMutationsInClassWithForeignAnnotation() {
+        var foreignAnnotationFilter = new AnnotationExclusionFilter(className -> Optional.empty(),
+                new ClassSuppressionCache(16), new MetaAnnotationCache(),
+                Set.of("Lcom/google/protobuf/Generated;"), Optional.empty());
+
+        ClassTree classTree = createClassTree(TEST_CLASS_FQCN);
+        when(classTree.annotations()).thenReturn(List.of(new AnnotationNode("Lcom/google/protobuf/Generated;")));
+        when(classTree.methods()).thenReturn(List.of());
+
+        foreignAnnotationFilter.begin(classTree);
+
+        assertThat(foreignAnnotationFilter.intercept(List.of(
+                createMutation(TEST_CLASS_FQCN, "anyMethod", MATH_MUTATOR_FQCN),
+                createMutation(TEST_CLASS_FQCN, "anyOtherMethod", "AnyMutator")), mutater)).isEmpty();
+    }
+
     @Test
     void shouldReturnCorrectType() {
         assertThat(filter.type()).isEqualTo(InterceptorType.FILTER);
@@ -376,6 +779,24 @@ class AnnotationExclusionFilterTest {
         return classTree;
     }
 
+    private static ClassNode createClassNode(final String fqcn) {
+        var classNode = new ClassNode();
+        classNode.name = ClassName.fromString(fqcn).asInternalName();
+        return classNode;
+    }
+
+    private static byte[] createClassFile(final String internalName, final Object... annotationValues) {
+        var writer = new ClassWriter(0);
+        writer.visit(Opcodes.V21, Opcodes.ACC_PUBLIC, internalName, null, "java/lang/Object", null);
+        AnnotationVisitor annotation = writer.visitAnnotation(SUPPRESS_MUTATION_DESC, true);
+        for (int i = 0; i < annotationValues.length; i += 2) {
+            annotation.visit((String) annotationValues[i], annotationValues[i + 1]);
+        }
+        annotation.visitEnd();
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
     private static MethodTree createMethodTree(final ClassTree classTree, final String methodName) {
         return createMethodTree(classTree, methodName, ANY_METHOD_DESC);
     }
@@ -392,6 +813,22 @@ class AnnotationExclusionFilterTest {
         return methodTree;
     }
 
+    private static MethodTree createLambdaMethodTree(final ClassTree classTree, final String methodName) {
+        MethodTree methodTree = createMethodTree(classTree, methodName, ANY_METHOD_DESC);
+        when(methodTree.isSynthetic()).thenReturn(true);
+        return methodTree;
+    }
+
+    private static InvokeDynamicInsnNode createLambdaCall(final String methodName) {
+        var bootstrap = new Handle(Opcodes.H_INVOKESTATIC, "java/lang/invoke/LambdaMetafactory", "metafactory",
+                "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/invoke/MethodType;"
+                        + "Ljava/lang/invoke/MethodType;Ljava/lang/invoke/MethodHandle;Ljava/lang/invoke/MethodType;)"
+                        + "Ljava/lang/invoke/CallSite;", false);
+        var implementation = new Handle(Opcodes.H_INVOKESTATIC, "com/example/TestClass", methodName, ANY_METHOD_DESC, false);
+        return new InvokeDynamicInsnNode("applyAsInt", "()Ljava/util/function/IntBinaryOperator;", bootstrap,
+                Type.getMethodType(ANY_METHOD_DESC), implementation, Type.getMethodType(ANY_METHOD_DESC));
+    }
+
     private static AnnotationNode createAnnotation(final Object... values) {
         var annotation = new AnnotationNode(SUPPRESS_MUTATION_DESC);
         annotation.values = List.of(values);
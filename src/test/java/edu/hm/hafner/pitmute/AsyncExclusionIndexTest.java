@@ -0,0 +1,98 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncExclusionIndexTest {
+    private static final CsvExclusionEntry MAIN = new CsvExclusionEntry("com.example.Main", Optional.empty(),
+            Optional.empty(), Optional.empty(), "exclusions.csv:1");
+
+    @Test
+    void shouldLoadIndexOnVirtualThread() {
+        var release = new CountDownLatch(1);
+        var loaderThread = new AtomicReference<Thread>();
+        var index = new AsyncExclusionIndex(() -> {
+            loaderThread.set(Thread.currentThread());
+            awaitUninterruptibly(release);
+            return new CsvExclusionIndex(List.of(MAIN));
+        });
+
+        release.countDown();
+
+        assertThat(index.isEmpty()).isFalse();
+        assertThat(index.findEntries("com.example.Main")).containsExactly(MAIN);
+        assertThat(loaderThread.get().isVirtual()).isTrue();
+    }
+
+    @Test
+    void shouldNotWaitForLoadingWhenCreated() {
+        var release = new CountDownLatch(1);
+
+        var index = new AsyncExclusionIndex(() -> {
+            awaitUninterruptibly(release);
+            return new CsvExclusionIndex(List.of());
+        });
+        release.countDown();
+
+        assertThat(index.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldAnswerQueriesOfClassesWithoutEntriesBeforeLoading() {
+        var release = new CountDownLatch(1);
+        var index = new AsyncExclusionIndex(() -> {
+            awaitUninterruptibly(release);
+            return new CsvExclusionIndex(List.of(MAIN));
+        }, () -> Set.of("com.example.Main"));
+
+        assertThat(index.isEmpty()).isFalse();
+        assertThat(index.findRules("com.example.Other")).isSameAs(ExclusionRules.EMPTY);
+
+        release.countDown();
+
+        assertThat(index.findEntries("com.example.Main")).containsExactly(MAIN);
+        assertThat(index.findEntries("com.example.Other")).isEmpty();
+    }
+
+    @Test
+    void shouldWaitForIndexIfClassNamesCannotBeRead() {
+        var index = new AsyncExclusionIndex(() -> new CsvExclusionIndex(List.of(MAIN)), () -> {
+            throw new IllegalStateException("Failed to read CSV file");
+        });
+
+        assertThat(index.isEmpty()).isFalse();
+        assertThat(index.findEntries("com.example.Main")).containsExactly(MAIN);
+    }
+
+    @Test
+    void shouldRethrowFailureOfLoaderOnEachQuery() {
+        var index = new AsyncExclusionIndex(() -> {
+            throw new IllegalStateException("Failed to read CSV file. Please verify that the path is correct "
+                    + "and the file is readable: exclusions.csv");
+        });
+
+        assertThatIllegalStateException().isThrownBy(index::isEmpty)
+                .withMessage("Failed to read CSV file. Please verify that the path is correct "
+                        + "and the file is readable: exclusions.csv");
+        assertThatIllegalStateException().isThrownBy(() -> index.findRules("com.example.Main"))
+                .withMessageContaining("Failed to read CSV file");
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BudgetFilterFactoryTest {
+    private final BudgetFilterFactory factory = new BudgetFilterFactory();
+
+    @Test
+    void shouldCreateBudgetFilter() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getString("maxPerMethod")).thenReturn(Optional.of("50"));
+        when(settings.getString("maxPerClass")).thenReturn(Optional.of("500"));
+        when(settings.getList("priority")).thenReturn(List.of("NEGATE_CONDITIONALS", "math"));
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        assertThat(factory.createInterceptor(params)).isExactlyInstanceOf(BudgetFilter.class);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenNoLimitIsProvided() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+
+        assertThatIllegalStateException().isThrownBy(() -> factory.createInterceptor(params))
+                .withMessageContaining("maxPerMethod");
+    }
+
+    @ParameterizedTest(name = "{index} => limit: {0}")
+    @ValueSource(strings = {"0", "-5", "many"})
+    void shouldThrowExceptionWhenLimitIsInvalid(final String limit) {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getString("maxPerClass")).thenReturn(Optional.of(limit));
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        assertThatIllegalStateException().isThrownBy(() -> factory.createInterceptor(params))
+                .withMessageContaining("maxPerClass");
+    }
+
+    @ParameterizedTest(name = "{index} => priority: {0}")
+    @ValueSource(strings = {"NO_SUCH_MUTATOR", "NONE"})
+    void shouldThrowExceptionWhenPriorityIsInvalid(final String priority) {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getString("maxPerMethod")).thenReturn(Optional.of("10"));
+        when(settings.getList("priority")).thenReturn(List.of(priority));
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        assertThatIllegalStateException().isThrownBy(() -> factory.createInterceptor(params))
+                .withMessageContaining(priority);
+    }
+
+    @Test
+    void shouldProvideCorrectFeature() {
+        Feature feature = factory.provides();
+
+        assertThat(feature.name()).isEqualToIgnoringCase("FBUDGET");
+        assertThat(feature.description()).contains("Limit");
+        assertThat(feature.isOnByDefault()).isFalse();
+    }
+
+    @Test
+    void descriptionShouldReturnDescription() {
+        assertThat(factory.description()).contains("Limit");
+    }
+}
@@ -0,0 +1,118 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BudgetFilterTest {
+    private static final List<PitMutator> PRIORITIES = List.of(PitMutator.NEGATE_CONDITIONALS, PitMutator.MATH);
+    private final Mutater mutater = mock(Mutater.class);
+
+    @Test
+    void shouldReturnCorrectType() {
+        assertThat(new BudgetFilter(1, 1, List.of()).type()).isEqualTo(InterceptorType.FILTER);
+    }
+
+    @Test
+    void shouldRejectNonPositiveLimits() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BudgetFilter(0, 1, List.of()));
+        assertThatIllegalArgumentException().isThrownBy(() -> new BudgetFilter(1, -1, List.of()));
+    }
+
+    @Test
+    void shouldKeepAllMutationsWithinBudget() {
+        List<MutationDetails> mutations = List.of(
+                createMutation("run", 0, PitMutator.INLINE_CONSTS),
+                createMutation("run", 1, PitMutator.MATH));
+
+        assertThat(new BudgetFilter(2, 2, PRIORITIES).intercept(mutations, mutater)).containsExactlyElementsOf(mutations);
+    }
+
+    @Test
+    void shouldSelectMutationsOfMethodByPriority() {
+        var inlineConstant = createMutation("run", 0, PitMutator.INLINE_CONSTS);
+        var math = createMutation("run", 1, PitMutator.MATH);
+        var negateConditional = createMutation("run", 2, PitMutator.NEGATE_CONDITIONALS);
+        var otherMath = createMutation("run", 3, PitMutator.MATH);
+        var otherMethod = createMutation("stop", 4, PitMutator.INLINE_CONSTS);
+
+        Collection<MutationDetails> selected = new BudgetFilter(2, 100, PRIORITIES)
+                .intercept(List.of(inlineConstant, math, negateConditional, otherMath, otherMethod), mutater);
+
+        assertThat(selected).containsExactly(math, negateConditional, otherMethod);
+    }
+
+    @Test
+    void shouldSelectMutationsOfClassByPriority() {
+        var inlineConstant = createMutation("run", 0, PitMutator.INLINE_CONSTS);
+        var math = createMutation("stop", 1, PitMutator.MATH);
+        var negateConditional = createMutation("start", 2, PitMutator.NEGATE_CONDITIONALS);
+
+        Collection<MutationDetails> selected = new BudgetFilter(10, 2, PRIORITIES)
+                .intercept(List.of(inlineConstant, math, negateConditional), mutater);
+
+        assertThat(selected).containsExactly(math, negateConditional);
+    }
+
+    @Test
+    void shouldApplyMethodAndClassLimits() {
+        List<MutationDetails> mutations = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            mutations.add(createMutation("run", i, PitMutator.MATH));
+            mutations.add(createMutation("stop", i, PitMutator.NEGATE_CONDITIONALS));
+        }
+
+        Collection<MutationDetails> selected = new BudgetFilter(3, 5, PRIORITIES).intercept(mutations, mutater);
+
+        assertThat(selected).hasSize(5);
+        assertThat(selected).filteredOn(mutation -> "stop".equals(mutation.getMethod())).hasSize(3);
+        assertThat(selected).filteredOn(mutation -> "run".equals(mutation.getMethod())).hasSize(2);
+    }
+
+    @Test
+    void shouldSelectMutatorsWithoutPriorityInOriginalOrder() {
+        var unknown = createMutation("run", 0, "com.example.CustomMutator");
+        var inlineConstant = createMutation("run", 1, PitMutator.INLINE_CONSTS.getFqcn());
+        var math = createMutation("run", 2, PitMutator.MATH.getFqcn());
+
+        Collection<MutationDetails> selected = new BudgetFilter(2, 2, PRIORITIES)
+                .intercept(List.of(unknown, inlineConstant, math), mutater);
+
+        assertThat(selected).containsExactly(unknown, math);
+    }
+
+    @Test
+    void shouldUsePriorityOfMutatorFamilyForItsMembers() {
+        var math = createMutation("run", 0, PitMutator.MATH);
+        var removeCase = createMutation("run", 1,
+                "org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_12");
+        var negateConditional = createMutation("run", 2, PitMutator.NEGATE_CONDITIONALS);
+
+        Collection<MutationDetails> selected = new BudgetFilter(2, 2,
+                List.of(PitMutator.EXPERIMENTAL_REMOVE_SWITCH, PitMutator.NEGATE_CONDITIONALS))
+                .intercept(List.of(math, removeCase, negateConditional), mutater);
+
+        assertThat(selected).containsExactly(removeCase, negateConditional);
+    }
+
+    private static MutationDetails createMutation(final String method, final int index, final PitMutator mutator) {
+        return createMutation(method, index, mutator.getFqcn());
+    }
+
+    private static MutationDetails createMutation(final String method, final int index, final String mutator) {
+        var id = new MutationIdentifier(Location.location(ClassName.fromString("com.example.Main"), method, "()V"),
+                index, mutator);
+        return new MutationDetails(id, "Main.java", "desc", index, 0);
+    }
+}
@@ -0,0 +1,73 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ChangedLinesTest {
+    @Test
+    void shouldFindAddedLinesOfUnifiedDiff() throws IOException {
+        ChangedLines changedLines;
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get("src/test/resources/diff/changes.diff"), StandardCharsets.UTF_8)) {
+            changedLines = new ChangedLines.Builder().addUnifiedDiff(reader).build();
+        }
+
+        LineIntervals lines = changedLines.find("com/example/Main.java").orElseThrow();
+        assertThat(lines.contains(5)).isFalse();
+        assertThat(lines.contains(6)).isTrue();
+        assertThat(lines.contains(7)).isFalse();
+        assertThat(lines.contains(8)).isTrue();
+        assertThat(lines.contains(21)).isFalse();
+        assertThat(lines.contains(22)).isFalse();
+
+        assertThat(changedLines.find("module/src/main/java/com/example/Main.java")).isPresent();
+        assertThat(changedLines.find("Main.java")).isPresent();
+        assertThat(changedLines.find("com/example/Removed.java")).isEmpty();
+        assertThat(changedLines.find("com/example/Other.java")).isEmpty();
+    }
+
+    @Test
+    void shouldReadChangeList() throws IOException {
+        ChangedLines changedLines;
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get("src/test/resources/diff/changes.txt"), StandardCharsets.UTF_8)) {
+            changedLines = new ChangedLines.Builder().addChangeList(reader).build();
+        }
+
+        LineIntervals main = changedLines.find("com/example/Main.java").orElseThrow();
+        assertThat(main.contains(30)).isTrue();
+        assertThat(main.contains(31)).isFalse();
+        assertThat(main.contains(41)).isTrue();
+
+        LineIntervals other = changedLines.find("com/example/Other.java").orElseThrow();
+        assertThat(other.contains(1)).isTrue();
+        assertThat(other.contains(10_000)).isTrue();
+    }
+
+    @Test
+    void shouldMergeLinesOfFilesWithSameSuffix() throws IOException {
+        ChangedLines changedLines = new ChangedLines.Builder()
+                .add("a\\src\\main\\java\\com\\example\\Main.java", 5, 5)
+                .addChangeList(new BufferedReader(new StringReader("b/src/main/java/com/example/Main.java:7")))
+                .build();
+
+        LineIntervals lines = changedLines.find("com/example/Main.java").orElseThrow();
+        assertThat(lines.contains(5)).isTrue();
+        assertThat(lines.contains(6)).isFalse();
+        assertThat(lines.contains(7)).isTrue();
+        assertThat(changedLines.find("a/src/main/java/com/example/Main.java").orElseThrow().contains(7)).isFalse();
+    }
+
+    @Test
+    void shouldRejectInvalidRanges() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ChangedLines.Builder().add("Main.java", 0, 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new ChangedLines.Builder()
+                .addChangeList(new BufferedReader(new StringReader("Main.java:7-5"))));
+    }
+}
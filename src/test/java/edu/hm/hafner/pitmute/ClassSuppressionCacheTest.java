@@ -0,0 +1,42 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ClassSuppressionCacheTest {
+    private static final SuppressionRule RULE = new SuppressionRule("com.example.Outer", Optional.empty(),
+            PitMutator.NONE, Optional.empty(), Optional.empty(), Optional.empty());
+
+    @Test
+    void shouldReturnCachedRules() {
+        var cache = new ClassSuppressionCache(10);
+
+        assertThat(cache.get("com.example.Outer")).isEmpty();
+
+        cache.put("com.example.Outer", List.of(RULE));
+        cache.put("com.example.Other", List.of());
+
+        assertThat(cache.get("com.example.Outer")).contains(List.of(RULE));
+        assertThat(cache.get("com.example.Other")).contains(List.of());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntries() {
+        var cache = new ClassSuppressionCache(2);
+
+        cache.put("com.example.First", List.of(RULE));
+        cache.put("com.example.Second", List.of(RULE));
+        assertThat(cache.get("com.example.First")).isPresent();
+
+        cache.put("com.example.Third", List.of(RULE));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("com.example.First")).isPresent();
+        assertThat(cache.get("com.example.Second")).isEmpty();
+        assertThat(cache.get("com.example.Third")).isPresent();
+    }
+}
@@ -1,22 +1,32 @@
 package edu.hm.hafner.pitmute;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.build.InterceptorParameters;
 import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.plugin.Feature;
 import org.pitest.plugin.FeatureSetting;
 
+import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -29,7 +39,7 @@ class CsvExclusionFilterFactoryTest {
         InterceptorParameters params = mock(InterceptorParameters.class);
         FeatureSetting settings = mock(FeatureSetting.class);
 
-        when(settings.getString("csvFile")).thenReturn(Optional.of("src/test/resources/validFormattedExclusions.csv"));
+        when(settings.getList("csvFile")).thenReturn(List.of("src/test/resources/validFormattedExclusions.csv"));
         when(params.settings()).thenReturn(Optional.of(settings));
 
         MutationInterceptor mutationInterceptor = factory.createInterceptor(params);
@@ -42,7 +52,7 @@ class CsvExclusionFilterFactoryTest {
         InterceptorParameters params = mock(InterceptorParameters.class);
         FeatureSetting settings = mock(FeatureSetting.class);
 
-        when(settings.getString("csvFile")).thenReturn(Optional.of("notExistingPath/validFormattedExclusions.csv"));
+        when(settings.getList("csvFile")).thenReturn(List.of("notExistingPath/validFormattedExclusions.csv"));
         when(params.settings()).thenReturn(Optional.of(settings));
 
         assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> factory.createInterceptor(params))
@@ -55,7 +65,7 @@ class CsvExclusionFilterFactoryTest {
         InterceptorParameters params = mock(InterceptorParameters.class);
         FeatureSetting settings = mock(FeatureSetting.class);
 
-        when(settings.getString("csvFile")).thenReturn(Optional.of("src/test/resources/notExistingFile.csv"));
+        when(settings.getList("csvFile")).thenReturn(List.of("src/test/resources/notExistingFile.csv"));
         when(settings.getString("allowMissingFile")).thenReturn(Optional.of(allowMissingFile));
         when(params.settings()).thenReturn(Optional.of(settings));
 
@@ -71,7 +81,7 @@ class CsvExclusionFilterFactoryTest {
         FeatureSetting settings = mock(FeatureSetting.class);
 
         var fileName = "src/test/resources/notExistingFile.csv";
-        when(settings.getString("csvFile")).thenReturn(Optional.of(fileName));
+        when(settings.getList("csvFile")).thenReturn(List.of(fileName));
         when(settings.getString("allowMissingFile")).thenReturn(Optional.of("true"));
         when(params.settings()).thenReturn(Optional.of(settings));
 
@@ -81,6 +91,24 @@ class CsvExclusionFilterFactoryTest {
         assertThat(mutationInterceptor).isInstanceOf(CsvExclusionFilter.class);
     }
 
+    @Test
+    void shouldNotReuseAllowMissingFileOfPreviousInterceptor() {
+        InterceptorParameters allowingParams = mock(InterceptorParameters.class);
+        FeatureSetting allowingSettings = mock(FeatureSetting.class);
+        when(allowingSettings.getList("csvFile")).thenReturn(List.of("src/test/resources/notExistingFile.csv"));
+        when(allowingSettings.getString("allowMissingFile")).thenReturn(Optional.of("true"));
+        when(allowingParams.settings()).thenReturn(Optional.of(allowingSettings));
+
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getList("csvFile")).thenReturn(List.of("src/test/resources/notExistingFile.csv"));
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        assertThat(factory.createInterceptor(allowingParams)).isInstanceOf(CsvExclusionFilter.class);
+        assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> factory.createInterceptor(params))
+                .withMessageContaining("Failed to read CSV file");
+    }
+
     @ParameterizedTest(name = "{index} => allowMissingFile: {0}")
     @ValueSource(strings = {"true", "false"})
     void shouldLogNothingIfValidFileIsFoundRegardlessOfAllowMissingFileParameter(final String allowMissingFile) {
@@ -89,7 +117,7 @@ class CsvExclusionFilterFactoryTest {
         InterceptorParameters params = mock(InterceptorParameters.class);
         FeatureSetting settings = mock(FeatureSetting.class);
 
-        when(settings.getString("csvFile")).thenReturn(Optional.of("src/test/resources/validFormattedExclusions.csv"));
+        when(settings.getList("csvFile")).thenReturn(List.of("src/test/resources/validFormattedExclusions.csv"));
         when(settings.getString("allowMissingFile")).thenReturn(Optional.of(allowMissingFile));
         when(params.settings()).thenReturn(Optional.of(settings));
 
@@ -105,7 +133,7 @@ class CsvExclusionFilterFactoryTest {
     void shouldThrowExceptionWhenCsvPathIsNullOrBlank(final String value) {
         InterceptorParameters params = mock(InterceptorParameters.class);
         FeatureSetting settings = mock(FeatureSetting.class);
-        when(settings.getString("csvFile")).thenReturn(Optional.ofNullable(value));
+        when(settings.getList("csvFile")).thenReturn(value == null ? List.of() : List.of(value));
         when(params.settings()).thenReturn(Optional.of(settings));
 
         assertThatThrownBy(() -> factory.createInterceptor(params))
@@ -139,7 +167,7 @@ class CsvExclusionFilterFactoryTest {
         List<CsvExclusionEntry> entries = getEntriesFromFile("ignoredButValidFormattedExclusions.csv");
         assertThat(entries).isEmpty();
 
-        verify(mockLogger, times(14)).log(eq(Level.WARNING), contains("class name is missing"), anyInt());
+        verify(mockLogger, times(14)).log(eq(Level.WARNING), contains("class name is missing"), any(Object[].class));
     }
 
     @Test
@@ -176,7 +204,7 @@ class CsvExclusionFilterFactoryTest {
         List<CsvExclusionEntry> entries = getEntriesFromFile("invalidExclusions.csv");
         assertThat(entries).isEmpty();
 
-        verify(mockLogger, times(3)).log(eq(Level.WARNING), contains("invalid line"), anyInt());
+        verify(mockLogger, times(3)).log(eq(Level.WARNING), contains("invalid line"), any(Object[].class));
     }
 
     @Test
@@ -187,7 +215,162 @@ class CsvExclusionFilterFactoryTest {
         List<CsvExclusionEntry> entries = getEntriesFromFile("exclusionsWithTooManyFields.csv");
         assertThat(entries).isEmpty();
 
-        verify(mockLogger, times(3)).log(eq(Level.WARNING), contains("maximum of four fields"), anyInt());
+        verify(mockLogger, times(3)).log(eq(Level.WARNING), contains("maximum of four fields"), any(Object[].class));
+    }
+
+    @Test
+    void shouldReportFileAndLineOfInvalidEntries() throws URISyntaxException {
+        Logger mockLogger = mock(Logger.class);
+        factory = new CsvExclusionFilterFactory(mockLogger);
+
+        getEntriesFromFile("invalidExclusions.csv");
+
+        ArgumentCaptor<Object[]> parameters = ArgumentCaptor.forClass(Object[].class);
+        verify(mockLogger, times(3)).log(eq(Level.WARNING), contains("invalid line"), parameters.capture());
+        assertThat(parameters.getAllValues())
+                .extracting(values -> values[0].toString(), values -> values[1])
+                .containsExactly(
+                        tuple(getPath("invalidExclusions.csv").toString(), 1),
+                        tuple(getPath("invalidExclusions.csv").toString(), 2),
+                        tuple(getPath("invalidExclusions.csv").toString(), 3));
+    }
+
+    @Test
+    void shouldMergeEntriesOfSeveralFilesWithoutDuplicates() {
+        List<CsvExclusionEntry> entries = factory.getCsvExclusionEntries(List.of(
+                "src/test/resources/exclusions/first.csv", "src/test/resources/exclusions/second.csv"), false);
+
+        assertThat(entries)
+                .extracting(CsvExclusionEntry::className, CsvExclusionEntry::mutationName, CsvExclusionEntry::startLine, CsvExclusionEntry::endLine)
+                .containsExactly(
+                        tuple("com.example.Main", Optional.of("Math"), Optional.of(5), Optional.of(10)),
+                        tuple("com.example.Main", Optional.empty(), Optional.empty(), Optional.empty()),
+                        tuple("com.example.Other", Optional.of("Increments"), Optional.empty(), Optional.empty()));
+    }
+
+    @Test
+    void shouldCreateFilterWithSharedIndex(@TempDir final Path root) throws IOException {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+
+        when(settings.getList("csvFile")).thenReturn(List.of("src/test/resources/exclusions"));
+        when(settings.getString("sharedIndex")).thenReturn(Optional.of(root.toString()));
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        MutationInterceptor filter = factory.createInterceptor(params);
+        assertThat(filter).isInstanceOf(CsvExclusionFilter.class);
+        assertThat(filter.intercept(List.of(createMutation()), mock(Mutater.class))).isEmpty();
+        try (Stream<Path> content = Files.list(root)) {
+            assertThat(content.map(path -> path.getFileName().toString())).anyMatch(name -> name.startsWith("index-"));
+        }
+    }
+
+    @Test
+    void shouldReportFailureOfBackgroundLoadingOnFirstIntercept(@TempDir final Path directory) throws IOException {
+        Path broken = directory.resolve("broken.csv.gz");
+        Files.writeString(broken, "not compressed");
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+
+        when(settings.getList("csvFile")).thenReturn(List.of(broken.toString()));
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        MutationInterceptor filter = factory.createInterceptor(params);
+        filter.begin(SourceFileCacheTest.createClassTree("com.example.Main", "Main.java"));
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> filter.intercept(List.of(createMutation()), mock(Mutater.class)))
+                .withMessageContaining("Failed to read CSV file")
+                .withMessageContaining(broken.toString());
+    }
+
+    @Test
+    void shouldKeepLocationOfFirstOccurrenceOfDuplicateEntries() {
+        List<CsvExclusionEntry> entries = factory.getCsvExclusionEntries(List.of(
+                "src/test/resources/exclusions/second.csv", "src/test/resources/exclusions/first.csv"), false);
+
+        String first = Paths.get("src/test/resources/exclusions/first.csv").toString();
+        String second = Paths.get("src/test/resources/exclusions/second.csv").toString();
+        assertThat(entries).extracting(CsvExclusionEntry::source)
+                .containsExactly(second + ":2", second + ":3", first + ":2");
+    }
+
+    @ParameterizedTest(name = "{index} => path: {0}")
+    @ValueSource(strings = {"src/test/resources/exclusions", "src/test/resources/exclusions/*.csv", "src/test/resources/**/s*.csv"})
+    void shouldReadAllCsvFilesOfDirectoryOrGlob(final String path) {
+        List<CsvExclusionEntry> entries = factory.getCsvExclusionEntries(List.of(path), false);
+
+        assertThat(entries).extracting(CsvExclusionEntry::className)
+                .contains("com.example.Other")
+                .doesNotContain("com.example.Ignored");
+    }
+
+    @Test
+    void shouldCreateFilterForSeveralCsvFiles() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+
+        when(settings.getList("csvFile")).thenReturn(List.of("src/test/resources/validFormattedExclusions.csv",
+                "src/test/resources/exclusions"));
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        assertThat(factory.createInterceptor(params)).isInstanceOf(CsvExclusionFilter.class);
+    }
+
+    @ParameterizedTest(name = "{index} => file: {0}")
+    @ValueSource(strings = {"exclusions.csv.gz", "exclusions.csv.deflate", "exclusions.zip"})
+    void shouldReadCompressedFiles(final String fileName) throws URISyntaxException {
+        List<CsvExclusionEntry> entries = getEntriesFromFile("compressed/" + fileName);
+
+        assertThat(entries)
+                .extracting(CsvExclusionEntry::className, CsvExclusionEntry::mutationName, CsvExclusionEntry::startLine, CsvExclusionEntry::endLine)
+                .containsExactly(
+                        tuple("com.example.Main", Optional.of("Math"), Optional.of(5), Optional.of(10)),
+                        tuple("com.example.Other", Optional.empty(), Optional.empty(), Optional.empty()));
+    }
+
+    @Test
+    void shouldReportZipEntryAndLineOfInvalidEntries() throws URISyntaxException {
+        Logger mockLogger = mock(Logger.class);
+        factory = new CsvExclusionFilterFactory(mockLogger);
+
+        getEntriesFromFile("compressed/exclusions.zip");
+
+        ArgumentCaptor<Object[]> parameters = ArgumentCaptor.forClass(Object[].class);
+        verify(mockLogger).log(eq(Level.WARNING), contains("invalid line"), parameters.capture());
+        assertThat(parameters.getValue()[0].toString()).endsWith("exclusions.zip!nested/second.csv");
+        assertThat(parameters.getValue()[1]).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReadOnlyCsvEntriesOfZipArchive() throws URISyntaxException {
+        Logger mockLogger = mock(Logger.class);
+        factory = new CsvExclusionFilterFactory(mockLogger);
+
+        List<CsvExclusionEntry> entries = getEntriesFromFile("archives/mixed.zip");
+
+        assertThat(entries)
+                .extracting(CsvExclusionEntry::className, CsvExclusionEntry::mutationName)
+                .containsExactly(
+                        tuple("com.example.Main", Optional.of("Math")),
+                        tuple("com.example.Other", Optional.empty()));
+        verify(mockLogger, never()).log(eq(Level.WARNING), anyString(), any(Object[].class));
+    }
+
+    @Test
+    void shouldReadCompressedFilesOfDirectory() {
+        List<CsvExclusionEntry> entries = factory.getCsvExclusionEntries(List.of("src/test/resources/compressed"), false);
+
+        assertThat(entries).extracting(CsvExclusionEntry::className)
+                .containsExactly("com.example.Main", "com.example.Other");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenGlobDoesNotMatchAnyFile() {
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> factory.getCsvExclusionEntries(List.of("src/test/resources/exclusions/*.xml"), false))
+                .withMessageContaining("Failed to read CSV file")
+                .withMessageContaining("*.xml");
     }
 
     @Test
@@ -203,12 +386,20 @@ class CsvExclusionFilterFactoryTest {
         assertThat(factory.description()).contains("CSV file");
     }
 
+    private static MutationDetails createMutation() {
+        var id = new MutationIdentifier(Location.location(ClassName.fromString("com.example.Main"), "run", "()V"),
+                0, "org.pitest.mutationtest.engine.gregor.mutators.MathMutator");
+        return new MutationDetails(id, "Main.java", "desc", 5, 0);
+    }
+
     private List<CsvExclusionEntry> getEntriesFromFile(final String fileName) throws URISyntaxException {
+        return factory.getCsvExclusionEntries(getPath(fileName).toString());
+    }
+
+    private Path getPath(final String fileName) throws URISyntaxException {
         URL resource = getClass().getClassLoader().getResource(fileName);
 
         assertThat(resource).isNotNull();
-        Path path = Paths.get(resource.toURI());
-
-        return factory.getCsvExclusionEntries(path.toString());
+        return Paths.get(resource.toURI());
     }
 }
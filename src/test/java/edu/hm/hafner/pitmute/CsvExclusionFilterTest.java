@@ -1,16 +1,28 @@
 package edu.hm.hafner.pitmute;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -169,6 +181,119 @@ class CsvExclusionFilterTest {
         assertThat(filteredMutations).containsExactly(mutation);
     }
 
+    @Test
+    void shouldFilterMutationsOfSeveralThreadsWithSharedInstance() throws InterruptedException, ExecutionException {
+        var exclusionEntry = new CsvExclusionEntry(MAIN_FQCN, Optional.of("Math"), Optional.empty(), Optional.empty());
+        var csvExclusionFilter = new CsvExclusionFilter(List.of(exclusionEntry));
+        var suppressedMutation = createMutation(MAIN_FQCN, MATH_MUTATOR_FQCN, 5);
+        var keptMutation = createMutation("com.example.Other", MATH_MUTATOR_FQCN, 5);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Collection<MutationDetails>>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                var mutation = i % 2 == 0 ? suppressedMutation : keptMutation;
+                results.add(executor.submit(() -> csvExclusionFilter.intercept(List.of(mutation), mutater)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i).get()).hasSize(i % 2);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldExplainSuppressedMutations(@TempDir final Path directory) throws IOException {
+        Path file = directory.resolve("explanations.ndjson");
+        ExplanationWriter writer = ExplanationWriter.forFile(file);
+        var entry = new CsvExclusionEntry(MAIN_FQCN, Optional.of("Math"), Optional.of(5), Optional.of(10), "exclusions.csv:3");
+        var csvExclusionFilter = new CsvExclusionFilter(List.of(entry), Optional.of(writer));
+
+        var suppressed = new MutationDetails(new MutationIdentifier(
+                Location.location(ClassName.fromString(MAIN_FQCN), "run", "()V"), 4, MATH_MUTATOR_FQCN),
+                "Main.java", "desc", 7, 0);
+        var kept = createMutation(MAIN_FQCN, PRIMITIVE_RETURNS_MUTATOR_FQCN, 7);
+
+        assertThat(csvExclusionFilter.intercept(List.of(suppressed, kept), mutater)).containsExactly(kept);
+
+        writer.close();
+        assertThat(Files.readAllLines(file)).containsExactly("{\"filter\":\"FCSV\",\"class\":\"com.example.Main\","
+                + "\"method\":\"run\",\"methodDesc\":\"()V\",\"mutator\":\"" + MATH_MUTATOR_FQCN + "\","
+                + "\"line\":7,\"instruction\":4,\"rule\":\"exclusions.csv:3: com.example.Main,Math,5,10\"}");
+    }
+
+    @Test
+    void shouldFindSuppressingRuleWithoutFiltering() {
+        var entry = new CsvExclusionEntry(MAIN_FQCN, Optional.of("Math"), Optional.of(5), Optional.of(10), "exclusions.csv:3");
+        var csvExclusionFilter = new CsvExclusionFilter(List.of(entry));
+
+        assertThat(csvExclusionFilter.findRule(createMutation(MAIN_FQCN, MATH_MUTATOR_FQCN, 7)))
+                .contains("exclusions.csv:3: com.example.Main,Math,5,10");
+        assertThat(csvExclusionFilter.findRule(createMutation(MAIN_FQCN, MATH_MUTATOR_FQCN, 11))).isEmpty();
+        assertThat(csvExclusionFilter.findRule(createMutation(MAIN_FQCN, PRIMITIVE_RETURNS_MUTATOR_FQCN, 7))).isEmpty();
+        csvExclusionFilter.end();
+    }
+
+    @Test
+    void shouldSuppressAllClassesOfSourceFile() {
+        var entry = new CsvExclusionEntry("Main.java", Optional.of("Math"), Optional.empty(), Optional.empty());
+        var filter = new CsvExclusionFilter(new CsvExclusionIndex(List.of(entry)), Optional.empty(),
+                new SourceFileCache());
+
+        var inner = createMutation("com.example.Main$Inner", MATH_MUTATOR_FQCN, 5);
+        assertThat(filter.intercept(List.of(inner), mutater)).isEmpty();
+
+        filter.begin(SourceFileCacheTest.createClassTree("com.example.Helper", "Main.java"));
+        var helper = createMutation("com.example.Helper", MATH_MUTATOR_FQCN, 5);
+        assertThat(filter.intercept(List.of(helper), mutater)).isEmpty();
+
+        filter.begin(SourceFileCacheTest.createClassTree("com.example.Other", "Other.java"));
+        var other = createMutation("com.example.Other", MATH_MUTATOR_FQCN, 5);
+        assertThat(filter.intercept(List.of(other), mutater)).containsExactly(other);
+        filter.end();
+    }
+
+    @ParameterizedTest(name = "{index} => mutationName: {0}")
+    @ValueSource(strings = {"RemoveSwitchMutator_N",
+            "org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_N"})
+    void shouldMatchAllMembersOfMutatorFamily(final String mutationName) {
+        var entry = new CsvExclusionEntry(MAIN_FQCN, Optional.of(mutationName), Optional.empty(), Optional.empty());
+        var filter = new CsvExclusionFilter(List.of(entry));
+
+        var mutation = createMutation(MAIN_FQCN,
+                "org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_17", 5);
+        var other = createMutation(MAIN_FQCN, MATH_MUTATOR_FQCN, 5);
+
+        assertThat(filter.intercept(List.of(mutation, other), mutater)).containsExactly(other);
+    }
+
+    @Test
+    void shouldMatchOnlySingleMemberOfMutatorFamily() {
+        var entry = new CsvExclusionEntry(MAIN_FQCN, Optional.of("RemoveSwitchMutator_3"), Optional.empty(),
+                Optional.empty());
+        var filter = new CsvExclusionFilter(List.of(entry));
+
+        var third = createMutation(MAIN_FQCN,
+                "org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_3", 5);
+        var fourth = createMutation(MAIN_FQCN,
+                "org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_4", 5);
+
+        assertThat(filter.intercept(List.of(third, fourth), mutater)).containsExactly(fourth);
+    }
+
+    @Test
+    void shouldMatchMutatorsThatAreNotPartOfPitMutator() {
+        var entry = new CsvExclusionEntry(MAIN_FQCN, Optional.of("ThirdPartyMutator"), Optional.empty(), Optional.empty());
+        var filter = new CsvExclusionFilter(List.of(entry));
+
+        var mutation = createMutation(MAIN_FQCN, "com.example.mutators.ThirdPartyMutator", 5);
+        var other = createMutation(MAIN_FQCN, "com.example.mutators.OtherMutator", 5);
+
+        assertThat(filter.intercept(List.of(mutation, other), mutater)).containsExactly(other);
+    }
+
     private MutationDetails createMutation(final String className, final String mutator, final int lineNumber) {
         var mutation = mock(MutationDetails.class);
         when(mutation.getClassName()).thenReturn(ClassName.fromString(className));
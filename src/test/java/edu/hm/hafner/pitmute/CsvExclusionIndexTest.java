@@ -0,0 +1,70 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CsvExclusionIndexTest {
+    private static final String MATH_MUTATOR_FQCN = "org.pitest.mutationtest.engine.gregor.mutators.MathMutator";
+    private static final CsvExclusionEntry MAIN_MATH = new CsvExclusionEntry("com.example.Main", Optional.of("Math"),
+            Optional.empty(), Optional.empty(), "exclusions.csv:1");
+    private static final CsvExclusionEntry OTHER = new CsvExclusionEntry("com.example.Other", Optional.empty(),
+            Optional.empty(), Optional.empty(), "exclusions.csv:2");
+    private static final CsvExclusionEntry MAIN_LINES = new CsvExclusionEntry("com.example.Main", Optional.empty(),
+            Optional.of(5), Optional.of(10), "exclusions.csv:3");
+    private static final CsvExclusionEntry SIMPLE_NAME = new CsvExclusionEntry("Main", Optional.empty(),
+            Optional.of(20), Optional.of(20), "exclusions.csv:4");
+    private static final CsvExclusionEntry FILE_NAME = new CsvExclusionEntry("Main.java", Optional.empty(),
+            Optional.of(30), Optional.of(30), "exclusions.csv:5");
+
+    private final CsvExclusionIndex index = new CsvExclusionIndex(
+            List.of(MAIN_MATH, OTHER, MAIN_LINES, SIMPLE_NAME, FILE_NAME));
+
+    @Test
+    void shouldFindEntriesOfClassInOrder() {
+        assertThat(index.isEmpty()).isFalse();
+        assertThat(index.findEntries("com.example.Main"))
+                .containsExactly(MAIN_MATH, MAIN_LINES, SIMPLE_NAME, FILE_NAME);
+        assertThat(index.findEntries("com.example.Other")).containsExactly(OTHER);
+        assertThat(index.findEntries("org.other.Main")).containsExactly(SIMPLE_NAME, FILE_NAME);
+        assertThat(index.findEntries("com.example.Unknown")).isEmpty();
+        assertThat(index.findRules("com.example.Unknown")).isSameAs(ExclusionRules.EMPTY);
+    }
+
+    @Test
+    void shouldFindEntriesOfSourceFile() {
+        assertThat(index.findEntries("com.example.Main$Inner")).containsExactly(FILE_NAME);
+        assertThat(index.findRules("com.example.Helper", "Main.java").toEntries()).containsExactly(FILE_NAME);
+        assertThat(index.findRules("com.example.Main", "Other.java").toEntries())
+                .containsExactly(MAIN_MATH, MAIN_LINES, SIMPLE_NAME);
+    }
+
+    @Test
+    void shouldFindFirstEntryThatSuppressesMutation() {
+        ExclusionRules rules = index.findRules("com.example.Main");
+
+        assertThat(rules.findEntry(createMutation(MATH_MUTATOR_FQCN, 7))).contains(MAIN_MATH);
+        assertThat(rules.findEntry(createMutation("AnyMutator", 7))).contains(MAIN_LINES);
+        assertThat(rules.findEntry(createMutation("AnyMutator", 20))).contains(SIMPLE_NAME);
+        assertThat(rules.findEntry(createMutation("AnyMutator", 30))).contains(FILE_NAME);
+        assertThat(rules.suppresses(createMutation("AnyMutator", 40))).isFalse();
+    }
+
+    @Test
+    void shouldBeEmptyWithoutEntries() {
+        assertThat(new CsvExclusionIndex(List.of()).isEmpty()).isTrue();
+    }
+
+    private static MutationDetails createMutation(final String mutator, final int line) {
+        var id = new MutationIdentifier(Location.location(ClassName.fromString("com.example.Main"), "run", "()V"),
+                0, mutator);
+        return new MutationDetails(id, "Main.java", "desc", line, 0);
+    }
+}
@@ -0,0 +1,71 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DiffFilterFactoryTest {
+    private final DiffFilterFactory factory = new DiffFilterFactory();
+
+    @Test
+    void shouldCreateDiffFilter() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getList("diff")).thenReturn(List.of("src/test/resources/diff/changes.diff"));
+        when(settings.getList("changes")).thenReturn(List.of("src/test/resources/diff/changes.txt"));
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        assertThat(factory.createInterceptor(params)).isExactlyInstanceOf(DiffFilter.class);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenNoFileIsProvided() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+
+        assertThatIllegalStateException().isThrownBy(() -> factory.createInterceptor(params))
+                .withMessageContaining("\"diff\"");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenDiffIsMissing() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getList("diff")).thenReturn(List.of("src/test/resources/diff/missing.diff"));
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        assertThatIllegalStateException().isThrownBy(() -> factory.createInterceptor(params))
+                .withMessageContaining("missing.diff");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenChangeListIsMissing() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getList("changes")).thenReturn(List.of("src/test/resources/diff/missing.txt"));
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        assertThatIllegalStateException().isThrownBy(() -> factory.createInterceptor(params))
+                .withMessageContaining("missing.txt");
+    }
+
+    @Test
+    void shouldProvideCorrectFeature() {
+        Feature feature = factory.provides();
+
+        assertThat(feature.name()).isEqualToIgnoringCase("FDIFF");
+        assertThat(feature.description()).contains("diff");
+        assertThat(feature.isOnByDefault()).isFalse();
+    }
+
+    @Test
+    void descriptionShouldReturnDescription() {
+        assertThat(factory.description()).contains("diff");
+    }
+}
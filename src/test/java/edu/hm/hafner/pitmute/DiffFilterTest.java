@@ -0,0 +1,93 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DiffFilterTest {
+    private static final String MATH_MUTATOR_FQCN = "org.pitest.mutationtest.engine.gregor.mutators.MathMutator";
+    private final Mutater mutater = mock(Mutater.class);
+    private final DiffFilter filter = new DiffFilter(new ChangedLines.Builder()
+            .add("src/main/java/com/example/Main.java", 5, 10)
+            .add("src/main/java/com/example/Helpers.kt", 3, 3)
+            .build());
+
+    @Test
+    void shouldReturnCorrectType() {
+        assertThat(filter.type()).isEqualTo(InterceptorType.FILTER);
+    }
+
+    @Test
+    void shouldKeepOnlyMutationsOfChangedLines() {
+        filter.begin(new ClassTree(createClass("com/example/Main$Inner", "Main.java")));
+
+        var changed = createMutation("com.example.Main$Inner", 7);
+        var unchanged = createMutation("com.example.Main$Inner", 11);
+
+        assertThat(filter.intercept(List.of(changed, unchanged), mutater)).containsExactly(changed);
+        filter.end();
+    }
+
+    @Test
+    void shouldUseSourceFileAttribute() {
+        filter.begin(new ClassTree(createClass("com/example/HelpersKt", "Helpers.kt")));
+
+        var changed = createMutation("com.example.HelpersKt", 3);
+
+        assertThat(filter.intercept(List.of(changed), mutater)).containsExactly(changed);
+        filter.end();
+    }
+
+    @Test
+    void shouldRemoveAllMutationsOfUnchangedClasses() {
+        filter.begin(new ClassTree(createClass("com/example/Other", "Other.java")));
+
+        assertThat(filter.intercept(List.of(createMutation("com.example.Other", 7)), mutater)).isEmpty();
+        filter.end();
+    }
+
+    @Test
+    void shouldResolveSourcePath() {
+        assertThat(DiffFilter.getSourcePath(new ClassTree(createClass("com/example/Main$Inner", null))))
+                .isEqualTo("com/example/Main.java");
+        assertThat(DiffFilter.getSourcePath(new ClassTree(createClass("Main", "Main.java"))))
+                .isEqualTo("Main.java");
+        assertThat(DiffFilter.getSourcePath(new ClassTree(createClass("com/example/Generated", "Template.java"))))
+                .isEqualTo("com/example/Template.java");
+    }
+
+    @Test
+    void shouldKeepMutationsWithoutClass() {
+        var mutation = createMutation("com.example.Main", 20);
+
+        assertThat(filter.intercept(List.of(mutation), mutater)).containsExactly(mutation);
+    }
+
+    private static ClassNode createClass(final String name, final String sourceFile) {
+        ClassNode classNode = new ClassNode();
+        classNode.version = Opcodes.V17;
+        classNode.access = Opcodes.ACC_PUBLIC;
+        classNode.name = name;
+        classNode.superName = "java/lang/Object";
+        classNode.sourceFile = sourceFile;
+        return classNode;
+    }
+
+    private static MutationDetails createMutation(final String className, final int line) {
+        var id = new MutationIdentifier(Location.location(ClassName.fromString(className), "run", "()V"), 1,
+                MATH_MUTATOR_FQCN);
+        return new MutationDetails(id, "Main.java", "desc", line, 0);
+    }
+}
@@ -0,0 +1,144 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ExclusionRuleStoreTest {
+    private static final String MATH_MUTATOR_FQCN = "org.pitest.mutationtest.engine.gregor.mutators.MathMutator";
+    private static final String INCREMENTS_MUTATOR_FQCN = "org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator";
+    private static final CsvExclusionEntry ALL = new CsvExclusionEntry("com.example.Main", Optional.empty(),
+            Optional.empty(), Optional.empty());
+    private static final CsvExclusionEntry MATH_FROM_5 = new CsvExclusionEntry("com.example.Main", Optional.of("Math"),
+            Optional.of(5), Optional.empty(), "etc/exclusions.csv:2");
+    private static final CsvExclusionEntry UP_TO_10 = new CsvExclusionEntry("Main.java", Optional.empty(),
+            Optional.empty(), Optional.of(10), "generated");
+    private static final CsvExclusionEntry INCREMENTS_5_TO_10 = new CsvExclusionEntry("Main",
+            Optional.of("IncrementsMutator"), Optional.of(5), Optional.of(10), "etc/exclusions.csv:4");
+
+    private final MutatorRegistry registry = MutatorRegistry.shared();
+
+    @Test
+    void shouldRestoreEntries() {
+        List<CsvExclusionEntry> entries = List.of(ALL, MATH_FROM_5, UP_TO_10, INCREMENTS_5_TO_10);
+        var store = new ExclusionRuleStore(entries);
+
+        assertThat(store.size()).isEqualTo(4);
+        assertThat(store.isDirect()).isFalse();
+        for (int row = 0; row < entries.size(); row++) {
+            assertThat(store.getEntry(row)).isEqualTo(entries.get(row));
+            assertThat(store.getClassName(row)).isEqualTo(entries.get(row).className());
+        }
+    }
+
+    @Test
+    void shouldUseDirectBuffersAboveThreshold() {
+        List<CsvExclusionEntry> entries = List.of(ALL, MATH_FROM_5, UP_TO_10, INCREMENTS_5_TO_10);
+        var store = new ExclusionRuleStore(entries, 2);
+
+        assertThat(store.isDirect()).isTrue();
+        for (int row = 0; row < entries.size(); row++) {
+            assertThat(store.getEntry(row)).isEqualTo(entries.get(row));
+        }
+        assertThat(store.suppresses(1, registry.getId(MATH_MUTATOR_FQCN), MATH_MUTATOR_FQCN, 5)).isTrue();
+    }
+
+    @ParameterizedTest(name = "{index} => row: {0}, mutator: {1}, line: {2}, suppressed: {3}")
+    @CsvSource({
+            "0, org.pitest.mutationtest.engine.gregor.mutators.MathMutator, 1, true",
+            "0, com.example.mutators.UnknownMutator, 100, true",
+            "1, org.pitest.mutationtest.engine.gregor.mutators.MathMutator, 5, true",
+            "1, org.pitest.mutationtest.engine.gregor.mutators.MathMutator, 2147483647, true",
+            "1, org.pitest.mutationtest.engine.gregor.mutators.MathMutator, 4, false",
+            "1, org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator, 5, false",
+            "2, org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator, -2147483648, true",
+            "2, org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator, 10, true",
+            "2, org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator, 11, false",
+            "3, org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator, 5, true",
+            "3, org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator, 10, true",
+            "3, org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator, 11, false",
+            "3, org.pitest.mutationtest.engine.gregor.mutators.MathMutator, 7, false"
+    })
+    void shouldMatchMutatorAndLines(final int row, final String mutator, final int line, final boolean suppressed) {
+        var store = new ExclusionRuleStore(List.of(ALL, MATH_FROM_5, UP_TO_10, INCREMENTS_5_TO_10));
+
+        assertThat(store.suppresses(row, registry.getId(mutator), mutator, line)).isEqualTo(suppressed);
+    }
+
+    @Test
+    void shouldMatchMutatorsThatAreRegisteredLater() {
+        var store = new ExclusionRuleStore(List.of(new CsvExclusionEntry("com.example.Main",
+                Optional.of("LateMutator"), Optional.empty(), Optional.empty())));
+
+        String fqcn = "com.example.mutators.LateMutator";
+        assertThat(store.suppresses(0, registry.getId(fqcn), fqcn, 1)).isTrue();
+        assertThat(store.suppresses(0, registry.getId(INCREMENTS_MUTATOR_FQCN), INCREMENTS_MUTATOR_FQCN, 1)).isFalse();
+    }
+
+    @Test
+    void shouldSkipDuplicatesAndGroupEntriesByClassName() {
+        var builder = new ExclusionRuleStore.Builder();
+
+        assertThat(builder.add("com.example.Main", "", ExclusionRuleStore.UNSET_START, ExclusionRuleStore.UNSET_END,
+                "", -1)).isTrue();
+        assertThat(builder.add("Main.java", "", ExclusionRuleStore.UNSET_START, 10, "generated", -1)).isTrue();
+        assertThat(builder.add("com.example.Main", "Math", 5, ExclusionRuleStore.UNSET_END,
+                "etc/exclusions.csv", 2)).isTrue();
+        assertThat(builder.add("com.example.Main", "Math", 5, ExclusionRuleStore.UNSET_END,
+                "etc/other.csv", 7)).isFalse();
+        assertThat(builder.add("Main", "IncrementsMutator", 5, 10, "etc/exclusions.csv:4")).isTrue();
+        assertThat(builder.size()).isEqualTo(4);
+        assertThat(builder.toEntries()).containsExactly(ALL, UP_TO_10, MATH_FROM_5, INCREMENTS_5_TO_10);
+
+        var store = builder.build();
+        assertThat(store.size()).isEqualTo(4);
+        assertThat(store.getClassCount()).isEqualTo(3);
+        assertThat(store.getEntry(0)).isEqualTo(ALL);
+        assertThat(store.getEntry(1)).isEqualTo(MATH_FROM_5);
+        assertThat(store.getEntry(2)).isEqualTo(UP_TO_10);
+        assertThat(store.getEntry(3)).isEqualTo(INCREMENTS_5_TO_10);
+        assertThat(store.getClassId(1)).isZero();
+        assertThat(store.getClassNameById(store.getClassId(2))).isEqualTo("Main.java");
+    }
+
+    @Test
+    void shouldMergeBuildersAndStoresWithoutDuplicates() {
+        var first = new ExclusionRuleStore.Builder().addAll(List.of(ALL, MATH_FROM_5));
+        var second = new ExclusionRuleStore.Builder().addAll(List.of(UP_TO_10,
+                new CsvExclusionEntry("com.example.Main", Optional.empty(), Optional.empty(), Optional.empty(),
+                        "etc/other.csv:1")));
+
+        var merged = new ExclusionRuleStore.Builder().addAll(first).addAll(second)
+                .addAll(new ExclusionRuleStore(List.of(INCREMENTS_5_TO_10, MATH_FROM_5)));
+
+        assertThat(merged.toEntries()).containsExactly(ALL, MATH_FROM_5, UP_TO_10, INCREMENTS_5_TO_10);
+    }
+
+    @Test
+    void shouldGrowBuilderWithManyEntries() {
+        var builder = new ExclusionRuleStore.Builder();
+        for (int line = 1; line <= 1000; line++) {
+            builder.add("com.example.Main", "", line, line, "exclusions.csv", line);
+            builder.add("com.example.Main", "", line, line, "duplicates.csv", line);
+        }
+
+        var store = builder.build();
+        assertThat(store.size()).isEqualTo(1000);
+        assertThat(store.getEntry(999)).isEqualTo(new CsvExclusionEntry("com.example.Main", Optional.empty(),
+                Optional.of(1000), Optional.of(1000), "exclusions.csv:1000"));
+    }
+
+    @Test
+    void shouldHandleEmptyStore() {
+        var store = new ExclusionRuleStore(List.of());
+
+        assertThat(store.size()).isZero();
+        assertThat(ExclusionRules.EMPTY.isEmpty()).isTrue();
+        assertThat(ExclusionRules.EMPTY.toEntries()).isEmpty();
+    }
+}
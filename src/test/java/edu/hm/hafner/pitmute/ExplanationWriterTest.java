@@ -0,0 +1,149 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.plugin.FeatureSetting;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ExplanationWriterTest {
+    private static final String MATH_MUTATOR_FQCN = "org.pitest.mutationtest.engine.gregor.mutators.MathMutator";
+
+    @Test
+    void shouldWriteOneRecordPerLine(@TempDir final Path directory) throws IOException {
+        Path file = directory.resolve("reports/explanations.ndjson");
+        ExplanationWriter writer = ExplanationWriter.forFile(file);
+
+        writer.write("FCSV", createMutation(10), "exclusions.csv:1: com.example.Main,,,");
+        writer.write("FANNOT", createMutation(20), "@SuppressMutation on com.example.Main");
+        writer.close();
+
+        assertThat(Files.readAllLines(file)).containsExactly(
+                "{\"filter\":\"FCSV\",\"class\":\"com.example.Main\",\"method\":\"run\",\"methodDesc\":\"(I)V\","
+                        + "\"mutator\":\"" + MATH_MUTATOR_FQCN + "\",\"line\":10,\"instruction\":3,"
+                        + "\"rule\":\"exclusions.csv:1: com.example.Main,,,\"}",
+                "{\"filter\":\"FANNOT\",\"class\":\"com.example.Main\",\"method\":\"run\",\"methodDesc\":\"(I)V\","
+                        + "\"mutator\":\"" + MATH_MUTATOR_FQCN + "\",\"line\":20,\"instruction\":3,"
+                        + "\"rule\":\"@SuppressMutation on com.example.Main\"}");
+    }
+
+    @Test
+    void shouldWriteMoreRecordsThanQueueCapacity(@TempDir final Path directory) throws IOException {
+        Path file = directory.resolve("explanations.ndjson");
+        ExplanationWriter writer = ExplanationWriter.forFile(file);
+
+        IntStream.range(0, 20_000).forEach(line -> writer.write("FCSV", createMutation(line), "rule"));
+        writer.close();
+
+        assertThat(Files.readAllLines(file)).hasSize(20_000);
+    }
+
+    @Test
+    void shouldShareWriterForSameFile(@TempDir final Path directory) {
+        Path file = directory.resolve("explanations.ndjson");
+
+        assertThat(ExplanationWriter.forFile(file)).isSameAs(ExplanationWriter.forFile(directory.resolve("./explanations.ndjson")));
+    }
+
+    @Test
+    void shouldIgnoreRecordsAfterClose(@TempDir final Path directory) throws IOException {
+        Path file = directory.resolve("explanations.ndjson");
+        ExplanationWriter writer = ExplanationWriter.forFile(file);
+
+        writer.write("FCSV", createMutation(10), "rule");
+        writer.close();
+        IntStream.range(0, 20_000).forEach(line -> writer.write("FCSV", createMutation(line), "rule"));
+
+        assertThat(Files.readAllLines(file)).hasSize(1);
+    }
+
+    @Test
+    void shouldCreateNewWriterAfterClose(@TempDir final Path directory) {
+        Path file = directory.resolve("explanations.ndjson");
+        ExplanationWriter writer = ExplanationWriter.forFile(file);
+
+        writer.close();
+        ExplanationWriter reopened = ExplanationWriter.forFile(file);
+        reopened.close();
+
+        assertThat(reopened).isNotSameAs(writer);
+    }
+
+    @Test
+    void shouldAppendRecordsOfNewWriterAfterClose(@TempDir final Path directory) throws IOException {
+        Path file = directory.resolve("explanations.ndjson");
+        ExplanationWriter first = ExplanationWriter.forFile(file);
+        first.write("FCSV", createMutation(10), "rule");
+        first.close();
+
+        ExplanationWriter second = ExplanationWriter.forFile(file);
+        second.write("FANNOT", createMutation(20), "rule");
+        second.close();
+
+        assertThat(Files.readAllLines(file)).hasSize(2)
+                .satisfiesExactly(line -> assertThat(line).contains("\"FCSV\""),
+                        line -> assertThat(line).contains("\"FANNOT\""));
+    }
+
+    @Test
+    @Timeout(30)
+    @EnabledOnOs(OS.LINUX)
+    void shouldNotBlockWhenFileCannotBeWritten() {
+        ExplanationWriter writer = ExplanationWriter.forFile(Path.of("/dev/full"));
+
+        IntStream.range(0, 20_000).forEach(line -> writer.write("FCSV", createMutation(line), "rule"));
+        writer.close();
+
+        writer.write("FCSV", createMutation(1), "rule");
+    }
+
+    @Test
+    void shouldQuoteSpecialCharacters() {
+        assertThat(ExplanationWriter.quote("a\"b\\c\nd\u0001")).isEqualTo("\"a\\\"b\\\\c\\nd\\u0001\"");
+    }
+
+    @Test
+    void shouldBeDisabledWithoutParameter() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        assertThat(ExplanationWriter.fromParameters(params)).isEmpty();
+
+        when(settings.getString("explain")).thenReturn(Optional.of(" "));
+        assertThat(ExplanationWriter.fromParameters(params)).isEmpty();
+    }
+
+    @Test
+    void shouldBeEnabledWithParameter(@TempDir final Path directory) {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(params.settings()).thenReturn(Optional.of(settings));
+        Path file = directory.resolve("explanations.ndjson");
+        when(settings.getString("explain")).thenReturn(Optional.of(file.toString()));
+
+        assertThat(ExplanationWriter.fromParameters(params)).contains(ExplanationWriter.forFile(file));
+        assertThat(file).exists();
+    }
+
+    private static MutationDetails createMutation(final int line) {
+        var id = new MutationIdentifier(Location.location(ClassName.fromString("com.example.Main"), "run", "(I)V"),
+                3, MATH_MUTATOR_FQCN);
+        return new MutationDetails(id, "Main.java", "desc", line, 0);
+    }
+}
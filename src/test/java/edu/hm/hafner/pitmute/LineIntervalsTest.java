@@ -0,0 +1,41 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LineIntervalsTest {
+    @Test
+    void shouldContainLinesOfRanges() {
+        LineIntervals intervals = LineIntervals.of(List.of(new int[] {20, 25}, new int[] {5, 5}, new int[] {10, 12}));
+
+        assertThat(intervals.contains(4)).isFalse();
+        assertThat(intervals.contains(5)).isTrue();
+        assertThat(intervals.contains(6)).isFalse();
+        assertThat(intervals.contains(10)).isTrue();
+        assertThat(intervals.contains(11)).isTrue();
+        assertThat(intervals.contains(12)).isTrue();
+        assertThat(intervals.contains(13)).isFalse();
+        assertThat(intervals.contains(25)).isTrue();
+        assertThat(intervals.contains(26)).isFalse();
+    }
+
+    @Test
+    void shouldMergeOverlappingAndAdjacentRanges() {
+        LineIntervals intervals = LineIntervals.of(List.of(new int[] {1, 5}, new int[] {3, 8}, new int[] {9, 9},
+                new int[] {20, Integer.MAX_VALUE}, new int[] {30, 40}));
+
+        assertThat(intervals.contains(1)).isTrue();
+        assertThat(intervals.contains(7)).isTrue();
+        assertThat(intervals.contains(9)).isTrue();
+        assertThat(intervals.contains(10)).isFalse();
+        assertThat(intervals.contains(Integer.MAX_VALUE)).isTrue();
+    }
+
+    @Test
+    void shouldNotContainAnyLineWithoutRanges() {
+        assertThat(LineIntervals.of(List.of()).contains(1)).isFalse();
+    }
+}
@@ -0,0 +1,58 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LoggingCallFilterFactoryTest {
+    private final LoggingCallFilterFactory factory = new LoggingCallFilterFactory();
+
+    @Test
+    void shouldCreateFilterWithDefaultCalls() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+
+        assertThat(factory.createInterceptor(params)).isExactlyInstanceOf(LoggingCallFilter.class);
+    }
+
+    @Test
+    void shouldCreateFilterWithConfiguredCalls() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getList("call")).thenReturn(List.of("com.example.Tracer#trace", "com.example.Audit#*"));
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        assertThat(factory.createInterceptor(params)).isExactlyInstanceOf(LoggingCallFilter.class);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenCallIsInvalid() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getList("call")).thenReturn(List.of("com.example.Tracer"));
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        assertThatIllegalStateException().isThrownBy(() -> factory.createInterceptor(params))
+                .withMessageContaining("com.example.Tracer");
+    }
+
+    @Test
+    void shouldProvideCorrectFeature() {
+        Feature feature = factory.provides();
+
+        assertThat(feature.name()).isEqualToIgnoringCase("FLOGGING");
+        assertThat(feature.description()).contains("logging");
+        assertThat(feature.isOnByDefault()).isFalse();
+    }
+
+    @Test
+    void descriptionShouldReturnDescription() {
+        assertThat(factory.description()).contains("logging");
+    }
+}
@@ -0,0 +1,120 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LoggingCallFilterTest {
+    private static final String OWNER = "com/example/Service";
+    private static final String CLASS_NAME = "com.example.Service";
+    private static final String METHOD = "run";
+    private static final String METHOD_DESC = "()V";
+    private static final int DEBUG_CALL = 4;
+    private static final int AT_INFO_CALL = 7;
+    private static final int LOG_CALL = 9;
+    private static final int SERVICE_CALL = 12;
+    private final Mutater mutater = mock(Mutater.class);
+    private final LoggingCallFilter filter = new LoggingCallFilter();
+
+    @Test
+    void shouldReturnCorrectType() {
+        assertThat(filter.type()).isEqualTo(InterceptorType.FILTER);
+    }
+
+    @Test
+    void shouldSuppressMethodCallMutationsOfLoggingCalls() {
+        filter.begin(new ClassTree(createClass()));
+
+        var debug = createMutation(DEBUG_CALL, PitMutator.VOID_METHOD_CALLS);
+        var atInfo = createMutation(AT_INFO_CALL, PitMutator.NON_VOID_METHOD_CALLS);
+        var log = createMutation(LOG_CALL, PitMutator.VOID_METHOD_CALLS);
+        var service = createMutation(SERVICE_CALL, PitMutator.VOID_METHOD_CALLS);
+        var otherMutator = createMutation(DEBUG_CALL, PitMutator.INLINE_CONSTS);
+
+        assertThat(filter.intercept(List.of(debug, atInfo, log, service, otherMutator), mutater))
+                .containsExactly(service, otherMutator);
+        filter.end();
+    }
+
+    @Test
+    void shouldUseConfiguredCalls() {
+        var configuredFilter = new LoggingCallFilter(List.of("com.example.Audit#*"));
+        configuredFilter.begin(new ClassTree(createClass()));
+
+        var debug = createMutation(DEBUG_CALL, PitMutator.VOID_METHOD_CALLS);
+        var service = createMutation(SERVICE_CALL, PitMutator.VOID_METHOD_CALLS);
+
+        assertThat(configuredFilter.intercept(List.of(debug, service), mutater)).containsExactly(debug);
+        configuredFilter.end();
+    }
+
+    @Test
+    void shouldNotSuppressMutationsWithoutClass() {
+        var debug = createMutation(DEBUG_CALL, PitMutator.VOID_METHOD_CALLS);
+
+        assertThat(filter.intercept(List.of(debug), mutater)).containsExactly(debug);
+    }
+
+    @Test
+    void shouldRejectInvalidCalls() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new LoggingCallFilter(List.of("org.slf4j.Logger")));
+        assertThatIllegalArgumentException().isThrownBy(() -> new LoggingCallFilter(List.of("#debug")));
+        assertThatIllegalArgumentException().isThrownBy(() -> new LoggingCallFilter(List.of("org.slf4j.Logger#")));
+    }
+
+    private static ClassNode createClass() {
+        ClassNode classNode = new ClassNode();
+        classNode.version = Opcodes.V17;
+        classNode.access = Opcodes.ACC_PUBLIC;
+        classNode.name = OWNER;
+        classNode.superName = "java/lang/Object";
+
+        MethodNode method = new MethodNode(Opcodes.ACC_PUBLIC, METHOD, METHOD_DESC, null, null);
+        LabelNode label = new LabelNode();
+        method.instructions.add(label); // 0
+        method.instructions.add(new LineNumberNode(10, label)); // 1
+        method.instructions.add(new FieldInsnNode(Opcodes.GETSTATIC, OWNER, "LOG", "Lorg/slf4j/Logger;")); // 2
+        method.instructions.add(new LdcInsnNode("message")); // 3
+        method.instructions.add(new MethodInsnNode(Opcodes.INVOKEINTERFACE, "org/slf4j/Logger", "debug",
+                "(Ljava/lang/String;)V", true)); // 4
+        method.instructions.add(new FieldInsnNode(Opcodes.GETSTATIC, OWNER, "LOG", "Lorg/slf4j/Logger;")); // 5
+        method.instructions.add(new InsnNode(Opcodes.NOP)); // 6
+        method.instructions.add(new MethodInsnNode(Opcodes.INVOKEINTERFACE, "org/slf4j/Logger", "atInfo",
+                "()Lorg/slf4j/spi/LoggingEventBuilder;", true)); // 7
+        method.instructions.add(new LdcInsnNode("message")); // 8
+        method.instructions.add(new MethodInsnNode(Opcodes.INVOKEINTERFACE, "org/slf4j/spi/LoggingEventBuilder", "log",
+                "(Ljava/lang/String;)V", true)); // 9
+        method.instructions.add(new FieldInsnNode(Opcodes.GETSTATIC, OWNER, "AUDIT", "Lcom/example/Audit;")); // 10
+        method.instructions.add(new InsnNode(Opcodes.NOP)); // 11
+        method.instructions.add(new MethodInsnNode(Opcodes.INVOKEVIRTUAL, "com/example/Audit", "record",
+                "()V", false)); // 12
+        method.instructions.add(new InsnNode(Opcodes.RETURN)); // 13
+        classNode.methods.add(method);
+        return classNode;
+    }
+
+    private static MutationDetails createMutation(final int index, final PitMutator mutator) {
+        var id = new MutationIdentifier(Location.location(ClassName.fromString(CLASS_NAME), METHOD, METHOD_DESC),
+                index, mutator.getFqcn());
+        return new MutationDetails(id, "Service.java", "desc", 10, 0);
+    }
+}
@@ -0,0 +1,141 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import java.util.Arrays;
+import java.util.List;
+
+import edu.hm.hafner.pitmute.LoopControlAnalyzer.LoopControl;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LoopControlAnalyzerTest {
+    private final LoopControlAnalyzer analyzer = new LoopControlAnalyzer(100);
+
+    /**
+     * Creates the instructions of {@code for (int i = 0; i < n; i++) { if (i != 0) { sum += 5; } }}, as compiled by
+     * javac.
+     */
+    @Test
+    void shouldFindConditionAndIncrementOfForLoop() {
+        var instructions = new InsnList();
+        var condition = new LabelNode();
+        var exit = new LabelNode();
+        var skip = new LabelNode();
+        instructions.add(new InsnNode(Opcodes.ICONST_0));
+        instructions.add(new VarInsnNode(Opcodes.ISTORE, 1));
+        instructions.add(new InsnNode(Opcodes.ICONST_0));
+        instructions.add(new VarInsnNode(Opcodes.ISTORE, 2));
+        instructions.add(condition);
+        instructions.add(new VarInsnNode(Opcodes.ILOAD, 2));
+        instructions.add(new VarInsnNode(Opcodes.ILOAD, 0));
+        var loopCondition = new JumpInsnNode(Opcodes.IF_ICMPGE, exit);
+        instructions.add(loopCondition);
+        instructions.add(new VarInsnNode(Opcodes.ILOAD, 2));
+        var innerCondition = new JumpInsnNode(Opcodes.IFEQ, skip);
+        instructions.add(innerCondition);
+        var sumIncrement = new IincInsnNode(1, 5);
+        instructions.add(sumIncrement);
+        instructions.add(skip);
+        var loopIncrement = new IincInsnNode(2, 1);
+        instructions.add(loopIncrement);
+        instructions.add(new JumpInsnNode(Opcodes.GOTO, condition));
+        instructions.add(exit);
+        instructions.add(new VarInsnNode(Opcodes.ILOAD, 1));
+        instructions.add(new InsnNode(Opcodes.IRETURN));
+
+        List<AbstractInsnNode> nodes = Arrays.asList(instructions.toArray());
+        LoopControl loopControl = analyzer.analyze(nodes);
+
+        assertThat(loopControl.isCondition(nodes.indexOf(loopCondition))).isTrue();
+        assertThat(loopControl.isCondition(nodes.indexOf(innerCondition))).isFalse();
+        assertThat(loopControl.isIncrement(nodes.indexOf(loopIncrement))).isTrue();
+        assertThat(loopControl.isIncrement(nodes.indexOf(sumIncrement))).isFalse();
+        assertThat(loopControl.isCondition(-1)).isFalse();
+    }
+
+    /**
+     * Creates the instructions of {@code do { i++; } while (i < n);}.
+     */
+    @Test
+    void shouldFindConditionAndIncrementOfDoWhileLoop() {
+        var instructions = new InsnList();
+        var body = new LabelNode();
+        instructions.add(body);
+        var increment = new IincInsnNode(1, 1);
+        instructions.add(increment);
+        instructions.add(new VarInsnNode(Opcodes.ILOAD, 1));
+        instructions.add(new VarInsnNode(Opcodes.ILOAD, 0));
+        var condition = new JumpInsnNode(Opcodes.IF_ICMPLT, body);
+        instructions.add(condition);
+        instructions.add(new VarInsnNode(Opcodes.ILOAD, 1));
+        instructions.add(new InsnNode(Opcodes.IRETURN));
+
+        List<AbstractInsnNode> nodes = Arrays.asList(instructions.toArray());
+        LoopControl loopControl = analyzer.analyze(nodes);
+
+        assertThat(loopControl.isCondition(nodes.indexOf(condition))).isTrue();
+        assertThat(loopControl.isIncrement(nodes.indexOf(increment))).isTrue();
+    }
+
+    @Test
+    void shouldNotFindLoopControlWithoutBackEdges() {
+        var instructions = new InsnList();
+        var end = new LabelNode();
+        instructions.add(new VarInsnNode(Opcodes.ILOAD, 0));
+        instructions.add(new JumpInsnNode(Opcodes.IFEQ, end));
+        instructions.add(new IincInsnNode(0, 1));
+        instructions.add(end);
+        instructions.add(new VarInsnNode(Opcodes.ILOAD, 0));
+        instructions.add(new InsnNode(Opcodes.IRETURN));
+
+        assertThat(analyzer.analyze(Arrays.asList(instructions.toArray())).isEmpty()).isTrue();
+        assertThat(analyzer.analyze(List.of(new InsnNode(Opcodes.RETURN)))).isSameAs(LoopControl.NONE);
+    }
+
+    @Test
+    void shouldCacheResultsByDigestOfInstructions() {
+        LoopControl first = analyzer.analyze(createWhileLoop(1));
+        LoopControl second = analyzer.analyze(createWhileLoop(1));
+        LoopControl other = analyzer.analyze(createWhileLoop(2));
+
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+        assertThat(analyzer.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotExceedCapacityOfCache() {
+        var smallAnalyzer = new LoopControlAnalyzer(1);
+
+        smallAnalyzer.analyze(createWhileLoop(1));
+        smallAnalyzer.analyze(createWhileLoop(2));
+
+        assertThat(smallAnalyzer.size()).isOne();
+    }
+
+    /**
+     * Creates the instructions of {@code while (i != 0) { i -= step; }}.
+     */
+    private static List<AbstractInsnNode> createWhileLoop(final int step) {
+        var instructions = new InsnList();
+        var condition = new LabelNode();
+        var exit = new LabelNode();
+        instructions.add(condition);
+        instructions.add(new VarInsnNode(Opcodes.ILOAD, 0));
+        instructions.add(new JumpInsnNode(Opcodes.IFEQ, exit));
+        instructions.add(new IincInsnNode(0, -step));
+        instructions.add(new JumpInsnNode(Opcodes.GOTO, condition));
+        instructions.add(exit);
+        instructions.add(new InsnNode(Opcodes.RETURN));
+        return Arrays.asList(instructions.toArray());
+    }
+}
@@ -0,0 +1,70 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LoopControlFilterFactoryTest {
+    private final LoopControlFilterFactory factory = new LoopControlFilterFactory();
+
+    @Test
+    void shouldCreateFilterWithDefaultPolicy() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+
+        assertThat(factory.createInterceptor(params)).isExactlyInstanceOf(LoopControlFilter.class);
+    }
+
+    @Test
+    void shouldCreateFilterWithTagPolicy(@TempDir final Path directory) {
+        InterceptorParameters params = createParameters("tag", Optional.of(directory.resolve("loops.ndjson").toString()));
+
+        assertThat(factory.createInterceptor(params)).isExactlyInstanceOf(LoopControlFilter.class);
+    }
+
+    @Test
+    void shouldThrowExceptionForTagPolicyWithoutExplanationFile() {
+        InterceptorParameters params = createParameters("tag", Optional.empty());
+
+        assertThatIllegalStateException().isThrownBy(() -> factory.createInterceptor(params))
+                .withMessageContaining("FLOOP");
+    }
+
+    @Test
+    void shouldThrowExceptionForUnknownPolicy() {
+        InterceptorParameters params = createParameters("ignore", Optional.empty());
+
+        assertThatIllegalStateException().isThrownBy(() -> factory.createInterceptor(params))
+                .withMessageContaining("FLOOP");
+    }
+
+    @Test
+    void shouldProvideCorrectFeature() {
+        Feature feature = factory.provides();
+
+        assertThat(feature.name()).isEqualToIgnoringCase("FLOOP");
+        assertThat(feature.description()).contains("loop");
+        assertThat(feature.isOnByDefault()).isFalse();
+    }
+
+    @Test
+    void descriptionShouldReturnDescription() {
+        assertThat(factory.description()).contains("loop");
+    }
+
+    private static InterceptorParameters createParameters(final String policy, final Optional<String> explain) {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getString("policy")).thenReturn(Optional.of(policy));
+        when(settings.getString("explain")).thenReturn(explain);
+        when(params.settings()).thenReturn(Optional.of(settings));
+        return params;
+    }
+}
@@ -0,0 +1,140 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.VarInsnNode;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import edu.hm.hafner.pitmute.LoopControlFilter.Policy;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LoopControlFilterTest {
+    private static final String CLASS_NAME = "com.example.Counter";
+    private static final String METHOD_DESC = "(I)I";
+    private static final int INCREMENT = 1;
+    private static final int CONDITION = 4;
+
+    private final Mutater mutater = mock(Mutater.class);
+    private final LoopControlFilter filter = new LoopControlFilter();
+
+    private final MutationDetails negatedCondition = createMutation("count", PitMutator.NEGATE_CONDITIONALS, CONDITION);
+    private final MutationDetails boundary = createMutation("count", PitMutator.CONDITIONALS_BOUNDARY, CONDITION);
+    private final MutationDetails increment = createMutation("count", PitMutator.INCREMENTS, INCREMENT);
+    private final MutationDetails removedIncrement = createMutation("count", PitMutator.REMOVE_INCREMENTS, INCREMENT);
+    private final MutationDetails math = createMutation("count", PitMutator.MATH, INCREMENT);
+    private final MutationDetails otherMethod = createMutation("other", PitMutator.NEGATE_CONDITIONALS, CONDITION);
+
+    @Test
+    void shouldReturnCorrectType() {
+        assertThat(filter.type()).isEqualTo(InterceptorType.FILTER);
+    }
+
+    @Test
+    void shouldSuppressMutationsOfLoopControllingInstructions() {
+        filter.begin(createClassTree());
+
+        assertThat(filter.intercept(List.of(negatedCondition, boundary, increment, removedIncrement, math, otherMethod),
+                mutater)).containsExactly(math, otherMethod);
+        filter.end();
+    }
+
+    @Test
+    void shouldTagMutationsOfLoopControllingInstructions(@TempDir final Path directory) throws IOException {
+        Path file = directory.resolve("loops.ndjson");
+        ExplanationWriter writer = ExplanationWriter.forFile(file);
+        var taggingFilter = new LoopControlFilter(new LoopControlAnalyzer(10), Policy.TAG, Optional.of(writer));
+
+        taggingFilter.begin(createClassTree());
+        assertThat(taggingFilter.intercept(List.of(negatedCondition, increment, math), mutater))
+                .containsExactly(negatedCondition, increment, math);
+        taggingFilter.end();
+
+        writer.close();
+        assertThat(Files.readAllLines(file)).hasSize(2)
+                .anySatisfy(line -> assertThat(line).contains("\"filter\":\"FLOOP\"").contains("loop condition"))
+                .anySatisfy(line -> assertThat(line).contains("increment of loop variable"));
+    }
+
+    @Test
+    void shouldKeepMutationsOfOtherClasses() {
+        MutationDetails otherClass = createMutation("com.example.Other", "count", PitMutator.NEGATE_CONDITIONALS,
+                CONDITION);
+
+        filter.begin(createClassTree());
+
+        assertThat(filter.intercept(List.of(otherClass, negatedCondition), mutater)).containsExactly(otherClass);
+        filter.end();
+    }
+
+    @Test
+    void shouldRequireExplanationFileForTagPolicy() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new LoopControlFilter(new LoopControlAnalyzer(10), Policy.TAG, Optional.empty()));
+    }
+
+    @Test
+    void shouldKeepAllMutationsWithoutBegin() {
+        assertThat(filter.intercept(List.of(negatedCondition, math), mutater)).containsExactly(negatedCondition, math);
+    }
+
+    /**
+     * Creates a class with the method {@code int count(int n) { do { i++; } while (i < n); return i; }} and a method
+     * without loops.
+     */
+    private static ClassTree createClassTree() {
+        var method = new MethodNode(Opcodes.ACC_PUBLIC, "count", METHOD_DESC, null, null);
+        var body = new LabelNode();
+        method.instructions.add(body);
+        method.instructions.add(new IincInsnNode(1, 1));
+        method.instructions.add(new VarInsnNode(Opcodes.ILOAD, 1));
+        method.instructions.add(new VarInsnNode(Opcodes.ILOAD, 0));
+        method.instructions.add(new JumpInsnNode(Opcodes.IF_ICMPLT, body));
+        method.instructions.add(new VarInsnNode(Opcodes.ILOAD, 1));
+        method.instructions.add(new InsnNode(Opcodes.IRETURN));
+
+        var other = new MethodNode(Opcodes.ACC_PUBLIC, "other", METHOD_DESC, null, null);
+        other.instructions.add(new VarInsnNode(Opcodes.ILOAD, 0));
+        other.instructions.add(new InsnNode(Opcodes.IRETURN));
+
+        var classNode = new ClassNode();
+        classNode.version = Opcodes.V17;
+        classNode.access = Opcodes.ACC_PUBLIC;
+        classNode.name = ClassName.fromString(CLASS_NAME).asInternalName();
+        classNode.superName = "java/lang/Object";
+        classNode.methods.add(method);
+        classNode.methods.add(other);
+        return new ClassTree(classNode);
+    }
+
+    private static MutationDetails createMutation(final String method, final PitMutator mutator, final int index) {
+        return createMutation(CLASS_NAME, method, mutator, index);
+    }
+
+    private static MutationDetails createMutation(final String className, final String method,
+            final PitMutator mutator, final int index) {
+        var id = new MutationIdentifier(Location.location(ClassName.fromString(className), method, METHOD_DESC),
+                index, mutator.getFqcn());
+        return new MutationDetails(id, "Counter.java", "desc", 3, 0);
+    }
+}
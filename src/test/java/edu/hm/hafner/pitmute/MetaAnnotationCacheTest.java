@@ -0,0 +1,180 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AnnotationNode;
+import org.pitest.classpath.ClassByteArraySource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MetaAnnotationCacheTest {
+    private static final String SUPPRESS_MUTATION_DESC = "Ledu/hm/hafner/pitmute/SuppressMutation;";
+    private static final String SUPPRESS_MUTATIONS_DESC = "Ledu/hm/hafner/pitmute/SuppressMutations;";
+    private static final String GENERATED_CODE_DESC = "Lcom/example/GeneratedCode;";
+    private static final String PERFORMANCE_CRITICAL_DESC = "Lcom/example/PerformanceCritical;";
+
+    private final Map<String, byte[]> classFiles = new HashMap<>();
+    private final List<String> requestedClasses = new ArrayList<>();
+    private final ClassByteArraySource source = name -> {
+        requestedClasses.add(name);
+        return Optional.ofNullable(classFiles.get(name));
+    };
+
+    @Test
+    void shouldResolveMetaAnnotation() {
+        classFiles.put("com.example.GeneratedCode", createAnnotationType("com/example/GeneratedCode", false));
+        var cache = new MetaAnnotationCache();
+
+        List<AnnotationNode> suppressions = cache.getSuppressions(GENERATED_CODE_DESC, source);
+
+        assertThat(suppressions).hasSize(1).first().satisfies(annotation -> {
+            assertThat(annotation.desc).isEqualTo(SUPPRESS_MUTATION_DESC);
+            assertThat(annotation.values).containsExactly("mutatorName", "Math");
+        });
+    }
+
+    @Test
+    void shouldResolveRepeatedMetaAnnotations() {
+        classFiles.put("com.example.GeneratedCode", createAnnotationType("com/example/GeneratedCode", true));
+
+        assertThat(new MetaAnnotationCache().getSuppressions(GENERATED_CODE_DESC, source))
+                .hasSize(2)
+                .allSatisfy(annotation -> assertThat(annotation.desc).isEqualTo(SUPPRESS_MUTATION_DESC));
+    }
+
+    @Test
+    void shouldResolveMetaAnnotationsTransitively() {
+        classFiles.put("com.example.GeneratedCode", createAnnotationType("com/example/GeneratedCode", false));
+        classFiles.put("com.example.PerformanceCritical",
+                createAnnotationType("com/example/PerformanceCritical", GENERATED_CODE_DESC));
+
+        assertThat(new MetaAnnotationCache().getSuppressions(PERFORMANCE_CRITICAL_DESC, source)).hasSize(1);
+    }
+
+    @Test
+    void shouldReadEachAnnotationTypeOnlyOnce() {
+        classFiles.put("com.example.GeneratedCode", createAnnotationType("com/example/GeneratedCode", false));
+        var cache = new MetaAnnotationCache();
+
+        cache.getSuppressions(GENERATED_CODE_DESC, source);
+        cache.getSuppressions(GENERATED_CODE_DESC, source);
+        cache.getSuppressions("Lcom/example/Unknown;", source);
+        cache.getSuppressions("Lcom/example/Unknown;", source);
+
+        assertThat(requestedClasses).containsExactly("com.example.GeneratedCode", "com.example.Unknown");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSkipPlatformAnnotations() {
+        var cache = new MetaAnnotationCache();
+
+        assertThat(cache.getSuppressions("Ljava/lang/Deprecated;", source)).isEmpty();
+        assertThat(cache.getSuppressions("Ljavax/annotation/processing/Generated;", source)).isEmpty();
+        assertThat(requestedClasses).isEmpty();
+    }
+
+    @Test
+    void shouldStopAtCyclicMetaAnnotations() {
+        classFiles.put("com.example.GeneratedCode",
+                createAnnotationType("com/example/GeneratedCode", PERFORMANCE_CRITICAL_DESC));
+        classFiles.put("com.example.PerformanceCritical",
+                createAnnotationType("com/example/PerformanceCritical", GENERATED_CODE_DESC));
+
+        assertThat(new MetaAnnotationCache().getSuppressions(GENERATED_CODE_DESC, source)).isEmpty();
+    }
+
+    @Test
+    void shouldResolveAllAnnotationTypesOfCycle() {
+        classFiles.put("com.example.GeneratedCode",
+                createAnnotationType("com/example/GeneratedCode", PERFORMANCE_CRITICAL_DESC));
+        classFiles.put("com.example.PerformanceCritical",
+                createSuppressedAnnotationType("com/example/PerformanceCritical", GENERATED_CODE_DESC));
+        var cache = new MetaAnnotationCache();
+
+        assertThat(cache.getSuppressions(PERFORMANCE_CRITICAL_DESC, source)).hasSize(1);
+        assertThat(cache.getSuppressions(GENERATED_CODE_DESC, source)).hasSize(1)
+                .first().satisfies(annotation -> assertThat(annotation.values).containsExactly("mutatorName", "Math"));
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(requestedClasses).containsExactly("com.example.PerformanceCritical", "com.example.GeneratedCode");
+    }
+
+    @Test
+    void shouldResolveAnnotationTypesThatReferToCycle() {
+        String readOnlyDesc = "Lcom/example/ReadOnly;";
+        classFiles.put("com.example.ReadOnly", createAnnotationType("com/example/ReadOnly", GENERATED_CODE_DESC));
+        classFiles.put("com.example.GeneratedCode",
+                createAnnotationType("com/example/GeneratedCode", PERFORMANCE_CRITICAL_DESC));
+        classFiles.put("com.example.PerformanceCritical",
+                createSuppressedAnnotationType("com/example/PerformanceCritical", GENERATED_CODE_DESC));
+        var cache = new MetaAnnotationCache();
+
+        assertThat(cache.getSuppressions(readOnlyDesc, source)).hasSize(1);
+        assertThat(cache.getSuppressions(GENERATED_CODE_DESC, source)).hasSize(1);
+        assertThat(cache.getSuppressions(PERFORMANCE_CRITICAL_DESC, source)).hasSize(1);
+        assertThat(requestedClasses).hasSize(3);
+    }
+
+    @Test
+    void shouldRecognizeSuppressMutationDescriptors() {
+        assertThat(MetaAnnotationCache.isSuppressMutation(SUPPRESS_MUTATION_DESC)).isTrue();
+        assertThat(MetaAnnotationCache.isSuppressMutation(SUPPRESS_MUTATIONS_DESC)).isFalse();
+        assertThat(MetaAnnotationCache.isSuppressMutations(SUPPRESS_MUTATIONS_DESC)).isTrue();
+        assertThat(MetaAnnotationCache.isSuppressMutations(GENERATED_CODE_DESC)).isFalse();
+    }
+
+    private static byte[] createAnnotationType(final String internalName, final boolean repeated) {
+        ClassWriter writer = visitAnnotationType(internalName);
+        if (repeated) {
+            AnnotationVisitor container = writer.visitAnnotation(SUPPRESS_MUTATIONS_DESC, true);
+            AnnotationVisitor values = container.visitArray("value");
+            values.visitAnnotation(null, SUPPRESS_MUTATION_DESC).visitEnd();
+            AnnotationVisitor second = values.visitAnnotation(null, SUPPRESS_MUTATION_DESC);
+            second.visit("mutatorName", "Increments");
+            second.visitEnd();
+            values.visitEnd();
+            container.visitEnd();
+        }
+        else {
+            AnnotationVisitor annotation = writer.visitAnnotation(SUPPRESS_MUTATION_DESC, true);
+            annotation.visit("mutatorName", "Math");
+            annotation.visitEnd();
+        }
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static byte[] createAnnotationType(final String internalName, final String metaAnnotation) {
+        ClassWriter writer = visitAnnotationType(internalName);
+        writer.visitAnnotation("Ljava/lang/annotation/Documented;", true).visitEnd();
+        writer.visitAnnotation(metaAnnotation, false).visitEnd();
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static byte[] createSuppressedAnnotationType(final String internalName, final String metaAnnotation) {
+        ClassWriter writer = visitAnnotationType(internalName);
+        writer.visitAnnotation(metaAnnotation, false).visitEnd();
+        AnnotationVisitor annotation = writer.visitAnnotation(SUPPRESS_MUTATION_DESC, true);
+        annotation.visit("mutatorName", "Math");
+        annotation.visitEnd();
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static ClassWriter visitAnnotationType(final String internalName) {
+        var writer = new ClassWriter(0);
+        writer.visit(Opcodes.V21, Opcodes.ACC_PUBLIC | Opcodes.ACC_ANNOTATION | Opcodes.ACC_INTERFACE
+                | Opcodes.ACC_ABSTRACT, internalName, null, "java/lang/Object",
+                new String[] {"java/lang/annotation/Annotation"});
+        return writer;
+    }
+}
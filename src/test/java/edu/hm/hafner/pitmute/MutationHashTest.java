@@ -0,0 +1,62 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MutationHashTest {
+    private static final String MATH_MUTATOR_FQCN = "org.pitest.mutationtest.engine.gregor.mutators.MathMutator";
+    private static final String INCREMENTS_MUTATOR_FQCN = "org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator";
+
+    @Test
+    void shouldComputeSameHashForSameMutation() {
+        assertThat(MutationHash.of(createMutation("run", 1, MATH_MUTATOR_FQCN, 10), 42))
+                .isEqualTo(MutationHash.of(createMutation("run", 1, MATH_MUTATOR_FQCN, 99), 42));
+    }
+
+    @Test
+    void shouldComputeDifferentHashesForDifferentMutations() {
+        long hash = MutationHash.of(createMutation("run", 1, MATH_MUTATOR_FQCN, 10), 42);
+
+        assertThat(MutationHash.of(createMutation("stop", 1, MATH_MUTATOR_FQCN, 10), 42)).isNotEqualTo(hash);
+        assertThat(MutationHash.of(createMutation("run", 2, MATH_MUTATOR_FQCN, 10), 42)).isNotEqualTo(hash);
+        assertThat(MutationHash.of(createMutation("run", 1, INCREMENTS_MUTATOR_FQCN, 10), 42)).isNotEqualTo(hash);
+    }
+
+    @Test
+    void shouldDependOnSeed() {
+        MutationDetails mutation = createMutation("run", 1, MATH_MUTATOR_FQCN, 10);
+
+        assertThat(MutationHash.of(mutation, 1)).isNotEqualTo(MutationHash.of(mutation, 2));
+        assertThat(MutationHash.of("com.example.Main", 1)).isNotEqualTo(MutationHash.of("com.example.Main", 2));
+        assertThat(MutationHash.of("com.example.Main", 1)).isEqualTo(MutationHash.of("com.example.Main", 1));
+    }
+
+    @Test
+    void shouldIncludeLineInSiteHash() {
+        MutationDetails mutation = createMutation("run", 1, MATH_MUTATOR_FQCN, 10);
+
+        assertThat(MutationHash.ofSite(mutation, 42)).isEqualTo(
+                MutationHash.ofSite(createMutation("run", 1, MATH_MUTATOR_FQCN, 10), 42));
+        assertThat(MutationHash.ofSite(mutation, 42)).isNotEqualTo(
+                MutationHash.ofSite(createMutation("run", 1, MATH_MUTATOR_FQCN, 11), 42));
+        assertThat(MutationHash.ofSite(mutation, 42)).isNotEqualTo(MutationHash.of(mutation, 42));
+    }
+
+    @Test
+    void shouldNotMixUpFieldBoundaries() {
+        assertThat(MutationHash.of("ab", 0)).isNotEqualTo(MutationHash.of("a", 0));
+        assertThat(MutationHash.of(createMutation("ab", 1, MATH_MUTATOR_FQCN, 10), 0))
+                .isNotEqualTo(MutationHash.of(createMutation("a", 1, MATH_MUTATOR_FQCN, 10), 0));
+    }
+
+    private static MutationDetails createMutation(final String method, final int index, final String mutator, final int line) {
+        var id = new MutationIdentifier(Location.location(ClassName.fromString("com.example.Main"), method, "()V"),
+                index, mutator);
+        return new MutationDetails(id, "Main.java", "desc", line, 0);
+    }
+}
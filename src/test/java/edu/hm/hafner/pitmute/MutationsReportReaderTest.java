@@ -0,0 +1,96 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLStreamException;
+
+import edu.hm.hafner.pitmute.MutationsReportReader.ReportedMutation;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MutationsReportReaderTest {
+    private static final String REPORT = "/report/mutations.xml";
+
+    @Test
+    void shouldReadAllMutationsOfReport() throws IOException, XMLStreamException {
+        List<ReportedMutation> mutations = new ArrayList<>();
+        try (InputStream input = MutationsReportReaderTest.class.getResourceAsStream(REPORT)) {
+            MutationsReportReader.read(input, mutations::add);
+        }
+
+        assertThat(mutations).hasSize(3);
+        assertThat(mutations).extracting(ReportedMutation::status).containsExactly("KILLED", "TIMED_OUT", "SURVIVED");
+        assertThat(mutations).extracting(ReportedMutation::testsRun).containsExactly(3, 1, 5);
+
+        MutationDetails first = mutations.get(0).mutation();
+        assertThat(first.getClassName().asJavaName()).isEqualTo("com.example.Main");
+        assertThat(first.getMethod()).isEqualTo("run");
+        assertThat(first.getId().getLocation().getMethodDesc()).isEqualTo("()V");
+        assertThat(first.getMutator()).isEqualTo("org.pitest.mutationtest.engine.gregor.mutators.MathMutator");
+        assertThat(first.getLineNumber()).isEqualTo(7);
+        assertThat(first.getFirstIndex()).isEqualTo(4);
+        assertThat(first.getFilename()).isEqualTo("Main.java");
+        assertThat(first.getDescription()).isEqualTo("Replaced integer addition with subtraction");
+    }
+
+    @Test
+    void shouldUseDefaultsForMissingOptionalValues() throws XMLStreamException {
+        List<ReportedMutation> mutations = new ArrayList<>();
+        MutationsReportReader.read(toStream("<mutations><mutation><mutatedClass>A</mutatedClass>"
+                + "<mutatedMethod>m</mutatedMethod><methodDescription>()V</methodDescription>"
+                + "<mutator>VoidMethodCallMutator</mutator></mutation></mutations>"), mutations::add);
+
+        assertThat(mutations).singleElement().satisfies(mutation -> {
+            assertThat(mutation.status()).isEqualTo("UNKNOWN");
+            assertThat(mutation.testsRun()).isZero();
+            assertThat(mutation.mutation().getLineNumber()).isZero();
+            assertThat(mutation.mutation().getFirstIndex()).isZero();
+        });
+    }
+
+    @Test
+    void shouldThrowExceptionForIncompleteMutation(@TempDir final Path directory) throws IOException {
+        Path report = directory.resolve("mutations.xml");
+        Files.writeString(report, "<mutations><mutation><mutatedClass>A</mutatedClass></mutation></mutations>");
+
+        assertThatIllegalStateException().isThrownBy(() -> MutationsReportReader.read(report, mutation -> { }))
+                .withMessage("Failed to read the PIT report " + report)
+                .withRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldThrowExceptionForMissingReport(@TempDir final Path directory) {
+        Path report = directory.resolve("missing.xml");
+
+        assertThatIllegalStateException().isThrownBy(() -> MutationsReportReader.read(report, mutation -> { }))
+                .withMessage("Failed to read the PIT report " + report);
+    }
+
+    @Test
+    void shouldNotResolveExternalEntities(@TempDir final Path directory) throws IOException {
+        Path secret = directory.resolve("secret.txt");
+        Files.writeString(secret, "secret");
+        Path report = directory.resolve("mutations.xml");
+        Files.writeString(report, "<?xml version=\"1.0\"?><!DOCTYPE mutations [<!ENTITY secret SYSTEM \""
+                + secret.toUri() + "\">]><mutations><mutation><mutatedClass>&secret;</mutatedClass>"
+                + "<mutatedMethod>m</mutatedMethod><methodDescription>()V</methodDescription>"
+                + "<mutator>M</mutator></mutation></mutations>");
+
+        assertThatIllegalStateException().isThrownBy(() -> MutationsReportReader.read(report, mutation -> { }))
+                .withMessage("Failed to read the PIT report " + report);
+    }
+
+    private static InputStream toStream(final String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+}
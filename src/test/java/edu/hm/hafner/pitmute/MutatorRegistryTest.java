@@ -0,0 +1,142 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MutatorRegistryTest {
+    private static final String MATH_MUTATOR_FQCN = "org.pitest.mutationtest.engine.gregor.mutators.MathMutator";
+    private static final String REMOVE_SWITCH_PREFIX = "org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_";
+
+    @Test
+    void shouldAssignDenseIdsToPitMutators() {
+        var registry = new MutatorRegistry();
+
+        long mutators = Arrays.stream(PitMutator.values())
+                .filter(mutator -> mutator != PitMutator.NONE)
+                .count();
+        assertThat(registry.size()).isEqualTo(mutators + 1);
+        assertThat(Arrays.stream(PitMutator.values()).mapToInt(registry::getId))
+                .allSatisfy(id -> assertThat(id).isBetween(0, registry.size() - 1));
+        assertThat(registry.getId(PitMutator.NONE)).isEqualTo(MutatorRegistry.ALL_MUTATORS);
+        assertThat(registry.getId(PitMutator.MATH)).isEqualTo(registry.getId(MATH_MUTATOR_FQCN));
+    }
+
+    @Test
+    void shouldAssignOwnIdToEachMemberOfMutatorFamily() {
+        var registry = new MutatorRegistry();
+
+        int family = registry.getId(PitMutator.EXPERIMENTAL_REMOVE_SWITCH);
+        int first = registry.getId(PitMutator.EXPERIMENTAL_REMOVE_SWITCH_MUTATOR_0);
+        int unknown = registry.getId(REMOVE_SWITCH_PREFIX + "99");
+        assertThat(List.of(family, first, registry.getId(REMOVE_SWITCH_PREFIX + "10"), unknown)).doesNotHaveDuplicates();
+        assertThat(registry.getId(REMOVE_SWITCH_PREFIX + "0")).isEqualTo(first);
+        assertThat(registry.getId("org.pitest.mutationtest.engine.gregor.mutators.RemoveConditionalMutator_EQUAL_IF"))
+                .isNotEqualTo(registry.getId("org.pitest.mutationtest.engine.gregor.mutators.RemoveConditionalMutator_EQUAL_ELSE"));
+    }
+
+    @Test
+    void shouldRegisterUnknownMutators() {
+        var registry = new MutatorRegistry();
+        int size = registry.size();
+
+        int id = registry.getId("com.example.mutators.ThirdPartyMutator");
+
+        assertThat(id).isEqualTo(size);
+        assertThat(registry.size()).isEqualTo(size + 1);
+        assertThat(registry.getId("com.example.mutators.ThirdPartyMutator")).isEqualTo(id);
+    }
+
+    @Test
+    void shouldSelectMutatorsByName() {
+        var registry = new MutatorRegistry();
+
+        MutatorRegistry.Selection selection = registry.select("Math");
+
+        assertThat(selection.contains(registry.getId(PitMutator.MATH), MATH_MUTATOR_FQCN)).isTrue();
+        assertThat(selection.contains(registry.getId(PitMutator.INCREMENTS), PitMutator.INCREMENTS.getFqcn())).isFalse();
+        assertThat(selection.getIds().cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSelectSingleMemberOrWholeFamily() {
+        var registry = new MutatorRegistry();
+        int third = registry.getId(PitMutator.EXPERIMENTAL_REMOVE_SWITCH_MUTATOR_3);
+        int fourth = registry.getId(PitMutator.EXPERIMENTAL_REMOVE_SWITCH_MUTATOR_4);
+
+        MutatorRegistry.Selection member = registry.select("RemoveSwitchMutator_3");
+        assertThat(member.getIds().get(third)).isTrue();
+        assertThat(member.getIds().get(fourth)).isFalse();
+        assertThat(member.getIds().cardinality()).isEqualTo(1);
+
+        MutatorRegistry.Selection family = registry.select(PitMutator.EXPERIMENTAL_REMOVE_SWITCH.getFqcn());
+        assertThat(family.getIds().get(third)).isTrue();
+        assertThat(family.getIds().get(fourth)).isTrue();
+        String later = REMOVE_SWITCH_PREFIX + "42";
+        assertThat(family.contains(registry.getId(later), later)).isTrue();
+        assertThat(member.contains(registry.getId(later), later)).isFalse();
+    }
+
+    @Test
+    void shouldSelectMutatorsThatAreRegisteredLater() {
+        var registry = new MutatorRegistry();
+        MutatorRegistry.Selection selection = registry.select("ThirdParty");
+
+        String fqcn = "com.example.mutators.ThirdPartyMutator";
+        int id = registry.getId(fqcn);
+
+        assertThat(selection.getIds().isEmpty()).isTrue();
+        assertThat(selection.contains(id, fqcn)).isTrue();
+        assertThat(registry.select("ThirdParty").getIds().get(id)).isTrue();
+    }
+
+    @Test
+    void shouldAssignIdsOnlyOnceWhenUsedConcurrently() throws ExecutionException, InterruptedException {
+        var registry = new MutatorRegistry();
+        int size = registry.size();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> ids = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                String fqcn = "com.example.mutators.Mutator" + (i % 10);
+                ids.add(executor.submit(() -> registry.getId(fqcn)));
+            }
+            for (Future<Integer> id : ids) {
+                assertThat(id.get()).isBetween(size, size + 9);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        assertThat(registry.size()).isEqualTo(size + 10);
+    }
+
+    @ParameterizedTest(name = "{index} => fqcn: {0}, name: {1}, matches: {2}")
+    @CsvSource({
+            "org.pitest.mutationtest.engine.gregor.mutators.MathMutator, org.pitest.mutationtest.engine.gregor.mutators.MathMutator, true",
+            "org.pitest.mutationtest.engine.gregor.mutators.MathMutator, MathMutator, true",
+            "org.pitest.mutationtest.engine.gregor.mutators.MathMutator, Math, true",
+            "org.pitest.mutationtest.engine.gregor.mutators.MathMutator, Increments, false",
+            "org.pitest.mutationtest.engine.gregor.mutators.MathMutator, athMutator, false",
+            "org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_4, RemoveSwitchMutator_N, true",
+            "org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_4, RemoveSwitchMutator_5, false",
+            "org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_4, RemoveSwitchMutator_4, true",
+            "org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_N, RemoveSwitchMutator_N, true",
+            "org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_N, RemoveSwitchMutator_4, false",
+            "org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_4, RemoveSwitchMutator, false"
+    })
+    void shouldMatchMutatorNames(final String fqcn, final String name, final boolean matches) {
+        assertThat(MutatorRegistry.nameMatches(fqcn, name)).isEqualTo(matches);
+    }
+}
@@ -0,0 +1,83 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SamplingFilterFactoryTest {
+    private final SamplingFilterFactory factory = new SamplingFilterFactory();
+
+    @Test
+    void shouldCreateSamplingFilter() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getString("rate")).thenReturn(Optional.of("0.1"));
+        when(settings.getString("seed")).thenReturn(Optional.of("42"));
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        assertThat(factory.createInterceptor(params)).isExactlyInstanceOf(SamplingFilter.class);
+    }
+
+    @Test
+    void shouldUseDefaultSeed() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getString("rate")).thenReturn(Optional.of("0.5"));
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        assertThat(factory.createInterceptor(params)).isExactlyInstanceOf(SamplingFilter.class);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenRateIsMissing() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+
+        assertThatIllegalStateException().isThrownBy(() -> factory.createInterceptor(params))
+                .withMessageContaining("\"rate\"");
+    }
+
+    @ParameterizedTest(name = "{index} => rate: {0}")
+    @ValueSource(strings = {"zero", "0", "2"})
+    void shouldThrowExceptionWhenRateIsInvalid(final String rate) {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getString("rate")).thenReturn(Optional.of(rate));
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        assertThatIllegalStateException().isThrownBy(() -> factory.createInterceptor(params))
+                .withMessageContaining("FSAMPLE");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenSeedIsInvalid() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getString("rate")).thenReturn(Optional.of("0.1"));
+        when(settings.getString("seed")).thenReturn(Optional.of("abc"));
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        assertThatIllegalStateException().isThrownBy(() -> factory.createInterceptor(params));
+    }
+
+    @Test
+    void shouldProvideCorrectFeature() {
+        Feature feature = factory.provides();
+
+        assertThat(feature.name()).isEqualToIgnoringCase("FSAMPLE");
+        assertThat(feature.description()).contains("sample");
+        assertThat(feature.isOnByDefault()).isFalse();
+    }
+
+    @Test
+    void descriptionShouldReturnDescription() {
+        assertThat(factory.description()).contains("sample");
+    }
+}
@@ -0,0 +1,104 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SamplingFilterTest {
+    private static final String MATH_MUTATOR_FQCN = "org.pitest.mutationtest.engine.gregor.mutators.MathMutator";
+    private static final String INCREMENTS_MUTATOR_FQCN = "org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator";
+    private final Mutater mutater = mock(Mutater.class);
+
+    @Test
+    void shouldReturnCorrectType() {
+        assertThat(new SamplingFilter(0.5, 0).type()).isEqualTo(InterceptorType.FILTER);
+    }
+
+    @ParameterizedTest(name = "{index} => rate: {0}")
+    @ValueSource(doubles = {0, -0.1, 1.1, Double.NaN})
+    void shouldRejectInvalidRate(final double rate) {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SamplingFilter(rate, 0))
+                .withMessageContaining("sampling rate");
+    }
+
+    @Test
+    void shouldKeepAllMutationsWithRateOne() {
+        List<MutationDetails> mutations = createMutations(MATH_MUTATOR_FQCN, 10);
+
+        assertThat(new SamplingFilter(1, 0).intercept(mutations, mutater)).containsExactlyElementsOf(mutations);
+    }
+
+    @Test
+    void shouldKeepRoundedUpFractionOfEachMutator() {
+        List<MutationDetails> mutations = new ArrayList<>(createMutations(MATH_MUTATOR_FQCN, 100));
+        mutations.addAll(createMutations(INCREMENTS_MUTATOR_FQCN, 5));
+
+        Collection<MutationDetails> sample = new SamplingFilter(0.1, 42).intercept(mutations, mutater);
+
+        assertThat(sample).hasSize(11);
+        assertThat(sample).filteredOn(mutation -> mutation.getMutator().equals(MATH_MUTATOR_FQCN)).hasSize(10);
+        assertThat(sample).filteredOn(mutation -> mutation.getMutator().equals(INCREMENTS_MUTATOR_FQCN)).hasSize(1);
+    }
+
+    @Test
+    void shouldSelectSameSampleRegardlessOfOrder() {
+        List<MutationDetails> mutations = new ArrayList<>(createMutations(MATH_MUTATOR_FQCN, 50));
+        mutations.addAll(createMutations(INCREMENTS_MUTATOR_FQCN, 50));
+        List<MutationDetails> shuffled = new ArrayList<>(mutations);
+        Collections.shuffle(shuffled);
+
+        var filter = new SamplingFilter(0.2, 42);
+        Collection<MutationDetails> sample = filter.intercept(mutations, mutater);
+
+        assertThat(filter.intercept(shuffled, mutater)).containsExactlyInAnyOrderElementsOf(sample);
+        assertThat(new SamplingFilter(0.2, 42).intercept(createMutations(MATH_MUTATOR_FQCN, 50), mutater))
+                .containsExactlyElementsOf(sample.stream()
+                        .filter(mutation -> mutation.getMutator().equals(MATH_MUTATOR_FQCN)).toList());
+    }
+
+    @Test
+    void shouldSelectDifferentSampleForDifferentSeed() {
+        List<MutationDetails> mutations = createMutations(MATH_MUTATOR_FQCN, 100);
+
+        assertThat(new SamplingFilter(0.1, 1).intercept(mutations, mutater))
+                .isNotEqualTo(new SamplingFilter(0.1, 2).intercept(mutations, mutater));
+    }
+
+    @Test
+    void shouldKeepOrderOfMutations() {
+        List<MutationDetails> mutations = createMutations(MATH_MUTATOR_FQCN, 100);
+
+        Collection<MutationDetails> sample = new SamplingFilter(0.5, 7).intercept(mutations, mutater);
+
+        assertThat(sample).isSortedAccordingTo((first, second) -> Integer.compare(
+                mutations.indexOf(first), mutations.indexOf(second)));
+    }
+
+    @Test
+    void shouldReturnEmptyListForEmptyInput() {
+        assertThat(new SamplingFilter(0.1, 0).intercept(List.of(), mutater)).isEmpty();
+    }
+
+    private static List<MutationDetails> createMutations(final String mutator, final int count) {
+        return IntStream.range(0, count).mapToObj(index -> {
+            var id = new MutationIdentifier(Location.location(ClassName.fromString("com.example.Main"), "run", "()V"),
+                    index, mutator);
+            return new MutationDetails(id, "Main.java", "desc", index, 0);
+        }).toList();
+    }
+}
@@ -0,0 +1,275 @@
+package edu.hm.hafner.pitmute;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * A load harness for the filters {@code FANNOT} and {@code FCSV}. The harness generates synthetic classes with ASM,
+ * each with a configurable number of methods. A configurable share of the methods is annotated with
+ * {@link SuppressMutation} or {@link SuppressMutations}, and a configurable share of the classes is excluded by a CSV
+ * entry. Each method gets the same three mutations (math, increments, and primitive returns) that PIT's mutation
+ * source would create for the method body. The generated classes are then passed through both filters, just like
+ * PIT does for each class: {@code begin}, {@code intercept}, and {@code end}.
+ *
+ * <p>
+ * The harness measures the throughput (mutations per second), the peak heap usage, and the number of garbage
+ * collections. Since the generator knows which mutations should be suppressed, the harness also verifies the number of
+ * remaining mutations.
+ * </p>
+ */
+final class ScalingHarness {
+    static final String MATH_MUTATOR = "org.pitest.mutationtest.engine.gregor.mutators.MathMutator";
+    static final String INCREMENTS_MUTATOR = "org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator";
+    static final String PRIMITIVE_RETURNS_MUTATOR
+            = "org.pitest.mutationtest.engine.gregor.mutators.returns.PrimitiveReturnsMutator";
+
+    private static final String PACKAGE = "com/example/load/";
+    private static final String METHOD_DESC = "(II)I";
+    private static final String SUPPRESS_MUTATION_DESC = Type.getDescriptor(SuppressMutation.class);
+    private static final String SUPPRESS_MUTATIONS_DESC = Type.getDescriptor(SuppressMutations.class);
+    private static final String MUTATOR_NAME = "mutatorName";
+    private static final int LINES_PER_METHOD = 5;
+    private static final int MUTATIONS_PER_METHOD = 3;
+
+    private final Configuration configuration;
+    private final Map<String, byte[]> classFiles = new HashMap<>();
+    private final Map<String, List<MutationDetails>> mutationsByClass = new HashMap<>();
+    private final List<String> csvLines = new ArrayList<>();
+    private long expectedRemaining;
+
+    /**
+     * Generates the classes and mutations of the specified configuration.
+     *
+     * @param configuration the configuration
+     */
+    ScalingHarness(final Configuration configuration) {
+        this.configuration = configuration;
+
+        Random random = new Random(configuration.seed());
+        for (int i = 0; i < configuration.classes(); i++) {
+            generateClass(String.format(Locale.ENGLISH, "%sGenerated%05d", PACKAGE, i), random);
+        }
+    }
+
+    private void generateClass(final String internalName, final Random random) {
+        String className = ClassName.fromString(internalName).asJavaName();
+        boolean excludedByCsv = random.nextDouble() < configuration.csvDensity();
+        if (excludedByCsv) {
+            csvLines.add(className + ",Increments,,");
+        }
+
+        var writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(Opcodes.V21, Opcodes.ACC_PUBLIC, internalName, null, "java/lang/Object", null);
+        writer.visitSource(internalName.substring(PACKAGE.length()) + ".java", null);
+        List<MutationDetails> mutations = new ArrayList<>();
+        for (int method = 0; method < configuration.methods(); method++) {
+            int suppressed = generateMethod(writer, className, method, random, mutations);
+            expectedRemaining += MUTATIONS_PER_METHOD - suppressed - (excludedByCsv ? 1 : 0);
+        }
+        writer.visitEnd();
+
+        classFiles.put(className, writer.toByteArray());
+        mutationsByClass.put(className, mutations);
+    }
+
+    /**
+     * Generates a method {@code int methodN(int a, int b) { a + b; a++; return a; }}, each statement in a separate
+     * line, and the three mutations of this method.
+     *
+     * @return the number of mutations that are suppressed by the annotations of the method
+     */
+    private int generateMethod(final ClassWriter writer, final String className, final int index,
+            final Random random, final List<MutationDetails> mutations) {
+        String name = "method" + index;
+        MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, name, METHOD_DESC, null, null);
+
+        int suppressed = 0;
+        double kind = random.nextDouble();
+        if (kind < configuration.containerDensity()) {
+            AnnotationVisitor container = method.visitAnnotation(SUPPRESS_MUTATIONS_DESC, true);
+            AnnotationVisitor values = container.visitArray("value");
+            visitSuppressMutation(values.visitAnnotation(null, SUPPRESS_MUTATION_DESC), "Math");
+            visitSuppressMutation(values.visitAnnotation(null, SUPPRESS_MUTATION_DESC), "PrimitiveReturns");
+            values.visitEnd();
+            container.visitEnd();
+            suppressed = 2;
+        }
+        else if (kind < configuration.containerDensity() + configuration.annotationDensity()) {
+            visitSuppressMutation(method.visitAnnotation(SUPPRESS_MUTATION_DESC, true), "Math");
+            suppressed = 1;
+        }
+
+        int firstLine = 10 + index * LINES_PER_METHOD;
+        method.visitCode();
+        visitLine(method, firstLine);
+        method.visitVarInsn(Opcodes.ILOAD, 1);
+        method.visitVarInsn(Opcodes.ILOAD, 2);
+        method.visitInsn(Opcodes.IADD);
+        method.visitInsn(Opcodes.POP);
+        visitLine(method, firstLine + 1);
+        method.visitIincInsn(1, 1);
+        visitLine(method, firstLine + 2);
+        method.visitVarInsn(Opcodes.ILOAD, 1);
+        method.visitInsn(Opcodes.IRETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+
+        Location location = Location.location(ClassName.fromString(className), name, METHOD_DESC);
+        String fileName = className.substring(className.lastIndexOf('.') + 1) + ".java";
+        mutations.add(createMutation(location, 2, MATH_MUTATOR, fileName, firstLine));
+        mutations.add(createMutation(location, 5, INCREMENTS_MUTATOR, fileName, firstLine + 1));
+        mutations.add(createMutation(location, 8, PRIMITIVE_RETURNS_MUTATOR, fileName, firstLine + 2));
+
+        return suppressed;
+    }
+
+    private static void visitSuppressMutation(final AnnotationVisitor annotation, final String mutatorName) {
+        annotation.visit(MUTATOR_NAME, mutatorName);
+        annotation.visitEnd();
+    }
+
+    private static void visitLine(final MethodVisitor method, final int line) {
+        var label = new Label();
+        method.visitLabel(label);
+        method.visitLineNumber(line, label);
+    }
+
+    private static MutationDetails createMutation(final Location location, final int instruction,
+            final String mutator, final String fileName, final int line) {
+        return new MutationDetails(new MutationIdentifier(location, instruction, mutator), fileName,
+                "generated mutation", line, 0);
+    }
+
+    long getMutations() {
+        return (long) configuration.classes() * configuration.methods() * MUTATIONS_PER_METHOD;
+    }
+
+    long getExpectedRemaining() {
+        return expectedRemaining;
+    }
+
+    /**
+     * Passes all generated classes through both filters once to warm up the JIT compiler, and then a second time to
+     * measure the throughput, the peak heap usage, and the number of garbage collections.
+     *
+     * @param workingDirectory the directory to write the CSV file to
+     * @return the measurement of the second pass
+     * @throws IOException if the CSV file cannot be written
+     */
+    Measurement measure(final Path workingDirectory) throws IOException {
+        Path csvFile = workingDirectory.resolve("exclusions.csv");
+        Files.write(csvFile, csvLines, StandardCharsets.UTF_8);
+
+        filter(csvFile);
+
+        System.gc(); // NOPMD: the peak usage should not contain the garbage of the warm-up pass
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long collectionsBefore = getCollectionCount();
+        long start = System.nanoTime();
+
+        long remaining = filter(csvFile);
+
+        long elapsed = Math.max(1, System.nanoTime() - start);
+        long collections = getCollectionCount() - collectionsBefore;
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+
+        return new Measurement(getMutations(), remaining, getMutations() * 1_000_000_000.0 / elapsed,
+                peakHeap, collections, elapsed / 1_000_000);
+    }
+
+    private long filter(final Path csvFile) {
+        var csvFilter = new CsvExclusionFilter(new CsvExclusionFilterFactory()
+                .getCsvExclusionIndex(List.of(csvFile.toString()), false), Optional.empty());
+        var annotationFilter = new AnnotationExclusionFilter(
+                className -> Optional.ofNullable(classFiles.get(className)),
+                new ClassSuppressionCache(configuration.classes()));
+        Mutater mutater = mock(Mutater.class);
+
+        long remaining = 0;
+        for (Map.Entry<String, byte[]> classFile : classFiles.entrySet()) {
+            ClassTree classTree = ClassTree.fromBytes(classFile.getValue());
+            annotationFilter.begin(classTree);
+            csvFilter.begin(classTree);
+
+            Collection<MutationDetails> mutations = mutationsByClass.get(classFile.getKey());
+            remaining += csvFilter.intercept(annotationFilter.intercept(mutations, mutater), mutater).size();
+
+            csvFilter.end();
+            annotationFilter.end();
+        }
+        return remaining;
+    }
+
+    private static long getCollectionCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .filter(count -> count > 0)
+                .sum();
+    }
+
+    /**
+     * The size of the generated classes.
+     *
+     * @param classes the number of classes
+     * @param methods the number of methods per class
+     * @param annotationDensity the share of methods that are annotated with a single {@link SuppressMutation}
+     * @param containerDensity the share of methods that are annotated with a {@link SuppressMutations} container
+     * @param csvDensity the share of classes that are excluded by a CSV entry
+     * @param seed the seed of the random generator
+     */
+    record Configuration(int classes, int methods, double annotationDensity, double containerDensity,
+                         double csvDensity, long seed) {
+    }
+
+    /**
+     * The result of a measurement.
+     *
+     * @param mutations the number of mutations that have been filtered
+     * @param remaining the number of mutations that have not been suppressed
+     * @param mutationsPerSecond the throughput
+     * @param peakHeapBytes the peak usage of the heap
+     * @param gcCount the number of garbage collections
+     * @param elapsedMillis the duration of the measurement
+     */
+    record Measurement(long mutations, long remaining, double mutationsPerSecond, long peakHeapBytes, long gcCount,
+                       long elapsedMillis) {
+        @Override
+        public String toString() {
+            return String.format(Locale.ENGLISH,
+                    "%d mutations (%d remaining) in %d ms: %.0f mutations/s, peak heap %d MB, %d GCs",
+                    mutations, remaining, elapsedMillis, mutationsPerSecond, peakHeapBytes >> 20, gcCount);
+        }
+    }
+}
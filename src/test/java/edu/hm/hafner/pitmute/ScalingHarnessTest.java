@@ -0,0 +1,105 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import edu.hm.hafner.pitmute.ScalingHarness.Configuration;
+import edu.hm.hafner.pitmute.ScalingHarness.Measurement;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs the {@link ScalingHarness} with the configuration of the checked-in baseline. The regular build only checks that
+ * the expected mutations are suppressed. The test tagged with {@value #PERFORMANCE} additionally fails if the filters
+ * are slower or need more memory than the baseline allows. These limits depend on the machine, so the test is
+ * excluded from the regular build and runs only in the Maven profile {@code performance} ({@code mvn test
+ * -Pperformance}). The size of the generated classes can be changed with the system properties
+ * {@code pitmute.load.classes}, {@code pitmute.load.methods}, {@code pitmute.load.annotationDensity},
+ * {@code pitmute.load.containerDensity}, and {@code pitmute.load.csvDensity}. In that case, the result is only
+ * reported and not compared with the baseline.
+ */
+class ScalingHarnessTest {
+    private static final Logger LOGGER = Logger.getLogger(ScalingHarnessTest.class.getName());
+    private static final String BASELINE = "/load/baseline.properties";
+    private static final String PROPERTY_PREFIX = "pitmute.load.";
+    private static final String PERFORMANCE = "performance";
+
+    @Test
+    void shouldSuppressExpectedMutationsOfSmallConfiguration(@TempDir final Path directory) throws IOException {
+        var harness = new ScalingHarness(new Configuration(50, 10, 0.2, 0.1, 0.5, 1));
+
+        Measurement measurement = harness.measure(directory);
+
+        assertThat(measurement.mutations()).isEqualTo(50 * 10 * 3);
+        assertThat(measurement.remaining()).isEqualTo(harness.getExpectedRemaining())
+                .isLessThan(measurement.mutations());
+    }
+
+    @Test
+    void shouldSuppressExpectedMutationsOfBaselineConfiguration(@TempDir final Path directory) throws IOException {
+        var harness = new ScalingHarness(createConfiguration(readBaseline()));
+
+        Measurement measurement = harness.measure(directory);
+
+        assertThat(measurement.remaining()).isEqualTo(harness.getExpectedRemaining());
+    }
+
+    @Test
+    @Tag(PERFORMANCE)
+    void shouldNotRegressBeyondBaseline(@TempDir final Path directory) throws IOException {
+        Properties baseline = readBaseline();
+        Configuration configuration = createConfiguration(baseline);
+        var harness = new ScalingHarness(configuration);
+
+        Measurement measurement = harness.measure(directory);
+        LOGGER.info(() -> configuration + ": " + measurement);
+
+        assertThat(measurement.remaining()).isEqualTo(harness.getExpectedRemaining());
+        if (isOverridden()) {
+            return;
+        }
+        assertThat(measurement.mutationsPerSecond())
+                .as("Throughput (mutations per second)")
+                .isGreaterThanOrEqualTo(Double.parseDouble(baseline.getProperty("min.mutationsPerSecond")));
+        assertThat(measurement.peakHeapBytes() >> 20)
+                .as("Peak heap (MB)")
+                .isLessThanOrEqualTo(Long.parseLong(baseline.getProperty("max.peakHeapMegabytes")));
+        assertThat(measurement.gcCount())
+                .as("Number of garbage collections")
+                .isLessThanOrEqualTo(Long.parseLong(baseline.getProperty("max.gcCount")));
+    }
+
+    private static Configuration createConfiguration(final Properties baseline) {
+        return new Configuration(
+                getInt(baseline, "classes"), getInt(baseline, "methods"),
+                getDouble(baseline, "annotationDensity"), getDouble(baseline, "containerDensity"),
+                getDouble(baseline, "csvDensity"), Long.parseLong(baseline.getProperty("seed")));
+    }
+
+    private static Properties readBaseline() throws IOException {
+        var properties = new Properties();
+        try (InputStream input = ScalingHarnessTest.class.getResourceAsStream(BASELINE)) {
+            properties.load(input);
+        }
+        return properties;
+    }
+
+    private static int getInt(final Properties baseline, final String key) {
+        return Integer.parseInt(System.getProperty(PROPERTY_PREFIX + key, baseline.getProperty(key)));
+    }
+
+    private static double getDouble(final Properties baseline, final String key) {
+        return Double.parseDouble(System.getProperty(PROPERTY_PREFIX + key, baseline.getProperty(key)));
+    }
+
+    private static boolean isOverridden() {
+        return System.getProperties().stringPropertyNames().stream().anyMatch(key -> key.startsWith(PROPERTY_PREFIX));
+    }
+}
@@ -0,0 +1,75 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ShardingFilterFactoryTest {
+    private final ShardingFilterFactory factory = new ShardingFilterFactory();
+
+    @Test
+    void shouldCreateShardingFilter() {
+        InterceptorParameters params = createParameters("2", "8");
+
+        assertThat(factory.createInterceptor(params)).isExactlyInstanceOf(ShardingFilter.class);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenParametersAreMissing() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+
+        assertThatIllegalStateException().isThrownBy(() -> factory.createInterceptor(params))
+                .withMessageContaining("\"index\"");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenTotalIsMissing() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getString("index")).thenReturn(Optional.of("1"));
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        assertThatIllegalStateException().isThrownBy(() -> factory.createInterceptor(params))
+                .withMessageContaining("\"total\"");
+    }
+
+    @ParameterizedTest(name = "{index} => index: {0}, total: {1}")
+    @CsvSource({"one,8", "1,eight", "8,8", "0,0"})
+    void shouldThrowExceptionWhenParametersAreInvalid(final String index, final String total) {
+        InterceptorParameters params = createParameters(index, total);
+
+        assertThatIllegalStateException().isThrownBy(() -> factory.createInterceptor(params))
+                .withMessageContaining("FSHARD");
+    }
+
+    @Test
+    void shouldProvideCorrectFeature() {
+        Feature feature = factory.provides();
+
+        assertThat(feature.name()).isEqualToIgnoringCase("FSHARD");
+        assertThat(feature.description()).contains("shard");
+        assertThat(feature.isOnByDefault()).isFalse();
+    }
+
+    @Test
+    void descriptionShouldReturnDescription() {
+        assertThat(factory.description()).contains("shard");
+    }
+
+    private static InterceptorParameters createParameters(final String index, final String total) {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getString("index")).thenReturn(Optional.of(index));
+        when(settings.getString("total")).thenReturn(Optional.of(total));
+        when(params.settings()).thenReturn(Optional.of(settings));
+        return params;
+    }
+}
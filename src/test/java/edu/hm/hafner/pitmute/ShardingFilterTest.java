@@ -0,0 +1,109 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ShardingFilterTest {
+    private static final String MATH_MUTATOR_FQCN = "org.pitest.mutationtest.engine.gregor.mutators.MathMutator";
+    private static final int SHARDS = 8;
+    private final Mutater mutater = mock(Mutater.class);
+
+    @Test
+    void shouldReturnCorrectType() {
+        assertThat(new ShardingFilter(0, 2).type()).isEqualTo(InterceptorType.FILTER);
+    }
+
+    @ParameterizedTest(name = "{index} => index: {0}, total: {1}")
+    @CsvSource({"0,0", "-1,2", "2,2", "0,-1"})
+    void shouldRejectInvalidShard(final int index, final int total) {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ShardingFilter(index, total))
+                .withMessageContaining("shard");
+    }
+
+    @Test
+    void shouldKeepAllMutationsWithSingleShard() {
+        List<MutationDetails> mutations = createMutations("com.example.Main", 10);
+
+        assertThat(new ShardingFilter(0, 1).intercept(mutations, mutater)).containsExactlyElementsOf(mutations);
+    }
+
+    @Test
+    void shouldAssignEachMutationToExactlyOneShard() {
+        List<MutationDetails> mutations = new ArrayList<>(createMutations("com.example.Main", 100));
+        mutations.addAll(createMutations("com.example.Other", 37));
+
+        List<MutationDetails> all = new ArrayList<>();
+        for (int shard = 0; shard < SHARDS; shard++) {
+            all.addAll(new ShardingFilter(shard, SHARDS).intercept(mutations, mutater));
+        }
+
+        assertThat(all).containsExactlyInAnyOrderElementsOf(mutations);
+    }
+
+    @Test
+    void shouldBalanceMutationsOfEachClass() {
+        for (int shard = 0; shard < SHARDS; shard++) {
+            assertThat(new ShardingFilter(shard, SHARDS).intercept(createMutations("com.example.Main", 100), mutater))
+                    .hasSizeBetween(12, 13);
+            assertThat(new ShardingFilter(shard, SHARDS).intercept(createMutations("com.example.Tiny", 3), mutater))
+                    .hasSizeLessThanOrEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldSpreadRemaindersOfClassesAcrossShards() {
+        int[] sizes = new int[SHARDS];
+        for (int type = 0; type < 200; type++) {
+            List<MutationDetails> mutations = createMutations("com.example.Class" + type, 1);
+            for (int shard = 0; shard < SHARDS; shard++) {
+                sizes[shard] += new ShardingFilter(shard, SHARDS).intercept(mutations, mutater).size();
+            }
+        }
+
+        assertThat(IntStream.of(sizes).sum()).isEqualTo(200);
+        assertThat(IntStream.of(sizes).boxed().toList()).allSatisfy(size -> assertThat(size).isBetween(10, 45));
+    }
+
+    @Test
+    void shouldSelectSameShardRegardlessOfOrder() {
+        List<MutationDetails> mutations = createMutations("com.example.Main", 50);
+        List<MutationDetails> shuffled = new ArrayList<>(mutations);
+        Collections.shuffle(shuffled);
+
+        var filter = new ShardingFilter(3, SHARDS);
+        Collection<MutationDetails> shard = filter.intercept(mutations, mutater);
+
+        assertThat(filter.intercept(shuffled, mutater)).containsExactlyInAnyOrderElementsOf(shard);
+        assertThat(shard).isSortedAccordingTo((first, second) -> Integer.compare(
+                mutations.indexOf(first), mutations.indexOf(second)));
+    }
+
+    @Test
+    void shouldReturnEmptyListForEmptyInput() {
+        assertThat(new ShardingFilter(0, 2).intercept(List.of(), mutater)).isEmpty();
+    }
+
+    private static List<MutationDetails> createMutations(final String className, final int count) {
+        return IntStream.range(0, count).mapToObj(index -> {
+            var id = new MutationIdentifier(Location.location(ClassName.fromString(className), "run", "()V"),
+                    index, MATH_MUTATOR_FQCN);
+            return new MutationDetails(id, "Main.java", "desc", index, 0);
+        }).toList();
+    }
+}
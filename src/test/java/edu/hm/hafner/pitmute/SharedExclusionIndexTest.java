@@ -0,0 +1,166 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SharedExclusionIndexTest {
+    private static final CsvExclusionEntry MAIN = new CsvExclusionEntry("com.example.Main", Optional.of("Math"),
+            Optional.of(5), Optional.of(10), "exclusions.csv:1");
+    private static final CsvExclusionEntry INNER = new CsvExclusionEntry("com.example.Main$Inner", Optional.empty(),
+            Optional.empty(), Optional.empty(), "exclusions.csv:2");
+    private static final CsvExclusionEntry OTHER = new CsvExclusionEntry("org.other.Other", Optional.empty(),
+            Optional.empty(), Optional.empty(), "exclusions.csv:3");
+    private static final CsvExclusionEntry SIMPLE_NAME = new CsvExclusionEntry("Main", Optional.empty(),
+            Optional.empty(), Optional.empty(), "exclusions.csv:4");
+    private static final CsvExclusionEntry FILE_NAME = new CsvExclusionEntry("Other.java", Optional.of("Increments"),
+            Optional.empty(), Optional.empty(), "exclusions.csv:5");
+
+    @Test
+    void shouldFindEntriesOfPackagePartitionsAndGlobalPartition(@TempDir final Path root) throws IOException {
+        SharedExclusionIndex index = SharedExclusionIndex.open(root, List.of(createCsvFile(root)),
+                () -> new ExclusionRuleStore(List.of(MAIN, INNER, OTHER, SIMPLE_NAME, FILE_NAME)));
+
+        assertThat(index.isEmpty()).isFalse();
+        assertThat(index.findEntries("com.example.Main")).containsExactlyInAnyOrder(MAIN, SIMPLE_NAME);
+        assertThat(index.findEntries("com.example.Main$Inner")).containsExactly(INNER);
+        assertThat(index.findEntries("org.other.Other")).containsExactlyInAnyOrder(OTHER, FILE_NAME);
+        assertThat(index.findEntries("net.unknown.Main")).containsExactly(SIMPLE_NAME);
+        assertThat(index.findEntries("Main")).containsExactly(SIMPLE_NAME);
+        assertThat(index.findEntries("com.example.Unknown")).isEmpty();
+    }
+
+    @Test
+    void shouldStoreSourceFilesOfOtherLanguagesInGlobalPartition(@TempDir final Path root) throws IOException {
+        var kotlinFile = new CsvExclusionEntry("Other.kt", Optional.empty(), Optional.empty(), Optional.empty(),
+                "exclusions.csv:6");
+        SharedExclusionIndex index = SharedExclusionIndex.open(root, List.of(createCsvFile(root)),
+                () -> new ExclusionRuleStore(List.of(OTHER, kotlinFile)));
+
+        assertThat(index.findRules("org.other.Other", "Other.kt").toEntries())
+                .containsExactlyInAnyOrder(OTHER, kotlinFile);
+        assertThat(index.findRules("com.example.Other", "Other.kt").toEntries()).containsExactly(kotlinFile);
+    }
+
+    @Test
+    void shouldDeleteTemporaryDirectoriesOfAbortedBuilds(@TempDir final Path root) throws IOException {
+        Path stale = Files.createDirectories(root.resolve("index-0123456789abcdef.tmp4711"));
+        Files.writeString(stale.resolve("com.example.csv"), "com.example.Main,,,,\n");
+
+        SharedExclusionIndex index = SharedExclusionIndex.open(root, List.of(createCsvFile(root)),
+                () -> new ExclusionRuleStore(List.of(MAIN)));
+
+        assertThat(index.findEntries("com.example.Main")).containsExactly(MAIN);
+        assertThat(stale).doesNotExist();
+    }
+
+    @Test
+    void shouldCreateIndexOnlyOnce(@TempDir final Path root) throws IOException {
+        List<Path> files = List.of(createCsvFile(root));
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<ExclusionRuleStore> entries = () -> {
+            calls.incrementAndGet();
+            return new ExclusionRuleStore(List.of(MAIN));
+        };
+
+        SharedExclusionIndex.open(root, files, entries);
+        SharedExclusionIndex index = SharedExclusionIndex.open(root, files, entries);
+
+        assertThat(calls).hasValue(1);
+        assertThat(index.findEntries("com.example.Main")).containsExactly(MAIN);
+        try (Stream<Path> content = Files.list(root)) {
+            assertThat(content.map(path -> path.getFileName().toString()))
+                    .noneMatch(name -> name.contains(".tmp"))
+                    .anyMatch(name -> name.startsWith("index-"));
+        }
+    }
+
+    @Test
+    void shouldCreateNewIndexWhenFileChanges(@TempDir final Path root) throws IOException {
+        Path file = createCsvFile(root);
+        SharedExclusionIndex.open(root, List.of(file), () -> new ExclusionRuleStore(List.of(MAIN)));
+
+        Files.writeString(file, "com.example.Main,,,\norg.other.Other,,,\n");
+        SharedExclusionIndex index = SharedExclusionIndex.open(root, List.of(file),
+                () -> new ExclusionRuleStore(List.of(MAIN, OTHER)));
+
+        assertThat(index.findEntries("org.other.Other")).containsExactly(OTHER);
+        assertThat(listIndexes(root)).hasSize(1);
+    }
+
+    @Test
+    void shouldKeepIndexesOfOtherFiles(@TempDir final Path root) throws IOException {
+        Path file = createCsvFile(root);
+        Path otherFile = Files.writeString(root.resolve("other.csv"), "org.other.Other,,,\n");
+        SharedExclusionIndex.open(root, List.of(file), () -> new ExclusionRuleStore(List.of(MAIN)));
+
+        SharedExclusionIndex other = SharedExclusionIndex.open(root, List.of(otherFile),
+                () -> new ExclusionRuleStore(List.of(OTHER)));
+
+        assertThat(other.findEntries("org.other.Other")).containsExactly(OTHER);
+        assertThat(listIndexes(root)).hasSize(2);
+    }
+
+    @Test
+    void shouldCreateIndexOnceWhenOpenedConcurrently(@TempDir final Path root) throws IOException, ExecutionException,
+            InterruptedException {
+        List<Path> files = List.of(createCsvFile(root));
+        AtomicInteger calls = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<SharedExclusionIndex>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> SharedExclusionIndex.open(root, files, () -> {
+                    calls.incrementAndGet();
+                    return new ExclusionRuleStore(List.of(MAIN, OTHER));
+                })));
+            }
+            for (Future<SharedExclusionIndex> result : results) {
+                assertThat(result.get().findEntries("com.example.Main")).containsExactly(MAIN);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void shouldHandleEmptyIndex(@TempDir final Path root) throws IOException {
+        SharedExclusionIndex index = SharedExclusionIndex.open(root, List.of(createCsvFile(root)),
+                () -> new ExclusionRuleStore(List.of()));
+
+        assertThat(index.isEmpty()).isTrue();
+        assertThat(index.findEntries("com.example.Main")).isEmpty();
+    }
+
+    private static List<String> listIndexes(final Path root) throws IOException {
+        try (Stream<Path> content = Files.list(root)) {
+            return content.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith("index-"))
+                    .toList();
+        }
+    }
+
+    private static Path createCsvFile(final Path root) throws IOException {
+        Path file = root.resolve("exclusions.csv");
+        Files.writeString(file, "com.example.Main,Math,5,10\n");
+        return file;
+    }
+}
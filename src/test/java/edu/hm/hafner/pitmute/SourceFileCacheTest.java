@@ -0,0 +1,52 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.objectweb.asm.tree.ClassNode;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassName;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SourceFileCacheTest {
+    @ParameterizedTest(name = "{index} => class: {0}, source file: {1}")
+    @CsvSource({
+            "com.example.Main, Main.java",
+            "com.example.Main$Inner, Main.java",
+            "com.example.Main$1, Main.java",
+            "com.example.Main$Inner$Deeper, Main.java",
+            "Main, Main.java"
+    })
+    void shouldDeriveSourceFileFromClassName(final String fqcn, final String sourceFile) {
+        assertThat(SourceFileCache.getDefaultSourceFile(fqcn)).isEqualTo(sourceFile);
+    }
+
+    @Test
+    void shouldUseSourceFileAttribute() {
+        var cache = new SourceFileCache();
+
+        cache.put(createClassTree("com.example.Helper", "Main.java"));
+
+        assertThat(cache.get("com.example.Helper")).isEqualTo("Main.java");
+        assertThat(cache.get("com.example.Other")).isEqualTo("Other.java");
+        assertThat(cache.size()).isOne();
+    }
+
+    @Test
+    void shouldIgnoreClassesWithoutSourceFileAttribute() {
+        var cache = new SourceFileCache();
+
+        cache.put(createClassTree("com.example.Helper", null));
+
+        assertThat(cache.get("com.example.Helper")).isEqualTo("Helper.java");
+        assertThat(cache.size()).isZero();
+    }
+
+    static ClassTree createClassTree(final String fqcn, final String sourceFile) {
+        var classNode = new ClassNode();
+        classNode.name = ClassName.fromString(fqcn).asInternalName();
+        classNode.sourceFile = sourceFile;
+        return new ClassTree(classNode);
+    }
+}
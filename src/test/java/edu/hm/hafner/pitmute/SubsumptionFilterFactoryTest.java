@@ -0,0 +1,58 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SubsumptionFilterFactoryTest {
+    private final SubsumptionFilterFactory factory = new SubsumptionFilterFactory();
+
+    @Test
+    void shouldCreateFilterWithDefaultRules() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+
+        assertThat(factory.createInterceptor(params)).isExactlyInstanceOf(SubsumptionFilter.class);
+    }
+
+    @Test
+    void shouldCreateFilterWithConfiguredRules() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getList("rule")).thenReturn(List.of("NEGATE_CONDITIONALS>CONDITIONALS_BOUNDARY", " "));
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        assertThat(factory.createInterceptor(params)).isExactlyInstanceOf(SubsumptionFilter.class);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenRuleIsInvalid() {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getList("rule")).thenReturn(List.of("NEGATE_CONDITIONALS"));
+        when(params.settings()).thenReturn(Optional.of(settings));
+
+        assertThatIllegalStateException().isThrownBy(() -> factory.createInterceptor(params))
+                .withMessageContaining("NEGATE_CONDITIONALS");
+    }
+
+    @Test
+    void shouldProvideCorrectFeature() {
+        Feature feature = factory.provides();
+
+        assertThat(feature.name()).isEqualToIgnoringCase("FSUBSUME");
+        assertThat(feature.description()).contains("redundant");
+        assertThat(feature.isOnByDefault()).isFalse();
+    }
+
+    @Test
+    void descriptionShouldReturnDescription() {
+        assertThat(factory.description()).contains("redundant");
+    }
+}
@@ -0,0 +1,99 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SubsumptionFilterTest {
+    private final Mutater mutater = mock(Mutater.class);
+    private final SubsumptionFilter filter = new SubsumptionFilter();
+
+    @Test
+    void shouldReturnCorrectType() {
+        assertThat(filter.type()).isEqualTo(InterceptorType.FILTER);
+    }
+
+    @Test
+    void shouldRemoveNegatedConditionalWhenBothRemovedConditionalsExist() {
+        var negate = createMutation("run", 5, PitMutator.NEGATE_CONDITIONALS);
+        var removeIf = createMutation("run", 5, PitMutator.REMOVE_CONDITIONALS_EQUAL_IF);
+        var removeElse = createMutation("run", 5, PitMutator.REMOVE_CONDITIONALS_EQUAL_ELSE);
+        var boundary = createMutation("run", 5, PitMutator.CONDITIONALS_BOUNDARY);
+
+        assertThat(filter.intercept(List.of(negate, removeIf, boundary, removeElse), mutater))
+                .containsExactly(removeIf, boundary, removeElse);
+    }
+
+    @Test
+    void shouldKeepNegatedConditionalWhenOnlyOneRemovedConditionalExists() {
+        var negate = createMutation("run", 5, PitMutator.NEGATE_CONDITIONALS);
+        var removeIf = createMutation("run", 5, PitMutator.REMOVE_CONDITIONALS_ORDER_IF);
+        var removeElse = createMutation("run", 5, PitMutator.REMOVE_CONDITIONALS_EQUAL_ELSE);
+
+        assertThat(filter.intercept(List.of(negate, removeIf, removeElse), mutater))
+                .containsExactly(negate, removeIf, removeElse);
+    }
+
+    @Test
+    void shouldOnlyCompareMutationsOfSameInstruction() {
+        var negate = createMutation("run", 5, PitMutator.NEGATE_CONDITIONALS);
+        var removeIf = createMutation("run", 5, PitMutator.REMOVE_CONDITIONALS_ORDER_IF);
+        var removeElseOtherInstruction = createMutation("run", 7, PitMutator.REMOVE_CONDITIONALS_ORDER_ELSE);
+        var removeElseOtherMethod = createMutation("stop", 5, PitMutator.REMOVE_CONDITIONALS_ORDER_ELSE);
+
+        assertThat(filter.intercept(List.of(negate, removeIf, removeElseOtherInstruction, removeElseOtherMethod), mutater))
+                .containsExactly(negate, removeIf, removeElseOtherInstruction, removeElseOtherMethod);
+    }
+
+    @Test
+    void shouldApplyConfiguredRules() {
+        var configuredFilter = new SubsumptionFilter(List.of(SubsumptionRule.parse("NEGATE_CONDITIONALS>CONDITIONALS_BOUNDARY")));
+        var negate = createMutation("run", 5, PitMutator.NEGATE_CONDITIONALS);
+        var boundary = createMutation("run", 5, PitMutator.CONDITIONALS_BOUNDARY);
+        var removeIf = createMutation("run", 5, PitMutator.REMOVE_CONDITIONALS_ORDER_IF);
+        var removeElse = createMutation("run", 5, PitMutator.REMOVE_CONDITIONALS_ORDER_ELSE);
+
+        assertThat(configuredFilter.intercept(List.of(negate, boundary, removeIf, removeElse), mutater))
+                .containsExactly(negate, removeIf, removeElse);
+    }
+
+    @Test
+    void shouldApplyRulesOfMutatorFamilyToItsMembers() {
+        var configuredFilter = new SubsumptionFilter(
+                List.of(SubsumptionRule.parse("EXPERIMENTAL_SWITCH>EXPERIMENTAL_REMOVE_SWITCH")));
+        var sw = createMutation("run", 5, PitMutator.EXPERIMENTAL_SWITCH);
+        var removeCase = createMutation("run", 5,
+                "org.pitest.mutationtest.engine.gregor.mutators.experimental.RemoveSwitchMutator_12");
+        var removeOtherCase = createMutation("run", 7, PitMutator.EXPERIMENTAL_REMOVE_SWITCH_MUTATOR_3);
+
+        assertThat(configuredFilter.intercept(List.of(sw, removeCase, removeOtherCase), mutater))
+                .containsExactly(sw, removeOtherCase);
+    }
+
+    @Test
+    void shouldKeepMutationsOfUnknownMutators() {
+        var custom = createMutation("run", 5, "com.example.CustomMutator");
+        var negate = createMutation("run", 5, PitMutator.NEGATE_CONDITIONALS.getFqcn());
+
+        assertThat(filter.intercept(List.of(custom, negate), mutater)).containsExactly(custom, negate);
+    }
+
+    private static MutationDetails createMutation(final String method, final int index, final PitMutator mutator) {
+        return createMutation(method, index, mutator.getFqcn());
+    }
+
+    private static MutationDetails createMutation(final String method, final int index, final String mutator) {
+        var id = new MutationIdentifier(Location.location(ClassName.fromString("com.example.Main"), method, "()V"),
+                index, mutator);
+        return new MutationDetails(id, "Main.java", "desc", 10, 0);
+    }
+}
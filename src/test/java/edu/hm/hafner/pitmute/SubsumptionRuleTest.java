@@ -0,0 +1,40 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SubsumptionRuleTest {
+    @Test
+    void shouldParseRule() {
+        SubsumptionRule rule = SubsumptionRule.parse(" remove_conditionals_equal_if + REMOVE_CONDITIONALS_EQUAL_ELSE > NEGATE_CONDITIONALS");
+
+        assertThat(rule.dominators()).containsExactlyInAnyOrder(
+                PitMutator.REMOVE_CONDITIONALS_EQUAL_IF, PitMutator.REMOVE_CONDITIONALS_EQUAL_ELSE);
+        assertThat(rule.redundant()).isEqualTo(PitMutator.NEGATE_CONDITIONALS);
+    }
+
+    @Test
+    void shouldParseRuleWithSingleDominator() {
+        SubsumptionRule rule = SubsumptionRule.parse("NEGATE_CONDITIONALS>CONDITIONALS_BOUNDARY");
+
+        assertThat(rule.dominators()).containsExactly(PitMutator.NEGATE_CONDITIONALS);
+        assertThat(rule.redundant()).isEqualTo(PitMutator.CONDITIONALS_BOUNDARY);
+    }
+
+    @ParameterizedTest(name = "{index} => rule: {0}")
+    @ValueSource(strings = {"MATH", "MATH>", ">MATH", "MATH>INCREMENTS>INLINE_CONSTS", "MATH+>INCREMENTS",
+            "UNKNOWN>MATH", "MATH>MATH", "NONE>MATH", "MATH>NONE"})
+    void shouldRejectInvalidRules(final String rule) {
+        assertThatIllegalArgumentException().isThrownBy(() -> SubsumptionRule.parse(rule));
+    }
+
+    @Test
+    void shouldRejectEmptyDominators() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SubsumptionRule(Set.of(), PitMutator.MATH));
+    }
+}
@@ -0,0 +1,22 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SuppressionRuleTest {
+    @Test
+    @SuppressWarnings("deprecation")
+    void shouldCreateRuleForSingleLine() {
+        var rule = new SuppressionRule("com.example.Main", Optional.of("run"), PitMutator.MATH, Optional.empty(),
+                Optional.of(42));
+
+        assertThat(rule.startLine()).contains(42);
+        assertThat(rule.endLine()).contains(42);
+        assertThat(rule.line()).contains(42);
+        assertThat(rule).isEqualTo(new SuppressionRule("com.example.Main", Optional.of("run"), PitMutator.MATH,
+                Optional.empty(), Optional.of(42), Optional.of(42)));
+    }
+}
@@ -0,0 +1,114 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassByteArraySource;
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureSetting;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import static edu.hm.hafner.pitmute.TimeoutHistoryTest.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TimeoutHistoryFilterFactoryTest {
+    private static final String MAIN = "com.example.Main";
+    private static final String INCREMENTS = "org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator";
+    private final TimeoutHistoryFilterFactory factory = new TimeoutHistoryFilterFactory(mock(Logger.class));
+
+    @Test
+    void shouldCreateFilterWithoutHistory(@TempDir final Path directory) {
+        InterceptorParameters params = createParameters(directory.resolve("timeouts.csv"), null, null, null);
+
+        assertThat(factory.createInterceptor(params)).isExactlyInstanceOf(TimeoutHistoryFilter.class);
+        assertThat(directory.resolve("timeouts.csv")).doesNotExist();
+    }
+
+    @Test
+    void shouldUpdateHistoryOnlyOncePerReport(@TempDir final Path directory) throws IOException {
+        Path history = directory.resolve("timeouts.csv");
+        MutationDetails loop = createMutation(MAIN, "loop", INCREMENTS);
+        Path report = writeReport(directory, 1, mutation(loop, "TIMED_OUT"));
+
+        factory.createInterceptor(createParameters(history, report, "1", null));
+        assertThat(TimeoutHistory.read(history).getStreak(loop)).isZero();
+
+        writeReport(directory, 2, mutation(loop, "TIMED_OUT"));
+        factory.createInterceptor(createParameters(history, report, "1", null));
+        factory.createInterceptor(createParameters(history, report, "1", null));
+        assertThat(TimeoutHistory.read(history).getStreak(loop)).isOne();
+
+        writeReport(directory, 3, mutation(loop, "TIMED_OUT"));
+        var filter = factory.createInterceptor(createParameters(history, report, "2", null));
+        assertThat(TimeoutHistory.read(history).getStreak(loop)).isEqualTo(2);
+
+        filter.begin(createClassTree());
+        assertThat(filter.intercept(List.of(loop), mock(Mutater.class))).isEmpty();
+        filter.end();
+    }
+
+    @Test
+    void shouldIgnoreMissingReport(@TempDir final Path directory) {
+        Path history = directory.resolve("timeouts.csv");
+
+        assertThat(factory.createInterceptor(createParameters(history, directory.resolve("missing.xml"), null, "only")))
+                .isExactlyInstanceOf(TimeoutHistoryFilter.class);
+        assertThat(history).doesNotExist();
+    }
+
+    @ParameterizedTest(name = "{index} => runs: {0}, mode: {1}")
+    @CsvSource({"three,suppress", "0,suppress", "3,ignore"})
+    void shouldThrowExceptionWhenParametersAreInvalid(final String runs, final String mode,
+            @TempDir final Path directory) {
+        InterceptorParameters params = createParameters(directory.resolve("timeouts.csv"), null, runs, mode);
+
+        assertThatIllegalStateException().isThrownBy(() -> factory.createInterceptor(params))
+                .withMessageContaining("FTIMEOUT");
+    }
+
+    @Test
+    void shouldProvideCorrectFeature() {
+        Feature feature = factory.provides();
+
+        assertThat(feature.name()).isEqualToIgnoringCase("FTIMEOUT");
+        assertThat(feature.description()).contains("timed out");
+        assertThat(feature.isOnByDefault()).isFalse();
+    }
+
+    @Test
+    void descriptionShouldReturnDescription() {
+        assertThat(factory.description()).contains("timed out");
+    }
+
+    private static InterceptorParameters createParameters(final Path history, final Path report, final String runs,
+            final String mode) {
+        InterceptorParameters params = mock(InterceptorParameters.class);
+        FeatureSetting settings = mock(FeatureSetting.class);
+        when(settings.getString("history")).thenReturn(Optional.of(history.toString()));
+        when(settings.getString("report")).thenReturn(Optional.ofNullable(report).map(Path::toString));
+        when(settings.getString("runs")).thenReturn(Optional.ofNullable(runs));
+        when(settings.getString("mode")).thenReturn(Optional.ofNullable(mode));
+        when(params.settings()).thenReturn(Optional.of(settings));
+        ClassByteArraySource source = className -> Optional.of(new byte[] {1, 2, 3});
+        when(params.source()).thenReturn(source);
+        return params;
+    }
+
+    private static ClassTree createClassTree() {
+        ClassTree classTree = mock(ClassTree.class);
+        when(classTree.name()).thenReturn(ClassName.fromString(MAIN));
+        return classTree;
+    }
+}
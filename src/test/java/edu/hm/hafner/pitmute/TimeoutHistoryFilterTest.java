@@ -0,0 +1,101 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassByteArraySource;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import edu.hm.hafner.pitmute.TimeoutHistory.ChronicTimeouts;
+import edu.hm.hafner.pitmute.TimeoutHistoryFilter.Mode;
+
+import static edu.hm.hafner.pitmute.TimeoutHistoryTest.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TimeoutHistoryFilterTest {
+    private static final String MAIN = "com.example.Main";
+    private static final String INCREMENTS = "org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator";
+    private static final String MATH = "org.pitest.mutationtest.engine.gregor.mutators.MathMutator";
+    private static final byte[] CLASS_FILE = {1, 2, 3};
+
+    private final Mutater mutater = mock(Mutater.class);
+    private final MutationDetails timeout = createMutation(MAIN, "loop", INCREMENTS);
+    private final MutationDetails other = createMutation(MAIN, "loop", MATH);
+
+    @Test
+    void shouldReturnCorrectType(@TempDir final Path directory) throws IOException {
+        assertThat(createFilter(directory, Mode.SUPPRESS).type()).isEqualTo(InterceptorType.FILTER);
+    }
+
+    @Test
+    void shouldSuppressChronicTimeouts(@TempDir final Path directory) throws IOException {
+        TimeoutHistoryFilter filter = createFilter(directory, Mode.SUPPRESS);
+
+        filter.begin(createClassTree(MAIN));
+        assertThat(filter.intercept(List.of(timeout, other), mutater)).containsExactly(other);
+        filter.end();
+    }
+
+    @Test
+    void shouldKeepOnlyChronicTimeouts(@TempDir final Path directory) throws IOException {
+        TimeoutHistoryFilter filter = createFilter(directory, Mode.ONLY);
+
+        filter.begin(createClassTree(MAIN));
+        assertThat(filter.intercept(List.of(timeout, other), mutater)).containsExactly(timeout);
+        filter.end();
+
+        MutationDetails otherClass = createMutation("com.example.Other", "run", INCREMENTS);
+        filter.begin(createClassTree("com.example.Other"));
+        assertThat(filter.intercept(List.of(otherClass), mutater)).isEmpty();
+        filter.end();
+    }
+
+    @Test
+    void shouldIgnoreTimeoutsOfChangedClass(@TempDir final Path directory) throws IOException {
+        ChronicTimeouts timeouts = createTimeouts(directory);
+        ClassByteArraySource changedSource = className -> Optional.of(new byte[] {4, 5, 6});
+        TimeoutHistoryFilter filter = new TimeoutHistoryFilter(timeouts, changedSource, Mode.SUPPRESS);
+
+        filter.begin(createClassTree(MAIN));
+        assertThat(filter.intercept(List.of(timeout, other), mutater)).containsExactly(timeout, other);
+        filter.end();
+    }
+
+    @Test
+    void shouldKeepAllMutationsWithoutBegin(@TempDir final Path directory) throws IOException {
+        TimeoutHistoryFilter filter = createFilter(directory, Mode.SUPPRESS);
+
+        assertThat(filter.intercept(List.of(timeout, other), mutater)).containsExactly(timeout, other);
+    }
+
+    private TimeoutHistoryFilter createFilter(final Path directory, final Mode mode) throws IOException {
+        return new TimeoutHistoryFilter(createTimeouts(directory), className -> Optional.of(CLASS_FILE),
+                mode);
+    }
+
+    private ChronicTimeouts createTimeouts(final Path directory) throws IOException {
+        OptionalLong classHash = OptionalLong.of(TimeoutHistory.getClassHash(CLASS_FILE));
+        TimeoutHistory history = new TimeoutHistory();
+        for (int run = 0; run <= 2; run++) { // the first report just records the mutated class file
+            history = history.update(writeReport(directory, run,
+                    mutation(timeout, "TIMED_OUT"), mutation(other, "KILLED")), className -> classHash);
+        }
+        return history.getChronicTimeouts(2);
+    }
+
+    private static ClassTree createClassTree(final String className) {
+        ClassTree classTree = mock(ClassTree.class);
+        when(classTree.name()).thenReturn(ClassName.fromString(className));
+        return classTree;
+    }
+}
@@ -0,0 +1,185 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TimeoutHistoryTest {
+    private static final String MAIN = "com.example.Main";
+    private static final String OTHER = "com.example.Other";
+    private static final String INCREMENTS = "org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator";
+    private static final String CONDITIONALS = "org.pitest.mutationtest.engine.gregor.mutators.NegateConditionalsMutator";
+    private static final long MAIN_HASH = 1L;
+    private static final long OTHER_HASH = 2L;
+
+    private final Map<String, Long> classHashes = new HashMap<>(Map.of(MAIN, MAIN_HASH, OTHER, OTHER_HASH));
+    private final Function<String, OptionalLong> hashes = className -> classHashes.containsKey(className)
+            ? OptionalLong.of(classHashes.get(className)) : OptionalLong.empty();
+
+    @Test
+    void shouldCountConsecutiveTimeouts(@TempDir final Path directory) throws IOException {
+        MutationDetails loop = createMutation(MAIN, "loop", INCREMENTS);
+        MutationDetails condition = createMutation(MAIN, "loop", CONDITIONALS);
+
+        TimeoutHistory history = createHistory(directory);
+        for (int run = 1; run <= 3; run++) {
+            history = history.update(writeReport(directory, run,
+                    mutation(loop, "TIMED_OUT"), mutation(condition, run == 2 ? "KILLED" : "TIMED_OUT")), hashes);
+        }
+
+        assertThat(history.getStreak(loop)).isEqualTo(3);
+        assertThat(history.getStreak(condition)).isEqualTo(1);
+        assertThat(history.getChronicTimeouts(3).find(MAIN)).hasValueSatisfying(timeouts -> {
+            assertThat(timeouts.contains(loop)).isTrue();
+            assertThat(timeouts.contains(condition)).isFalse();
+            assertThat(timeouts.classHash()).isEqualTo(MAIN_HASH);
+        });
+        assertThat(history.getChronicTimeouts(1).size()).isEqualTo(2);
+        assertThat(history.getChronicTimeouts(4).isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldKeepStreakOfMutationsThatAreNotPartOfReport(@TempDir final Path directory) throws IOException {
+        MutationDetails loop = createMutation(MAIN, "loop", INCREMENTS);
+        MutationDetails other = createMutation(OTHER, "run", INCREMENTS);
+
+        TimeoutHistory history = createHistory(directory)
+                .update(writeReport(directory, 1, mutation(loop, "TIMED_OUT")), hashes)
+                .update(writeReport(directory, 2, mutation(other, "SURVIVED")), hashes);
+
+        assertThat(history.getStreak(loop)).isEqualTo(1);
+        assertThat(history.getStreak(other)).isZero();
+    }
+
+    @Test
+    void shouldExpireTimeoutsWhenClassFileChanges(@TempDir final Path directory) throws IOException {
+        MutationDetails loop = createMutation(MAIN, "loop", INCREMENTS);
+        MutationDetails other = createMutation(OTHER, "run", INCREMENTS);
+
+        TimeoutHistory history = createHistory(directory).update(writeReport(directory, 1,
+                mutation(loop, "TIMED_OUT"), mutation(other, "TIMED_OUT")), hashes);
+        classHashes.put(MAIN, 42L);
+        history = history.update(writeReport(directory, 2), hashes);
+
+        assertThat(history.getStreak(loop)).isZero();
+        assertThat(history.getStreak(other)).isEqualTo(1);
+
+        history = history.update(writeReport(directory, 3, mutation(loop, "TIMED_OUT")), hashes);
+        assertThat(history.getStreak(loop)).isEqualTo(1);
+        assertThat(history.getChronicTimeouts(1).find(MAIN)).hasValueSatisfying(
+                timeouts -> assertThat(timeouts.classHash()).isEqualTo(42L));
+
+        classHashes.remove(OTHER);
+        assertThat(history.update(writeReport(directory, 4), hashes).getStreak(other)).isZero();
+    }
+
+    @Test
+    void shouldNotCountTimeoutsOfChangedClassFile(@TempDir final Path directory) throws IOException {
+        MutationDetails loop = createMutation(MAIN, "loop", INCREMENTS);
+
+        TimeoutHistory history = new TimeoutHistory().update(writeReport(directory, 1, mutation(loop, "TIMED_OUT")),
+                hashes);
+        assertThat(history.getStreak(loop)).as("The class file of the first report is unknown").isZero();
+
+        classHashes.put(MAIN, 42L);
+        history = history.update(writeReport(directory, 2, mutation(loop, "TIMED_OUT")), hashes);
+        assertThat(history.getStreak(loop)).as("The report has been created with the old class file").isZero();
+
+        history = history.update(writeReport(directory, 3, mutation(loop, "TIMED_OUT")), hashes);
+        assertThat(history.getStreak(loop)).isOne();
+        assertThat(history.getChronicTimeouts(1).find(MAIN)).hasValueSatisfying(
+                timeouts -> assertThat(timeouts.classHash()).isEqualTo(42L));
+    }
+
+    @Test
+    void shouldWriteAndReadHistory(@TempDir final Path directory) throws IOException {
+        MutationDetails loop = createMutation(MAIN, "loop", INCREMENTS);
+        Path report = writeReport(directory, 1, mutation(loop, "TIMED_OUT"));
+        TimeoutHistory history = createHistory(directory).update(report, hashes);
+
+        Path file = directory.resolve("history/timeouts.csv");
+        history.write(file);
+        TimeoutHistory read = TimeoutHistory.read(file);
+
+        assertThat(read.size()).isOne();
+        assertThat(read.getStreak(loop)).isOne();
+        assertThat(read.getReportFingerprint()).isEqualTo(TimeoutHistory.getFingerprint(report));
+        assertThat(Files.readAllLines(file)).hasSize(4).first().asString().startsWith("#");
+        assertThat(Files.readAllLines(file)).contains("# class=com.example.Main,0000000000000001");
+
+        assertThat(read.update(writeReport(directory, 2, mutation(loop, "TIMED_OUT")), hashes).getStreak(loop))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturnEmptyHistoryIfFileDoesNotExist(@TempDir final Path directory) {
+        TimeoutHistory history = TimeoutHistory.read(directory.resolve("missing.csv"));
+
+        assertThat(history.size()).isZero();
+        assertThat(history.getReportFingerprint()).isEmpty();
+    }
+
+    @Test
+    void shouldThrowExceptionForInvalidHistory(@TempDir final Path directory) throws IOException {
+        Path file = directory.resolve("timeouts.csv");
+        Files.writeString(file, "com.example.Main,xyz,1,1\n");
+
+        assertThatIllegalStateException().isThrownBy(() -> TimeoutHistory.read(file))
+                .withMessage("Failed to read the timeout history " + file);
+    }
+
+    @Test
+    void shouldHashClassFiles() {
+        assertThat(TimeoutHistory.getClassHash(new byte[] {1, 2, 3}))
+                .isEqualTo(TimeoutHistory.getClassHash(new byte[] {1, 2, 3}))
+                .isNotEqualTo(TimeoutHistory.getClassHash(new byte[] {1, 2, 4}));
+    }
+
+    /**
+     * Creates a history that knows the class files of {@link #MAIN} and {@link #OTHER}, as if both classes had been
+     * mutated in the run that creates the next report.
+     */
+    private TimeoutHistory createHistory(final Path directory) throws IOException {
+        return new TimeoutHistory().update(writeReport(directory, 0,
+                mutation(createMutation(MAIN, "run", INCREMENTS), "KILLED"),
+                mutation(createMutation(OTHER, "run", INCREMENTS), "KILLED")), hashes);
+    }
+
+    static MutationDetails createMutation(final String className, final String method, final String mutator) {
+        return new MutationDetails(new MutationIdentifier(
+                Location.location(ClassName.fromString(className), method, "(I)I"), 3, mutator),
+                "Main.java", "desc", 5, 0);
+    }
+
+    static String mutation(final MutationDetails mutation, final String status) {
+        return "<mutation detected='" + !"SURVIVED".equals(status) + "' status='" + status
+                + "' numberOfTestsRun='1'><sourceFile>" + mutation.getFilename() + "</sourceFile><mutatedClass>"
+                + mutation.getClassName().asJavaName() + "</mutatedClass><mutatedMethod>" + mutation.getMethod()
+                + "</mutatedMethod><methodDescription>" + mutation.getId().getLocation().getMethodDesc()
+                + "</methodDescription><lineNumber>" + mutation.getLineNumber() + "</lineNumber><mutator>"
+                + mutation.getMutator() + "</mutator><indexes><index>" + mutation.getFirstIndex()
+                + "</index></indexes><description>desc</description></mutation>";
+    }
+
+    static Path writeReport(final Path directory, final int run, final String... mutations) throws IOException {
+        Path report = directory.resolve("mutations.xml");
+        Files.writeString(report, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<mutations>"
+                + String.join("\n", mutations) + "</mutations>\n");
+        Files.setLastModifiedTime(report, FileTime.fromMillis(run * 1000L));
+        return report;
+    }
+}
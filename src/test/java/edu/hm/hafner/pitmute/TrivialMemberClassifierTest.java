@@ -0,0 +1,193 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AnnotationNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TypeInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TrivialMemberClassifierTest {
+    private static final String OWNER = "com/example/Person";
+
+    @Test
+    void shouldRecognizeGetter() {
+        LabelNode label = new LabelNode();
+        MethodNode getter = createMethod("getName", "()Ljava/lang/String;", Opcodes.ACC_PUBLIC);
+        getter.instructions.add(label);
+        getter.instructions.add(new LineNumberNode(10, label));
+        getter.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        getter.instructions.add(new FieldInsnNode(Opcodes.GETFIELD, OWNER, "name", "Ljava/lang/String;"));
+        getter.instructions.add(new InsnNode(Opcodes.ARETURN));
+
+        assertThat(TrivialMemberClassifier.isTrivial(OWNER, getter)).isTrue();
+        assertThat(TrivialMemberClassifier.isTrivial("com/example/Other", getter)).isFalse();
+    }
+
+    @Test
+    void shouldRecognizeStaticGetter() {
+        MethodNode getter = createMethod("getCount", "()I", Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC);
+        getter.instructions.add(new FieldInsnNode(Opcodes.GETSTATIC, OWNER, "count", "I"));
+        getter.instructions.add(new InsnNode(Opcodes.IRETURN));
+
+        assertThat(TrivialMemberClassifier.isTrivial(OWNER, getter)).isTrue();
+    }
+
+    @Test
+    void shouldNotRecognizeStaticMethodThatReadsFieldOfParameter() {
+        MethodNode method = createMethod("x", "(Lcom/example/Person;)I", Opcodes.ACC_STATIC);
+        method.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        method.instructions.add(new FieldInsnNode(Opcodes.GETFIELD, OWNER, "x", "I"));
+        method.instructions.add(new InsnNode(Opcodes.IRETURN));
+
+        assertThat(TrivialMemberClassifier.isTrivial(OWNER, method)).isFalse();
+    }
+
+    @Test
+    void shouldNotRecognizeStaticMethodThatAssignsFieldOfParameter() {
+        MethodNode method = createMethod("link", "(Lcom/example/Person;Lcom/example/Person;)V", Opcodes.ACC_STATIC);
+        method.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        method.instructions.add(new VarInsnNode(Opcodes.ALOAD, 1));
+        method.instructions.add(new FieldInsnNode(Opcodes.PUTFIELD, OWNER, "next", "Lcom/example/Person;"));
+        method.instructions.add(new InsnNode(Opcodes.RETURN));
+
+        assertThat(TrivialMemberClassifier.isTrivial(OWNER, method)).isFalse();
+    }
+
+    @Test
+    void shouldNotRecognizeGetterWithComputation() {
+        MethodNode getter = createMethod("getAge", "()I", Opcodes.ACC_PUBLIC);
+        getter.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        getter.instructions.add(new FieldInsnNode(Opcodes.GETFIELD, OWNER, "age", "I"));
+        getter.instructions.add(new InsnNode(Opcodes.ICONST_1));
+        getter.instructions.add(new InsnNode(Opcodes.IADD));
+        getter.instructions.add(new InsnNode(Opcodes.IRETURN));
+
+        assertThat(TrivialMemberClassifier.isTrivial(OWNER, getter)).isFalse();
+    }
+
+    @Test
+    void shouldRecognizeSetters() {
+        MethodNode setter = createMethod("setAge", "(I)V", Opcodes.ACC_PUBLIC);
+        setter.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        setter.instructions.add(new VarInsnNode(Opcodes.ILOAD, 1));
+        setter.instructions.add(new FieldInsnNode(Opcodes.PUTFIELD, OWNER, "age", "I"));
+        setter.instructions.add(new InsnNode(Opcodes.RETURN));
+
+        MethodNode fluentSetter = createMethod("withAge", "(I)Lcom/example/Person;", Opcodes.ACC_PUBLIC);
+        fluentSetter.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        fluentSetter.instructions.add(new VarInsnNode(Opcodes.ILOAD, 1));
+        fluentSetter.instructions.add(new FieldInsnNode(Opcodes.PUTFIELD, OWNER, "age", "I"));
+        fluentSetter.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        fluentSetter.instructions.add(new InsnNode(Opcodes.ARETURN));
+
+        assertThat(TrivialMemberClassifier.isTrivial(OWNER, setter)).isTrue();
+        assertThat(TrivialMemberClassifier.isTrivial(OWNER, fluentSetter)).isTrue();
+    }
+
+    @Test
+    void shouldRecognizeRecordObjectMethods() {
+        Handle bootstrap = new Handle(Opcodes.H_INVOKESTATIC, "java/lang/runtime/ObjectMethods", "bootstrap",
+                "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/invoke/TypeDescriptor;"
+                        + "Ljava/lang/Class;Ljava/lang/String;[Ljava/lang/invoke/MethodHandle;)Ljava/lang/Object;", false);
+        MethodNode equals = createMethod("equals", "(Ljava/lang/Object;)Z", Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL);
+        equals.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        equals.instructions.add(new VarInsnNode(Opcodes.ALOAD, 1));
+        equals.instructions.add(new InvokeDynamicInsnNode("equals", "(Lcom/example/Person;Ljava/lang/Object;)Z", bootstrap));
+        equals.instructions.add(new InsnNode(Opcodes.IRETURN));
+
+        MethodNode hashCode = createMethod("hashCode", "()I", Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL);
+        hashCode.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        hashCode.instructions.add(new InvokeDynamicInsnNode("hashCode", "(Lcom/example/Person;)I", bootstrap));
+        hashCode.instructions.add(new InsnNode(Opcodes.IRETURN));
+
+        assertThat(TrivialMemberClassifier.isTrivial(OWNER, equals)).isTrue();
+        assertThat(TrivialMemberClassifier.isTrivial(OWNER, hashCode)).isTrue();
+    }
+
+    @Test
+    void shouldRecognizeLombokMethods() {
+        List<MethodNode> methods = createLombokShapedMethods();
+        methods.forEach(method -> method.invisibleAnnotations = List.of(new AnnotationNode("Llombok/Generated;")));
+
+        assertThat(methods).allSatisfy(method -> assertThat(TrivialMemberClassifier.isTrivial(OWNER, method)).isTrue());
+    }
+
+    @Test
+    void shouldNotRecognizeHandwrittenMethodsWithLombokShape() {
+        assertThat(createLombokShapedMethods())
+                .allSatisfy(method -> assertThat(TrivialMemberClassifier.isTrivial(OWNER, method)).isFalse());
+    }
+
+    private static List<MethodNode> createLombokShapedMethods() {
+        MethodNode canEqual = createMethod("canEqual", "(Ljava/lang/Object;)Z", Opcodes.ACC_PROTECTED);
+        canEqual.instructions.add(new VarInsnNode(Opcodes.ALOAD, 1));
+        canEqual.instructions.add(new TypeInsnNode(Opcodes.INSTANCEOF, OWNER));
+        canEqual.instructions.add(new InsnNode(Opcodes.IRETURN));
+
+        MethodNode equals = createMethod("equals", "(Ljava/lang/Object;)Z", Opcodes.ACC_PUBLIC);
+        equals.instructions.add(new VarInsnNode(Opcodes.ALOAD, 1));
+        equals.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        equals.instructions.add(new MethodInsnNode(Opcodes.INVOKEVIRTUAL, OWNER, "canEqual", "(Ljava/lang/Object;)Z"));
+        equals.instructions.add(new InsnNode(Opcodes.IRETURN));
+
+        MethodNode hashCode = createMethod("hashCode", "()I", Opcodes.ACC_PUBLIC);
+        hashCode.instructions.add(new IntInsnNode(Opcodes.BIPUSH, 59));
+        hashCode.instructions.add(new InsnNode(Opcodes.IRETURN));
+
+        MethodNode toString = createMethod("toString", "()Ljava/lang/String;", Opcodes.ACC_PUBLIC);
+        toString.instructions.add(new LdcInsnNode("Person(name=null)"));
+        toString.instructions.add(new InsnNode(Opcodes.ARETURN));
+
+        return List.of(canEqual, equals, hashCode, toString);
+    }
+
+    @Test
+    void shouldRecognizeLombokGeneratedAnnotation() {
+        MethodNode method = createMethod("compute", "()I", Opcodes.ACC_PUBLIC);
+        method.invisibleAnnotations = List.of(new AnnotationNode("Llombok/Generated;"));
+        method.instructions.add(new InsnNode(Opcodes.ICONST_1));
+        method.instructions.add(new InsnNode(Opcodes.IRETURN));
+
+        assertThat(TrivialMemberClassifier.isTrivial(OWNER, method)).isTrue();
+    }
+
+    @Test
+    void shouldNotRecognizeHandwrittenObjectMethods() {
+        MethodNode toString = createMethod("toString", "()Ljava/lang/String;", Opcodes.ACC_PUBLIC);
+        toString.instructions.add(new LdcInsnNode("A person"));
+        toString.instructions.add(new InsnNode(Opcodes.ARETURN));
+
+        MethodNode hashCode = createMethod("hashCode", "()I", Opcodes.ACC_PUBLIC);
+        hashCode.instructions.add(new IntInsnNode(Opcodes.BIPUSH, 31));
+        hashCode.instructions.add(new InsnNode(Opcodes.IRETURN));
+
+        assertThat(TrivialMemberClassifier.isTrivial(OWNER, toString)).isFalse();
+        assertThat(TrivialMemberClassifier.isTrivial(OWNER, hashCode)).isFalse();
+    }
+
+    @Test
+    void shouldIgnoreAbstractMethods() {
+        MethodNode method = createMethod("getName", "()Ljava/lang/String;", Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT);
+        method.invisibleAnnotations = List.of(new AnnotationNode("Llombok/Generated;"));
+
+        assertThat(TrivialMemberClassifier.isTrivial(OWNER, method)).isFalse();
+    }
+
+    private static MethodNode createMethod(final String name, final String desc, final int access) {
+        return new MethodNode(access, name, desc, null, null);
+    }
+}
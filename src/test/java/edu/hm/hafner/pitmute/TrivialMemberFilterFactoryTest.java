@@ -0,0 +1,34 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.plugin.Feature;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TrivialMemberFilterFactoryTest {
+    private final TrivialMemberFilterFactory factory = new TrivialMemberFilterFactory();
+
+    @Test
+    void shouldCreateTrivialMemberFilter() {
+        InterceptorParameters interceptorParameters = mock(InterceptorParameters.class);
+
+        assertThat(factory.createInterceptor(interceptorParameters)).isExactlyInstanceOf(TrivialMemberFilter.class);
+        verifyNoInteractions(interceptorParameters);
+    }
+
+    @Test
+    void shouldProvideCorrectFeature() {
+        Feature feature = factory.provides();
+
+        assertThat(feature.name()).isEqualToIgnoringCase("FTRIVIAL");
+        assertThat(feature.description()).contains("trivial");
+        assertThat(feature.isOnByDefault()).isFalse();
+    }
+
+    @Test
+    void descriptionShouldReturnDescription() {
+        assertThat(factory.description()).contains("trivial");
+    }
+}
@@ -0,0 +1,83 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.VarInsnNode;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TrivialMemberFilterTest {
+    private static final String OWNER = "com/example/Person";
+    private static final String CLASS_NAME = "com.example.Person";
+    private static final String RETURNS_MUTATOR_FQCN = "org.pitest.mutationtest.engine.gregor.mutators.returns.PrimitiveReturnsMutator";
+    private final Mutater mutater = mock(Mutater.class);
+    private final TrivialMemberFilter filter = new TrivialMemberFilter();
+
+    @Test
+    void shouldReturnCorrectType() {
+        assertThat(filter.type()).isEqualTo(InterceptorType.FILTER);
+    }
+
+    @Test
+    void shouldSuppressMutationsInTrivialMethods() {
+        filter.begin(new ClassTree(createClass()));
+
+        var getterMutation = createMutation(CLASS_NAME, "getAge", "()I");
+        var computationMutation = createMutation(CLASS_NAME, "getNextAge", "()I");
+        var otherClassMutation = createMutation("com.example.Other", "getAge", "()I");
+
+        assertThat(filter.intercept(List.of(getterMutation, computationMutation, otherClassMutation), mutater))
+                .containsExactly(computationMutation, otherClassMutation);
+        filter.end();
+    }
+
+    @Test
+    void shouldNotSuppressMutationsWithoutClass() {
+        var getterMutation = createMutation(CLASS_NAME, "getAge", "()I");
+
+        assertThat(filter.intercept(List.of(getterMutation), mutater)).containsExactly(getterMutation);
+    }
+
+    private static ClassNode createClass() {
+        ClassNode classNode = new ClassNode();
+        classNode.version = Opcodes.V17;
+        classNode.access = Opcodes.ACC_PUBLIC;
+        classNode.name = OWNER;
+        classNode.superName = "java/lang/Object";
+
+        MethodNode getter = new MethodNode(Opcodes.ACC_PUBLIC, "getAge", "()I", null, null);
+        getter.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        getter.instructions.add(new FieldInsnNode(Opcodes.GETFIELD, OWNER, "age", "I"));
+        getter.instructions.add(new InsnNode(Opcodes.IRETURN));
+        classNode.methods.add(getter);
+
+        MethodNode computation = new MethodNode(Opcodes.ACC_PUBLIC, "getNextAge", "()I", null, null);
+        computation.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        computation.instructions.add(new FieldInsnNode(Opcodes.GETFIELD, OWNER, "age", "I"));
+        computation.instructions.add(new InsnNode(Opcodes.ICONST_1));
+        computation.instructions.add(new InsnNode(Opcodes.IADD));
+        computation.instructions.add(new InsnNode(Opcodes.IRETURN));
+        classNode.methods.add(computation);
+        return classNode;
+    }
+
+    private static MutationDetails createMutation(final String className, final String method, final String desc) {
+        var id = new MutationIdentifier(Location.location(ClassName.fromString(className), method, desc), 1,
+                RETURNS_MUTATOR_FQCN);
+        return new MutationDetails(id, "Person.java", "desc", 10, 0);
+    }
+}
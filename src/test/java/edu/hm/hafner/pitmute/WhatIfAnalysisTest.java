@@ -0,0 +1,170 @@
+package edu.hm.hafner.pitmute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class WhatIfAnalysisTest {
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @Test
+    void shouldReportMutationsSuppressedByCsvEntries(@TempDir final Path directory) throws IOException {
+        Path report = copyReport(directory);
+        Path csv = directory.resolve("exclusions.csv");
+        Files.writeString(csv, "com.example.Main,Increments,,\nOther.java,,,\ncom.example.Unused,,,\n");
+
+        assertThat(run("--report", report.toString(), "--csv", csv.toString())).isZero();
+
+        assertThat(getOutput())
+                .contains("Mutations in report:     3")
+                .contains("Suppressed mutations:    2 (66.7%)")
+                .contains("Test runs saved:         6")
+                .contains("Estimated time saved:    4.1 s (10 ms per test run, 4000 ms per timeout)")
+                .contains("exclusions.csv:1: com.example.Main,Increments,,")
+                .contains("exclusions.csv:2: Other.java,,,")
+                .contains("       1  com.example.Main")
+                .contains("       1  com.example.Other")
+                .contains("       1  IncrementsMutator")
+                .contains("       1  PrimitiveReturnsMutator")
+                .doesNotContain("com.example.Unused");
+        assertThat(getErrors()).isEmpty();
+    }
+
+    @Test
+    void shouldReportMutationsSuppressedByAnnotations(@TempDir final Path directory) throws IOException {
+        Path report = copyReport(directory);
+        Path classes = directory.resolve("classes");
+        Files.createDirectories(classes.resolve("com/example"));
+        Files.write(classes.resolve("com/example/Main.class"), createAnnotatedClassFile("com/example/Main"));
+
+        assertThat(run("--report", report.toString(), "--classes", classes.toString(),
+                "--millis-per-test", "100", "--timeout-millis", "1000", "--top", "1")).isZero();
+
+        assertThat(getOutput())
+                .contains("Suppressed mutations:    2 (66.7%)")
+                .contains("Test runs saved:         4")
+                .contains("Estimated time saved:    1.4 s (100 ms per test run, 1000 ms per timeout)")
+                .contains("       2  @SuppressMutation on com.example.Main")
+                .contains("     ...  1 more");
+    }
+
+    @Test
+    void shouldPreferCsvEntriesOverAnnotations(@TempDir final Path directory) throws IOException {
+        Path report = copyReport(directory);
+        Path csv = directory.resolve("exclusions.csv");
+        Files.writeString(csv, "com.example.Main,Math,,\n");
+        Path classes = directory.resolve("classes");
+        Files.createDirectories(classes.resolve("com/example"));
+        Files.write(classes.resolve("com/example/Main.class"), createAnnotatedClassFile("com/example/Main"));
+
+        assertThat(run("--report", report.toString(), "--csv", csv.toString(), "--classes", classes.toString()))
+                .isZero();
+
+        assertThat(getOutput())
+                .contains("Suppressed mutations:    2 (66.7%)")
+                .contains("exclusions.csv:1: com.example.Main,Math,,")
+                .contains("       1  @SuppressMutation on com.example.Main");
+    }
+
+    @Test
+    void shouldMatchSecondaryTopLevelClassesBySourceFile(@TempDir final Path directory) throws IOException {
+        Path report = copyReport(directory);
+        Path csv = directory.resolve("exclusions.csv");
+        Files.writeString(csv, "Main.java,,,\n");
+        Path classes = directory.resolve("classes");
+        Files.createDirectories(classes.resolve("com/example"));
+        Files.write(classes.resolve("com/example/Other.class"), createClassFile("com/example/Other", "Main.java"));
+
+        assertThat(run("--report", report.toString(), "--csv", csv.toString(), "--classes", classes.toString()))
+                .isZero();
+
+        assertThat(getOutput())
+                .contains("Suppressed mutations:    3 (100.0%)")
+                .contains("exclusions.csv:1: Main.java,,,")
+                .contains("       1  com.example.Other");
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        assertThat(run("--csv", "exclusions.csv")).isEqualTo(2);
+        assertThat(getErrors()).contains("Missing option --report").contains("Usage: WhatIfAnalysis");
+
+        err.reset();
+        assertThat(run("--report", "mutations.xml")).isEqualTo(2);
+        assertThat(getErrors()).contains("At least one of the options --csv or --classes is required");
+
+        err.reset();
+        assertThat(run("--report", "mutations.xml", "--csv", "exclusions.csv", "--top", "-1")).isEqualTo(2);
+        assertThat(getErrors()).contains("Invalid value for option --top: -1");
+
+        err.reset();
+        assertThat(run("--report", "mutations.xml", "--unknown", "value")).isEqualTo(2);
+        assertThat(getErrors()).contains("Unknown option --unknown");
+
+        err.reset();
+        assertThat(run("--report")).isEqualTo(2);
+        assertThat(getErrors()).contains("Missing value for option --report");
+    }
+
+    @Test
+    void shouldReportMissingFiles(@TempDir final Path directory) throws IOException {
+        Path csv = directory.resolve("exclusions.csv");
+        Files.writeString(csv, "com.example.Main,,,\n");
+        Path report = directory.resolve("missing.xml");
+
+        assertThat(run("--report", report.toString(), "--csv", csv.toString())).isEqualTo(1);
+        assertThat(getErrors()).contains("Failed to read the PIT report " + report);
+        assertThat(getOutput()).isEmpty();
+    }
+
+    private int run(final String... args) {
+        return WhatIfAnalysis.run(args, new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    private String getOutput() {
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private String getErrors() {
+        return err.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Path copyReport(final Path directory) throws IOException {
+        Path report = directory.resolve("mutations.xml");
+        try (InputStream input = WhatIfAnalysisTest.class.getResourceAsStream("/report/mutations.xml")) {
+            Files.copy(input, report);
+        }
+        return report;
+    }
+
+    private static byte[] createClassFile(final String internalName, final String sourceFile) {
+        var writer = new ClassWriter(0);
+        writer.visit(Opcodes.V21, 0, internalName, null, "java/lang/Object", null);
+        writer.visitSource(sourceFile, null);
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static byte[] createAnnotatedClassFile(final String internalName) {
+        var writer = new ClassWriter(0);
+        writer.visit(Opcodes.V21, Opcodes.ACC_PUBLIC, internalName, null, "java/lang/Object", null);
+        AnnotationVisitor annotation = writer.visitAnnotation("Ledu/hm/hafner/pitmute/SuppressMutation;", false);
+        annotation.visitEnd();
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}